@@ -0,0 +1,61 @@
+package com.c203.autobiography.domain.ai.token;
+
+import com.c203.autobiography.domain.ai.dto.ChatMessage;
+import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 답변 저장마다 호출되는 토큰 계산 비용 측정 (기존 length/3 추정과 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenCounterBenchmark {
+
+    private static final String ANSWER = "어릴 적 우리 집은 바닷가 작은 마을에 있었어요. 아버지는 새벽마다 배를 타고 나가셨고, "
+            + "어머니는 시장에서 생선을 파셨죠. 저는 학교가 끝나면 항구에 가서 아버지 배가 들어오기를 기다렸습니다.";
+
+    private TokenCounter tokenCounter;
+    private String dialog;
+    private List<ChatMessage> messages;
+
+    @Setup
+    public void setUp() {
+        tokenCounter = new TokenCounterImpl(new OpenAiProperties());
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            sb.append("Q: 그때 가장 기억에 남는 일은 무엇인가요?\n").append("A: ").append(ANSWER).append('\n');
+        }
+        dialog = sb.toString();
+        messages = List.of(ChatMessage.system("당신은 자서전 작가입니다."), ChatMessage.user(dialog));
+    }
+
+    @Benchmark
+    public int countAnswer() {
+        return tokenCounter.count(ANSWER);
+    }
+
+    @Benchmark
+    public int countDialog() {
+        return tokenCounter.count(dialog);
+    }
+
+    @Benchmark
+    public int countMessages() {
+        return tokenCounter.countMessages(messages);
+    }
+
+    @Benchmark
+    public long legacyEstimate() {
+        return Math.max(1, ANSWER.length() / 3);
+    }
+}
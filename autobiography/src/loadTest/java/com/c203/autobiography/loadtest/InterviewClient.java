@@ -0,0 +1,279 @@
+package com.c203.autobiography.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 가상 인터뷰 사용자 한 명.
+ * 회원가입 → 로그인 → 책/에피소드 생성 → startConversation → SSE stream → (STT chunk 업로드 → next/skip) 반복 → 챕터 완료
+ * 순서로 실제 REST/SSE API만 사용해 인터뷰 한 챕터를 끝까지 진행합니다.
+ */
+final class InterviewClient {
+
+    private static final String PASSWORD = "loadtest123!";
+    private static final byte[] FAKE_AUDIO = new byte[16_000];
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final SimulationConfig config;
+    private final SimulationReport report;
+    private final String userKey;
+
+    private final BlockingQueue<SseEvent> events = new LinkedBlockingQueue<>();
+    private String token;
+    private CompletableFuture<?> stream;
+    private long streamOpenedAt;
+
+    InterviewClient(String baseUrl, HttpClient http, ObjectMapper objectMapper, SimulationConfig config,
+                    SimulationReport report, String userKey) {
+        this.baseUrl = baseUrl;
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.report = report;
+        this.userKey = userKey;
+    }
+
+    record SseEvent(String name, String data, long receivedAtNanos) {
+    }
+
+    /**
+     * 인터뷰 한 챕터를 끝까지 진행합니다. 챕터 완료 이벤트를 받으면 true.
+     */
+    boolean run() throws Exception {
+        signUpAndLogin();
+        long bookId = createBook();
+        long episodeId = post("/api/v1/books/" + bookId + "/episodes", null).path("data").path("episodeId").asLong();
+        String sessionId = post("/api/v1/conversation/" + bookId + "/episodes/" + episodeId + "/sessions", null)
+                .path("data").path("sessionId").asText();
+
+        openStream(bookId, sessionId);
+        try {
+            SseEvent question = awaitEvent("question", config.eventTimeout());
+            report.firstQuestion.record(millisSince(question.receivedAtNanos(), streamOpenedAt));
+
+            String nextPath = "/api/v1/conversation/" + bookId + "/episodes/" + episodeId;
+            for (int turn = 0; turn < config.maxTurnsPerSession(); turn++) {
+                uploadAnswer(sessionId);
+
+                boolean skip = ThreadLocalRandom.current().nextDouble() < config.skipRatio();
+                long sentAt = System.nanoTime();
+                HttpResponse<String> response = send(request(nextPath + (skip ? "/skip" : "/next")
+                        + "?sessionId=" + sessionId).POST(HttpRequest.BodyPublishers.noBody()));
+                if (skip && response.statusCode() >= 400) {
+                    // 마지막 질문은 건너뛸 수 없으므로 답변으로 진행
+                    sentAt = System.nanoTime();
+                    response = send(request(nextPath + "/next?sessionId=" + sessionId)
+                            .POST(HttpRequest.BodyPublishers.noBody()));
+                }
+                long respondedAt = System.nanoTime();
+                report.turns.increment();
+                if (response.statusCode() >= 400) {
+                    throw new IllegalStateException("턴 요청 실패: status=" + response.statusCode());
+                }
+
+                question = awaitEvent("question", config.eventTimeout());
+                report.turnLatency.record(millisSince(question.receivedAtNanos(), sentAt));
+                report.questionDeliveryLag.record(millisSince(question.receivedAtNanos(), respondedAt));
+
+                JsonNode payload = objectMapper.readTree(question.data());
+                if ("CHAPTER_COMPLETE".equals(payload.path("questionType").asText())) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            send(request("/api/v1/conversation/stream/" + sessionId).DELETE());
+            stream.cancel(true);
+        }
+    }
+
+    private void signUpAndLogin() throws Exception {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("email", userKey + "@loadtest.local");
+        form.put("password", PASSWORD);
+        form.put("name", "부하테스트");
+        form.put("nickname", userKey);
+        form.put("birthdate", "1960-01-01");
+        Multipart multipart = new Multipart(form);
+        expectOk(send(request("/api/v1/members/register")
+                .header("Content-Type", multipart.contentType())
+                .POST(multipart.publisher())), "회원가입");
+
+        String login = objectMapper.writeValueAsString(Map.of("email", userKey + "@loadtest.local", "password", PASSWORD));
+        HttpResponse<String> response = expectOk(send(request("/api/v1/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(login))), "로그인");
+        token = objectMapper.readTree(response.body()).path("data").path("accessToken").asText();
+    }
+
+    private long createBook() throws Exception {
+        Multipart multipart = new Multipart(Map.of("title", "부하테스트 " + userKey, "bookType", "AUTO"));
+        HttpResponse<String> response = expectOk(send(request("/api/v1/books")
+                .header("Content-Type", multipart.contentType())
+                .POST(multipart.publisher())), "책 생성");
+        return objectMapper.readTree(response.body()).path("data").path("bookId").asLong();
+    }
+
+    private void uploadAnswer(String sessionId) throws Exception {
+        for (int chunk = 0; chunk < config.chunksPerTurn(); chunk++) {
+            Thread.sleep(config.chunkIntervalMs());
+            Multipart multipart = new Multipart(Map.of("sessionId", sessionId, "chunkIndex", String.valueOf(chunk)))
+                    .file("audio", "chunk-" + chunk + ".webm", "audio/webm", FAKE_AUDIO);
+            long sentAt = System.nanoTime();
+            expectOk(send(request("/api/v1/stt/chunk")
+                    .header("Content-Type", multipart.contentType())
+                    .POST(multipart.publisher())), "STT chunk");
+            long respondedAt = System.nanoTime();
+            report.chunkLatency.record(millisSince(respondedAt, sentAt));
+
+            SseEvent partial = awaitEvent("partialTranscript", config.eventTimeout());
+            report.partialDeliveryLag.record(millisSince(partial.receivedAtNanos(), respondedAt));
+            report.chunks.increment();
+        }
+    }
+
+    private void openStream(long bookId, String sessionId) {
+        HttpRequest request = request("/api/v1/conversation/" + bookId + "/" + sessionId + "/stream")
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofHours(1))
+                .GET()
+                .build();
+        streamOpenedAt = System.nanoTime();
+        stream = http.sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(response -> parseEvents(response.body()));
+    }
+
+    // event:/data: 줄을 모아 빈 줄에서 이벤트 하나로 넘김 (도착 시각은 빈 줄을 읽은 시점)
+    private void parseEvents(Stream<String> lines) {
+        String[] name = {null};
+        StringBuilder data = new StringBuilder();
+        lines.forEach(line -> {
+            if (line.isEmpty()) {
+                if (name[0] != null || data.length() > 0) {
+                    events.add(new SseEvent(name[0] == null ? "message" : name[0], data.toString(), System.nanoTime()));
+                }
+                name[0] = null;
+                data.setLength(0);
+            } else if (line.startsWith("event:")) {
+                name[0] = line.substring(6).trim();
+            } else if (line.startsWith("data:")) {
+                if (data.length() > 0) {
+                    data.append('\n');
+                }
+                data.append(line.substring(5).stripLeading());
+            }
+        });
+    }
+
+    private SseEvent awaitEvent(String name, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            SseEvent event = remaining > 0 ? events.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (event == null) {
+                throw new IllegalStateException("SSE 이벤트 대기 시간 초과: " + name);
+            }
+            if ("error".equals(event.name())) {
+                throw new IllegalStateException("SSE error 이벤트: " + event.data());
+            }
+            if (name.equals(event.name())) {
+                return event;
+            }
+        }
+    }
+
+    private JsonNode post(String path, String json) throws Exception {
+        HttpRequest.Builder builder = request(path);
+        if (json == null) {
+            builder.POST(HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json));
+        }
+        return objectMapper.readTree(expectOk(send(builder), path).body());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(config.requestTimeout());
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return send(builder.build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private static HttpResponse<String> expectOk(HttpResponse<String> response, String step) {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(step + " 실패: status=" + response.statusCode() + ", body=" + response.body());
+        }
+        return response;
+    }
+
+    private static long millisSince(long laterNanos, long earlierNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(laterNanos - earlierNanos);
+    }
+
+    /**
+     * multipart/form-data 본문 (폼 필드 + 파일)
+     */
+    private static final class Multipart {
+        private final String boundary = "loadtest-" + UUID.randomUUID();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private Multipart(Map<String, String> fields) {
+            fields.forEach((name, value) -> write("--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value + "\r\n"));
+        }
+
+        private Multipart file(String name, String filename, String contentType, byte[] bytes) {
+            write("--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+                    + "Content-Type: " + contentType + "\r\n\r\n");
+            body.writeBytes(bytes);
+            write("\r\n");
+            return this;
+        }
+
+        private String contentType() {
+            return "multipart/form-data; boundary=" + boundary;
+        }
+
+        private HttpRequest.BodyPublisher publisher() {
+            byte[] closing = ("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream complete = new ByteArrayOutputStream();
+            complete.writeBytes(body.toByteArray());
+            complete.writeBytes(closing);
+            return HttpRequest.BodyPublishers.ofByteArray(complete.toByteArray());
+        }
+
+        private void write(String text) {
+            body.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
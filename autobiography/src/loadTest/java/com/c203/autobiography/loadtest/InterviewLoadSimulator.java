@@ -0,0 +1,161 @@
+package com.c203.autobiography.loadtest;
+
+import com.c203.autobiography.AutobiographyApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인터뷰 흐름 end-to-end 부하 시뮬레이터.
+ *
+ * 애플리케이션을 prod 프로파일로 같은 JVM에서 띄우고, 외부 서비스 URL은 모두 로컬 스탠드인(ProviderStandIns)으로 돌린 뒤
+ * 가상 사용자 N명이 실제 REST/SSE API로 인터뷰 한 챕터씩을 진행합니다.
+ * MySQL과 Redis는 compose.yaml의 컨테이너(localhost:3307, localhost:6379)를 그대로 사용합니다.
+ *
+ * 실행: ./gradlew loadTest -Dloadtest.sessions=50 -Dspring.datasource.password=...
+ */
+public final class InterviewLoadSimulator {
+
+    private InterviewLoadSimulator() {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class LoadTestConfig {
+
+        @Bean
+        static QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulationConfig config = SimulationConfig.fromSystemProperties();
+        System.out.println("[loadtest] " + config.describe());
+
+        int exitCode = 0;
+        try (ProviderStandIns standIns = new ProviderStandIns(config.chatLatency(), config.sttLatency(),
+                config.storageLatency(), config.livekitLatency(), config.streamChunkIntervalMs())) {
+            // builder.properties()는 application-prod.properties보다 우선순위가 낮으므로 시스템 프로퍼티로 올림
+            applicationProperties(standIns.baseUrl(), config).forEach((key, value) -> {
+                if (System.getProperty(key) == null) {
+                    System.setProperty(key, value);
+                }
+            });
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                    AutobiographyApplication.class, LoadTestConfig.class)
+                    .profiles("prod")
+                    .run(args)) {
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                SimulationReport report = run(config, "http://127.0.0.1:" + port, standIns);
+                if (report.failed.sum() > 0) {
+                    exitCode = 1;
+                }
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static SimulationReport run(SimulationConfig config, String baseUrl, ProviderStandIns standIns)
+            throws InterruptedException {
+        SimulationReport report = new SimulationReport();
+        ObjectMapper objectMapper = new ObjectMapper();
+        AtomicInteger threadNo = new AtomicInteger();
+        // 사용자당 요청 스레드 1개 + SSE 수신 스레드 1개
+        ExecutorService users = Executors.newFixedThreadPool(config.sessions(),
+                r -> new Thread(r, "vuser-" + threadNo.incrementAndGet()));
+        ExecutorService io = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "vuser-io");
+            t.setDaemon(true);
+            return t;
+        });
+        HttpClient http = HttpClient.newBuilder()
+                .executor(io)
+                .connectTimeout(Duration.ofSeconds(10))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        long rampStepMs = config.sessions() <= 1 ? 0 : config.rampUpSec() * 1000L / (config.sessions() - 1);
+        long queriesBefore = QueryCounter.executed();
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < config.sessions(); i++) {
+            String userKey = "lt" + runId + "u" + i;
+            long delayMs = rampStepMs * i;
+            users.execute(() -> {
+                try {
+                    Thread.sleep(delayMs);
+                    InterviewClient client = new InterviewClient(baseUrl, http, objectMapper, config, report, userKey);
+                    if (client.run()) {
+                        report.completed.increment();
+                    } else {
+                        report.failed.increment();
+                        System.err.println("[loadtest] " + userKey + ": 최대 턴 안에 챕터가 끝나지 않았습니다.");
+                    }
+                } catch (Exception e) {
+                    report.failed.increment();
+                    System.err.println("[loadtest] " + userKey + " 실패: " + e.getMessage());
+                }
+            });
+        }
+        users.shutdown();
+        users.awaitTermination(1, TimeUnit.HOURS);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long queries = QueryCounter.executed() - queriesBefore;
+        System.out.println(report.render(config.sessions(), elapsedMs, queries, standIns.callSummary()));
+        io.shutdownNow();
+        return report;
+    }
+
+    /**
+     * prod 프로파일 위에 덮어쓸 설정. 외부 서비스는 스탠드인으로, 인프라는 로컬 compose로 돌리고
+     * 같은 이름의 -D 시스템 프로퍼티가 있으면 그 값을 우선합니다.
+     */
+    private static Map<String, String> applicationProperties(String standInUrl, SimulationConfig config) {
+        Map<String, String> props = new HashMap<>();
+        props.put("server.port", "0");
+
+        props.put("openai.api-url", standInUrl + "/v1/chat/completions");
+        props.put("openai.transcription-url", standInUrl + "/v1/audio/transcriptions");
+        props.put("openai.api-key", "loadtest");
+        props.put("deepgram.api-url", standInUrl + "/v1/listen");
+        props.put("deepgram.api-key", "loadtest");
+        props.put("stt.provider", config.sttProvider());
+        props.put("livekit.serverUrl", standInUrl + "/livekit");
+        props.put("livekit.ws.url", standInUrl.replace("http", "ws") + "/livekit");
+        props.put("livekit.apiKey", "loadtest");
+        props.put("livekit.apiSecret", "loadtest-secret-loadtest-secret-loadtest");
+        props.put("aws.s3.endpoint", standInUrl + "/s3");
+        props.put("aws.s3.access-key", "loadtest");
+        props.put("aws.s3.secret-key", "loadtest");
+
+        props.put("spring.datasource.url", "jdbc:mysql://localhost:3307/autobiography_db?useUnicode=true"
+                + "&characterEncoding=UTF-8&serverTimezone=Asia/Seoul&useSSL=false&allowPublicKeyRetrieval=true"
+                + "&rewriteBatchedStatements=true&useCursorFetch=true");
+        props.put("spring.data.redis.host", "localhost");
+        props.put("spring.jpa.show-sql", "false");
+        props.put("logging.level.org.springframework.web", "INFO");
+
+        // 인터뷰 흐름에서 쓰지 않는 외부 연동의 필수 placeholder
+        props.put("jwt.secret", "loadtest-jwt-secret-loadtest-jwt-secret-loadtest-jwt-secret");
+        props.put("GOOGLE_CLIENT_ID", "loadtest");
+        props.put("GOOGLE_CLIENT_SECRET", "loadtest");
+        props.put("MAIL_USERNAME", "loadtest@loadtest.local");
+        props.put("MAIL_PASSWORD", "loadtest");
+        props.put("CLOVA_STT_API_KEY", "loadtest");
+        return props;
+    }
+}
@@ -0,0 +1,72 @@
+package com.c203.autobiography.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스탠드인 응답 지연 분포.
+ *
+ * - fixed:50            항상 50ms
+ * - uniform:20-200      20~200ms 균등
+ * - lognormal:800,3000  중앙값 800ms, p99 3000ms인 로그정규 (LLM 응답처럼 꼬리가 긴 지연)
+ */
+final class LatencyModel {
+
+    // 표준정규분포의 99 퍼센타일
+    private static final double Z_99 = 2.3263;
+
+    private final String spec;
+    private final String kind;
+    private final double a;
+    private final double b;
+
+    private LatencyModel(String spec, String kind, double a, double b) {
+        this.spec = spec;
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+    }
+
+    static LatencyModel parse(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        String kind = parts[0].toLowerCase();
+        String args = parts.length > 1 ? parts[1] : "0";
+        switch (kind) {
+            case "fixed":
+                return new LatencyModel(spec, kind, Double.parseDouble(args), 0);
+            case "uniform": {
+                String[] range = args.split("-");
+                return new LatencyModel(spec, kind, Double.parseDouble(range[0]), Double.parseDouble(range[1]));
+            }
+            case "lognormal": {
+                String[] mp = args.split(",");
+                double median = Double.parseDouble(mp[0]);
+                double p99 = Double.parseDouble(mp[1]);
+                return new LatencyModel(spec, kind, Math.log(median), Math.log(p99 / median) / Z_99);
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 지연 분포: " + spec);
+        }
+    }
+
+    long sampleMillis() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double millis = switch (kind) {
+            case "uniform" -> a + random.nextDouble() * (b - a);
+            case "lognormal" -> Math.exp(a + b * random.nextGaussian());
+            default -> a;
+        };
+        return Math.max(0, Math.round(millis));
+    }
+
+    void sleep() throws InterruptedException {
+        long millis = sampleMillis();
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,41 @@
+package com.c203.autobiography.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 지연 표본(ms) 수집 및 퍼센타일 계산. 여러 가상 사용자 스레드에서 동시에 기록합니다.
+ */
+final class LatencyStats {
+
+    private final String name;
+    private final List<Long> samples = new ArrayList<>();
+
+    LatencyStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long millis) {
+        samples.add(Math.max(0, millis));
+    }
+
+    synchronized int count() {
+        return samples.size();
+    }
+
+    synchronized long percentile(double p) {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.min(sorted.size() - 1, Math.max(0, index)));
+    }
+
+    String summary() {
+        return String.format("%-34s p50=%6dms  p99=%6dms  max=%6dms  (n=%d)",
+                name, percentile(50), percentile(99), percentile(100), count());
+    }
+}
@@ -0,0 +1,175 @@
+package com.c203.autobiography.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 서비스(OpenAI chat/transcription, Deepgram, S3, LiveKit) 대신 응답하는 로컬 HTTP 서버.
+ * 실제 API와 같은 응답 형태를 돌려주되, 지연은 서비스별 LatencyModel로 흉내 냅니다.
+ *
+ * - chat: response_format=json_object면 에피소드 JSON, 아니면 번호 붙은 후속 질문 3개.
+ *   stream=true면 SSE chunk로 나눠 보내고 마지막에 usage chunk와 [DONE]을 보냅니다. (지연은 첫 토큰까지)
+ * - S3/LiveKit: 인터뷰 흐름에서는 거의 호출되지 않지만, 호출되면 성공 응답만 돌려줍니다.
+ */
+final class ProviderStandIns implements AutoCloseable {
+
+    private static final String FOLLOW_UPS = "1. 그때 어떤 기분이 드셨나요?\n"
+            + "2. 그 자리에 함께 있던 사람은 누구였나요?\n"
+            + "3. 그 경험이 지금의 당신에게 어떤 의미로 남아 있나요?";
+    private static final String TRANSCRIPT = "어릴 적 바닷가 마을에서 아버지 배가 들어오기를 기다리던 기억이 납니다";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long streamChunkIntervalMs;
+
+    private final LongAdder chatCalls = new LongAdder();
+    private final LongAdder transcriptionCalls = new LongAdder();
+    private final LongAdder storageCalls = new LongAdder();
+    private final LongAdder livekitCalls = new LongAdder();
+
+    ProviderStandIns(LatencyModel chatLatency, LatencyModel sttLatency, LatencyModel storageLatency,
+                     LatencyModel livekitLatency, long streamChunkIntervalMs) throws IOException {
+        this.streamChunkIntervalMs = streamChunkIntervalMs;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "standin-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 512);
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", delayed(chatLatency, chatCalls, this::chat));
+        server.createContext("/v1/audio/transcriptions", delayed(sttLatency, transcriptionCalls,
+                exchange -> json(exchange, Map.of("text", TRANSCRIPT))));
+        server.createContext("/v1/listen", delayed(sttLatency, transcriptionCalls, this::deepgram));
+        server.createContext("/s3", delayed(storageLatency, storageCalls, this::storage));
+        server.createContext("/livekit", delayed(livekitLatency, livekitCalls, exchange -> json(exchange, Map.of())));
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    String callSummary() {
+        return String.format("chat=%d, stt=%d, s3=%d, livekit=%d",
+                chatCalls.sum(), transcriptionCalls.sum(), storageCalls.sum(), livekitCalls.sum());
+    }
+
+    private HttpHandler delayed(LatencyModel latency, LongAdder calls, HttpHandler handler) {
+        return exchange -> {
+            calls.increment();
+            try {
+                exchange.setAttribute("body", new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                latency.sleep();
+                handler.handle(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private void chat(HttpExchange exchange) throws IOException {
+        String request = (String) exchange.getAttribute("body");
+        String body = request != null ? request : "";
+        boolean episode = body.contains("json_object");
+        String content = episode ? episodeJson() : FOLLOW_UPS;
+        if (!body.replace(" ", "").contains("\"stream\":true")) {
+            json(exchange, Map.of(
+                    "id", "chatcmpl-loadtest",
+                    "object", "chat.completion",
+                    "choices", List.of(Map.of("index", 0, "message", Map.of("role", "assistant", "content", content),
+                            "finish_reason", "stop")),
+                    "usage", usage(content)));
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        // 실제 스트림처럼 몇 글자씩 나눠 보냄
+        for (int i = 0; i < content.length(); i += 8) {
+            String piece = content.substring(i, Math.min(content.length(), i + 8));
+            writeEvent(out, Map.of("choices", List.of(Map.of("index", 0, "delta", Map.of("content", piece)))));
+            pause(streamChunkIntervalMs);
+        }
+        writeEvent(out, Map.of("choices", List.of(), "usage", usage(content)));
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void deepgram(HttpExchange exchange) throws IOException {
+        json(exchange, Map.of("results", Map.of("channels", List.of(
+                Map.of("alternatives", List.of(Map.of("transcript", TRANSCRIPT, "confidence", 0.98)))))));
+    }
+
+    private void storage(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        if ("DELETE".equals(method)) {
+            exchange.sendResponseHeaders(204, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", "\"loadtest\"");
+        byte[] bytes = "GET".equals(method) ? new byte[]{0} : new byte[0];
+        exchange.sendResponseHeaders(200, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private String episodeJson() throws IOException {
+        return objectMapper.writeValueAsString(Map.of(
+                "title", "바닷가 마을의 기다림",
+                "content", TRANSCRIPT + ". 그 시절의 기다림은 지금도 마음 한편에 남아 있습니다."));
+    }
+
+    private static Map<String, Integer> usage(String content) {
+        int completion = Math.max(1, content.length() / 2);
+        return Map.of("prompt_tokens", 500, "completion_tokens", completion, "total_tokens", 500 + completion);
+    }
+
+    private void json(HttpExchange exchange, Object payload) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(payload);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void writeEvent(OutputStream out, Object payload) throws IOException {
+        out.write(("data: " + objectMapper.writeValueAsString(payload) + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
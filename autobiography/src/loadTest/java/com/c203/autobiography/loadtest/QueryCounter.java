@@ -0,0 +1,75 @@
+package com.c203.autobiography.loadtest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 애플리케이션 DataSource를 감싸 실행된 SQL 문 수를 셉니다. (JPA/JdbcTemplate/배치 구분 없이 execute* 호출 단위)
+ * executeBatch는 배치 전체를 한 번으로 셉니다. (DB 왕복 횟수 기준)
+ */
+final class QueryCounter implements BeanPostProcessor {
+
+    private static final LongAdder EXECUTED = new LongAdder();
+
+    static long executed() {
+        return EXECUTED.sum();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        private CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(method, target, args);
+            // createStatement/prepareStatement/prepareCall이 돌려준 Statement도 감싸서 실행 횟수를 셈
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrap((Class<Statement>) method.getReturnType(), statement);
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                EXECUTED.increment();
+            }
+            return result;
+        };
+        return (T) Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.c203.autobiography.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 시뮬레이션 설정. 모두 -Dloadtest.* 시스템 프로퍼티로 바꿀 수 있습니다.
+ */
+record SimulationConfig(
+        int sessions,
+        int rampUpSec,
+        int chunksPerTurn,
+        long chunkIntervalMs,
+        double skipRatio,
+        int maxTurnsPerSession,
+        Duration requestTimeout,
+        Duration eventTimeout,
+        String sttProvider,
+        LatencyModel chatLatency,
+        LatencyModel sttLatency,
+        LatencyModel storageLatency,
+        LatencyModel livekitLatency,
+        long streamChunkIntervalMs) {
+
+    static SimulationConfig fromSystemProperties() {
+        return new SimulationConfig(
+                intProp("sessions", 20),
+                intProp("ramp-up-sec", 10),
+                intProp("chunks-per-turn", 3),
+                longProp("chunk-interval-ms", 300),
+                Double.parseDouble(prop("skip-ratio", "0.1")),
+                intProp("max-turns", 80),
+                Duration.ofSeconds(longProp("request-timeout-sec", 120)),
+                Duration.ofSeconds(longProp("event-timeout-sec", 120)),
+                prop("stt-provider", "deepgram"),
+                LatencyModel.parse(prop("latency.openai", "lognormal:800,4000")),
+                LatencyModel.parse(prop("latency.stt", "lognormal:300,1200")),
+                LatencyModel.parse(prop("latency.s3", "uniform:20-80")),
+                LatencyModel.parse(prop("latency.livekit", "uniform:5-30")),
+                longProp("openai.stream-chunk-interval-ms", 15));
+    }
+
+    String describe() {
+        return String.format("sessions=%d, rampUp=%ds, chunks/turn=%d, chunkInterval=%dms, skipRatio=%.2f, stt=%s%n"
+                        + "latency: openai=%s (chunk %dms), stt=%s, s3=%s, livekit=%s",
+                sessions, rampUpSec, chunksPerTurn, chunkIntervalMs, skipRatio, sttProvider,
+                chatLatency, streamChunkIntervalMs, sttLatency, storageLatency, livekitLatency);
+    }
+
+    private static String prop(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intProp(String name, int defaultValue) {
+        return Integer.parseInt(prop(name, String.valueOf(defaultValue)));
+    }
+
+    private static long longProp(String name, long defaultValue) {
+        return Long.parseLong(prop(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.c203.autobiography.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 사용자들이 함께 기록하는 결과 집계.
+ *
+ * - 턴 지연: next/skip 요청 전송 → 다음 question SSE 이벤트 도착
+ * - SSE 전달 지연: 서버는 이벤트를 보낸 뒤 HTTP 응답을 돌려주므로, HTTP 응답 수신 → 같은 이벤트 도착까지의 추가 지연
+ * - 턴당 DB 쿼리: 실행 구간 동안 실행된 SQL 문 수 / 턴 수 (STT chunk 저장, 백그라운드 요약/에피소드 작업 포함)
+ */
+final class SimulationReport {
+
+    final LatencyStats turnLatency = new LatencyStats("턴 지연 (next/skip → question)");
+    final LatencyStats firstQuestion = new LatencyStats("첫 질문 (stream 연결 → question)");
+    final LatencyStats chunkLatency = new LatencyStats("STT chunk 응답");
+    final LatencyStats questionDeliveryLag = new LatencyStats("SSE 전달 지연 (question)");
+    final LatencyStats partialDeliveryLag = new LatencyStats("SSE 전달 지연 (partialTranscript)");
+
+    final LongAdder turns = new LongAdder();
+    final LongAdder chunks = new LongAdder();
+    final LongAdder completed = new LongAdder();
+    final LongAdder failed = new LongAdder();
+
+    String render(int sessions, long elapsedMs, long queries, String standInCalls) {
+        long turnCount = turns.sum();
+        StringBuilder out = new StringBuilder();
+        out.append("\n=== 인터뷰 부하 시뮬레이션 결과 ===\n");
+        out.append(String.format("세션 %d개: 챕터 완료 %d, 실패 %d, 소요 %.1fs%n",
+                sessions, completed.sum(), failed.sum(), elapsedMs / 1000.0));
+        out.append(String.format("턴 %d회, STT chunk %d건, 처리량 %.2f 턴/s%n",
+                turnCount, chunks.sum(), elapsedMs == 0 ? 0 : turnCount * 1000.0 / elapsedMs));
+        out.append(turnLatency.summary()).append('\n');
+        out.append(firstQuestion.summary()).append('\n');
+        out.append(chunkLatency.summary()).append('\n');
+        out.append(questionDeliveryLag.summary()).append('\n');
+        out.append(partialDeliveryLag.summary()).append('\n');
+        out.append(String.format("DB 쿼리: 전체 %d, 턴당 %.1f%n", queries, turnCount == 0 ? 0 : (double) queries / turnCount));
+        out.append("스탠드인 호출: ").append(standInCalls).append('\n');
+        return out.toString();
+    }
+}
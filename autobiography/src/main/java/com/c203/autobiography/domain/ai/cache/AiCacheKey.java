@@ -0,0 +1,54 @@
+package com.c203.autobiography.domain.ai.cache;
+
+import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
+import com.c203.autobiography.domain.ai.dto.ChatMessage;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 요청 내용(model, messages, temperature, maxTokens, responseFormat) 기반 SHA-256 캐시 키.
+ * 같은 입력이면 어느 서버에서 만들어도 같은 키가 나옵니다.
+ */
+public final class AiCacheKey {
+
+    private AiCacheKey() {
+    }
+
+    public static String of(ChatCompletionRequest request) {
+        MessageDigest digest = sha256();
+        feed(digest, request.getModel());
+        feed(digest, String.valueOf(request.getTemperature()));
+        feed(digest, String.valueOf(request.getMaxTokens()));
+        feed(digest, request.getResponseFormat() != null ? request.getResponseFormat().getType() : null);
+        if (request.getMessages() != null) {
+            for (ChatMessage message : request.getMessages()) {
+                feed(digest, message.getRole());
+                feed(digest, message.getContent());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 길이를 앞에 붙여서 필드 경계가 모호해지지 않도록 함
+    private static void feed(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
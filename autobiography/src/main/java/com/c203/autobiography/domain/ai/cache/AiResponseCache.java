@@ -0,0 +1,147 @@
+package com.c203.autobiography.domain.ai.cache;
+
+import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
+import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI 응답 2단 캐시: 로컬 Caffeine(W-TinyLFU) → Redis(공유, TTL) → OpenAI 호출.
+ * 캐시 여부는 client 이름별로 openai.cache.clients 에서 켜고 끕니다.
+ * Redis 장애 시에는 캐시 미스로 처리하고 그대로 OpenAI를 호출합니다.
+ */
+@Slf4j
+@Component
+public class AiResponseCache {
+
+    private static final String KEY_PREFIX = "ai:resp:";
+    private static final String METRIC_NAME = "ai.response.cache";
+
+    private final OpenAiProperties.Cache config;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, String> local;
+
+    public AiResponseCache(OpenAiProperties props,
+                           RedisTemplate<String, Object> redisTemplate,
+                           MeterRegistry meterRegistry) {
+        this.config = props.getCache();
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(config.getLocalTtlMin()))
+                .build();
+    }
+
+    public boolean isEnabledFor(String client) {
+        return config.isEnabled() && client != null
+                && Boolean.TRUE.equals(config.getClients().get(client));
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader로 생성 후 두 계층에 저장
+     */
+    public String getOrLoad(String client, ChatCompletionRequest request, Supplier<String> loader) {
+        String key = AiCacheKey.of(request);
+        String cached = lookup(client, key);
+        if (cached != null) {
+            return cached;
+        }
+        String value = loader.get();
+        store(key, value);
+        return value;
+    }
+
+    /**
+     * 비동기 버전: 캐시 미스일 때만 loader를 구독하고, Redis 저장은 별도 스케줄러에서 수행
+     */
+    public Mono<String> getOrLoadAsync(String client, ChatCompletionRequest request, Mono<String> loader) {
+        String key = AiCacheKey.of(request);
+        return Mono.fromCallable(() -> lookup(client, key))
+                .switchIfEmpty(loader.doOnNext(value -> storeAsync(key, value)));
+    }
+
+    /**
+     * 캐시 조회만 수행 (스트리밍 경로에서 사용)
+     */
+    public String get(String client, ChatCompletionRequest request) {
+        return lookup(client, AiCacheKey.of(request));
+    }
+
+    public void put(ChatCompletionRequest request, String value) {
+        store(AiCacheKey.of(request), value);
+    }
+
+    public void putAsync(ChatCompletionRequest request, String value) {
+        storeAsync(AiCacheKey.of(request), value);
+    }
+
+    private String lookup(String client, String key) {
+        String value = local.getIfPresent(key);
+        if (value != null) {
+            record(client, "local_hit");
+            return value;
+        }
+
+        if (config.isRedisEnabled()) {
+            try {
+                Object remote = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+                if (remote != null) {
+                    value = remote.toString();
+                    local.put(key, value);
+                    record(client, "redis_hit");
+                    return value;
+                }
+            } catch (Exception e) {
+                log.debug("AI 응답 캐시 Redis 조회 실패: {}", e.getMessage());
+            }
+        }
+
+        record(client, "miss");
+        return null;
+    }
+
+    private void store(String key, String value) {
+        // 빈 응답은 저장하지 않음 (재시도 시 다시 생성되도록)
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        local.put(key, value);
+        storeRemote(key, value);
+    }
+
+    // WebClient 이벤트 루프에서 Redis 블로킹 호출을 하지 않도록 분리
+    private void storeAsync(String key, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        local.put(key, value);
+        if (config.isRedisEnabled()) {
+            Schedulers.boundedElastic().schedule(() -> storeRemote(key, value));
+        }
+    }
+
+    private void storeRemote(String key, String value) {
+        if (config.isRedisEnabled()) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + key, value,
+                        Duration.ofHours(config.getRedisTtlHours()));
+            } catch (Exception e) {
+                log.debug("AI 응답 캐시 Redis 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void record(String client, String result) {
+        meterRegistry.counter(METRIC_NAME, "client", client, "result", result).increment();
+    }
+}
@@ -1,5 +1,9 @@
 package com.c203.autobiography.domain.ai.client;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AnswerAnalysisAIClient {
     String analyzeAnsweredQuestions(String userAnswer, String remainingQuestions);
+
+    CompletableFuture<String> analyzeAnsweredQuestionsAsync(String userAnswer, String remainingQuestions);
 }
@@ -3,44 +3,52 @@ package com.c203.autobiography.domain.ai.client;
 
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.dto.ChatMessage;
-import com.c203.autobiography.domain.ai.loader.PromptLoader;
+import com.c203.autobiography.domain.ai.loader.PromptRegistry;
+import com.c203.autobiography.domain.ai.loader.PromptSnapshot;
 import com.c203.autobiography.domain.ai.prompt.AnalysisPrompts;
 import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
 import com.c203.autobiography.domain.ai.service.OpenAiService;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AnswerAnalysisAIClientImpl extends BaseAIClient implements AnswerAnalysisAIClient {
 
-    private final PromptLoader promptLoader;
+    private final PromptRegistry promptRegistry;
 
     protected AnswerAnalysisAIClientImpl(OpenAiService openAiService,
-                                         OpenAiProperties props, PromptLoader promptLoader) {
+                                         OpenAiProperties props, PromptRegistry promptRegistry) {
         super(openAiService, props);
-        this.promptLoader = promptLoader;
+        this.promptRegistry = promptRegistry;
     }
 
     @Override
     public String analyzeAnsweredQuestions(String userAnswer, String remainingQuestions) {
+        return call(buildRequest(userAnswer, remainingQuestions));
+    }
 
-        AnalysisPrompts prompt = promptLoader.load("analysis.yml", AnalysisPrompts.class);
+    @Override
+    public CompletableFuture<String> analyzeAnsweredQuestionsAsync(String userAnswer, String remainingQuestions) {
+        return callAsync(buildRequest(userAnswer, remainingQuestions));
+    }
+
+    private ChatCompletionRequest buildRequest(String userAnswer, String remainingQuestions) {
+        PromptSnapshot snapshot = promptRegistry.current();
+        AnalysisPrompts prompt = snapshot.getAnalysis();
 
 
         ChatMessage system = ChatMessage.system(prompt.getSystem());
         ChatMessage user = ChatMessage.user(
-                String.format(prompt.getTemplate(), userAnswer, remainingQuestions)
+                snapshot.getAnalysisTemplate().format(userAnswer, remainingQuestions)
         );
 
 
-        ChatCompletionRequest request =
-                ChatCompletionRequest.builder()
-                        .model(props.getModel())
-                        .messages(List.of(system, user))
-                        .maxTokens(prompt.getMaxTokens())
-                        .temperature(prompt.getTemperature())
-                        .build();
-
-        return call(request);
+        return ChatCompletionRequest.builder()
+                .model(props.getModel())
+                .messages(List.of(system, user))
+                .maxTokens(prompt.getMaxTokens())
+                .temperature(prompt.getTemperature())
+                .build();
     }
 }
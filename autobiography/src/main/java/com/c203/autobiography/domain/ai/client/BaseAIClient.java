@@ -1,22 +1,132 @@
 package com.c203.autobiography.domain.ai.client;
 
+import com.c203.autobiography.domain.ai.cache.AiResponseCache;
+import com.c203.autobiography.domain.ai.dispatch.AiPriority;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
 import com.c203.autobiography.domain.ai.service.OpenAiService;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import reactor.core.publisher.Mono;
 
 public abstract class BaseAIClient {
     protected final OpenAiService openAiService;
     protected final OpenAiProperties props;
+    private final AiResponseCache responseCache;
 
     protected BaseAIClient(OpenAiService openAiService, OpenAiProperties props) {
+        this(openAiService, props, null);
+    }
+
+    protected BaseAIClient(OpenAiService openAiService, OpenAiProperties props, AiResponseCache responseCache) {
         this.openAiService = openAiService;
         this.props = props;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * 응답 캐시에서 사용할 client 이름 (openai.cache.clients 키). null이면 캐시 사용 안 함
+     */
+    protected String cacheName() {
+        return null;
+    }
+
+    /**
+     * 호출 우선순위 레인. 사용자가 기다리지 않는 호출은 EDIT/BACKGROUND로 낮춥니다.
+     */
+    protected AiPriority priority() {
+        return AiPriority.INTERACTIVE;
     }
 
     protected String call(ChatCompletionRequest request) {
-        return openAiService.createChatCompletion(request)
+        if (!isCacheable()) {
+            return callRemote(request);
+        }
+        return responseCache.getOrLoad(cacheName(), request, () -> callRemote(request));
+    }
+
+    /**
+     * 스트리밍 호출: 생성되는 delta를 onDelta로 바로 넘기고, 완료되면 전체 텍스트를 반환합니다.
+     * onDelta가 없거나 스트리밍이 꺼져 있으면 기존 call()과 동일하게 동작합니다.
+     * 캐시에 있으면 전체 텍스트를 delta 한 번으로 넘깁니다.
+     */
+    protected String callStreaming(ChatCompletionRequest request, Consumer<String> onDelta) {
+        if (onDelta == null || !props.isStreamEnabled()) {
+            return call(request);
+        }
+        boolean cacheable = isCacheable();
+        if (cacheable) {
+            String cached = responseCache.get(cacheName(), request);
+            if (cached != null) {
+                onDelta.accept(cached);
+                return cached;
+            }
+        }
+        String full = openAiService.streamChatCompletion(request, priority())
+                .doOnNext(onDelta)
+                .collect(Collectors.joining())
+                .block(); // 슬롯 대기는 maxQueueWaitMs, 호출은 requestTimeoutSec로 각각 끊기므로 무한정 막히지 않음
+        String result = full == null ? "" : full.trim();
+        if (cacheable) {
+            responseCache.put(request, result);
+        }
+        return result;
+    }
+
+    /**
+     * 비동기 호출: 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+     * 완료 콜백은 WebClient 이벤트 루프에서 실행되므로, 후속 블로킹 작업은 별도 executor로 넘겨야 합니다.
+     */
+    protected CompletableFuture<String> callAsync(ChatCompletionRequest request) {
+        Mono<String> remote = Mono.defer(() -> callRemoteAsync(request));
+        if (!isCacheable()) {
+            return remote.toFuture();
+        }
+        return responseCache.getOrLoadAsync(cacheName(), request, remote).toFuture();
+    }
+
+    /**
+     * 비동기 스트리밍 호출: callStreaming과 같지만 전체 텍스트를 CompletableFuture로 돌려줍니다.
+     */
+    protected CompletableFuture<String> callStreamingAsync(ChatCompletionRequest request, Consumer<String> onDelta) {
+        if (onDelta == null || !props.isStreamEnabled()) {
+            return callAsync(request);
+        }
+        boolean cacheable = isCacheable();
+        Mono<String> streamed = Mono.defer(() -> openAiService.streamChatCompletion(request, priority())
+                .doOnNext(onDelta)
+                .collect(Collectors.joining())
+                .map(String::trim)
+                .doOnNext(result -> {
+                    if (cacheable) {
+                        responseCache.putAsync(request, result);
+                    }
+                }));
+        if (!cacheable) {
+            return streamed.toFuture();
+        }
+        return Mono.fromCallable(() -> responseCache.get(cacheName(), request))
+                .doOnNext(onDelta)
+                .switchIfEmpty(streamed)
+                .toFuture();
+    }
+
+    private Mono<String> callRemoteAsync(ChatCompletionRequest request) {
+        return openAiService.createChatCompletionAsync(request, priority())
+                .map(response -> response.getChoices().get(0)
+                        .getMessage().getContent()
+                        .trim());
+    }
+
+    private String callRemote(ChatCompletionRequest request) {
+        return openAiService.createChatCompletion(request, priority())
                 .getChoices().get(0)
                 .getMessage().getContent()
                 .trim();
     }
+
+    private boolean isCacheable() {
+        return responseCache != null && responseCache.isEnabledFor(cacheName());
+    }
 }
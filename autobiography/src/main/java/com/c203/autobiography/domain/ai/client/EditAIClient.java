@@ -1,5 +1,9 @@
 package com.c203.autobiography.domain.ai.client;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface EditAIClient {
      String editText(String rawText, String tone, String priorContext);
+
+     CompletableFuture<String> editTextAsync(String rawText, String tone, String priorContext);
 }
@@ -1,11 +1,16 @@
 package com.c203.autobiography.domain.ai.client;
 
+import com.c203.autobiography.domain.ai.cache.AiResponseCache;
+import com.c203.autobiography.domain.ai.dispatch.AiPriority;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.dto.ChatMessage;
-import com.c203.autobiography.domain.ai.loader.PromptLoader;
+import com.c203.autobiography.domain.ai.loader.PromptRegistry;
+import com.c203.autobiography.domain.ai.loader.PromptSnapshot;
 import com.c203.autobiography.domain.ai.prompt.EditPrompts;
+import com.c203.autobiography.domain.ai.prompt.PromptTemplate;
 import com.c203.autobiography.domain.ai.service.OpenAiService;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -13,26 +18,45 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class EditAIClientImpl extends BaseAIClient implements EditAIClient {
 
-    private final PromptLoader promptLoader;
+    private final PromptRegistry promptRegistry;
     public EditAIClientImpl(OpenAiService openAiService,
                             com.c203.autobiography.domain.ai.properties.OpenAiProperties props,
-                            PromptLoader promptLoader) {
-        super(openAiService, props);
-        this.promptLoader = promptLoader;
+                            PromptRegistry promptRegistry, AiResponseCache responseCache) {
+        super(openAiService, props, responseCache);
+        this.promptRegistry = promptRegistry;
+    }
+
+    @Override
+    protected String cacheName() {
+        return "edit";
+    }
+
+    @Override
+    protected AiPriority priority() {
+        return AiPriority.EDIT;
     }
 
     @Override
     public String editText(String rawText, String tone, String priorContext) {
+        return call(buildRequest(rawText, tone, priorContext));
+    }
 
-        // YAML 로드
-        EditPrompts prompt = promptLoader.load("edit.yml", EditPrompts.class);
+    @Override
+    public CompletableFuture<String> editTextAsync(String rawText, String tone, String priorContext) {
+        return callAsync(buildRequest(rawText, tone, priorContext));
+    }
+
+    private ChatCompletionRequest buildRequest(String rawText, String tone, String priorContext) {
+        // 미리 로드된 프롬프트 스냅샷
+        PromptSnapshot snapshot = promptRegistry.current();
+        EditPrompts prompt = snapshot.getEdit();
 
         // tone 템플릿 가져오기
-        String toneTemplate = prompt.getTones().get(tone);
+        PromptTemplate toneTemplate = snapshot.getEditTones().get(tone);
 
         if (toneTemplate == null) {
             log.warn("Unknown edit tone key: {}, fallback to plain", tone);
-            toneTemplate = prompt.getTones().get("plain");
+            toneTemplate = snapshot.getEditTones().get("plain");
         }
 
         // priorContext 적용
@@ -41,19 +65,16 @@ public class EditAIClientImpl extends BaseAIClient implements EditAIClient {
                 : rawText;
 
         // 사용자 메시지 생성
-        String userPrompt = String.format(toneTemplate, finalText);
+        String userPrompt = toneTemplate.format(finalText);
 
         ChatMessage system = ChatMessage.system(prompt.getSystem());
         ChatMessage user = ChatMessage.user(userPrompt);
 
-        ChatCompletionRequest request =
-                ChatCompletionRequest.builder()
-                        .model(props.getModel())
-                        .messages(List.of(system, user))
-                        .maxTokens(prompt.getMaxTokens())
-                        .temperature(prompt.getTemperature())
-                        .build();
-
-        return call(request);
+        return ChatCompletionRequest.builder()
+                .model(props.getModel())
+                .messages(List.of(system, user))
+                .maxTokens(prompt.getMaxTokens())
+                .temperature(prompt.getTemperature())
+                .build();
     }
 }
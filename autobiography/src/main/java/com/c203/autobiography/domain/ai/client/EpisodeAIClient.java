@@ -1,5 +1,24 @@
 package com.c203.autobiography.domain.ai.client;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 public interface EpisodeAIClient {
     String generateEpisode(String chapterId, String dialog, boolean jsonMode);
+
+    /**
+     * 스트리밍 버전: 생성 중인 텍스트 조각을 onDelta로 전달하고, 완성된 전체 텍스트를 반환합니다.
+     */
+    String generateEpisode(String chapterId, String dialog, boolean jsonMode, Consumer<String> onDelta);
+
+    /**
+     * 비동기 버전: 호출 스레드를 막지 않고 완성된 전체 텍스트를 CompletableFuture로 반환합니다.
+     */
+    CompletableFuture<String> generateEpisodeAsync(String chapterId, String dialog, boolean jsonMode,
+                                                   Consumer<String> onDelta);
+
+    /**
+     * 누적 요약 갱신: 이전 요약(없으면 빈 문자열)에 새 대화를 합친 요약을 반환합니다.
+     */
+    CompletableFuture<String> summarizeAsync(String previousSummary, String newDialog);
 }
@@ -1,12 +1,18 @@
 package com.c203.autobiography.domain.ai.client;
 
+import com.c203.autobiography.domain.ai.dispatch.AiPriority;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.dto.ChatMessage;
-import com.c203.autobiography.domain.ai.loader.PromptLoader;
+import com.c203.autobiography.domain.ai.loader.PromptRegistry;
+import com.c203.autobiography.domain.ai.loader.PromptSnapshot;
+import com.c203.autobiography.domain.ai.prompt.CompiledPrompt;
 import com.c203.autobiography.domain.ai.prompt.EpisodePrompts;
 import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
 import com.c203.autobiography.domain.ai.service.OpenAiService;
+import com.c203.autobiography.domain.ai.token.TokenCounter;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -14,20 +20,65 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class EpisodeAIClientImpl extends BaseAIClient implements EpisodeAIClient {
 
-    private final PromptLoader promptLoader;
+    private final PromptRegistry promptRegistry;
+    private final TokenCounter tokenCounter;
 
     protected EpisodeAIClientImpl(OpenAiService openAiService,
-                                  OpenAiProperties props, PromptLoader promptLoader) {
+                                  OpenAiProperties props, PromptRegistry promptRegistry, TokenCounter tokenCounter) {
         super(openAiService, props);
-        this.promptLoader = promptLoader;
+        this.promptRegistry = promptRegistry;
+        this.tokenCounter = tokenCounter;
+    }
+
+    @Override
+    protected AiPriority priority() {
+        return AiPriority.BACKGROUND;
     }
 
     @Override
     public String generateEpisode(String chapterId, String dialog, boolean jsonMode) {
+        return generateEpisode(chapterId, dialog, jsonMode, null);
+    }
+
+    @Override
+    public String generateEpisode(String chapterId, String dialog, boolean jsonMode, Consumer<String> onDelta) {
+        return callStreaming(buildRequest(chapterId, dialog, jsonMode), onDelta);
+    }
+
+    @Override
+    public CompletableFuture<String> generateEpisodeAsync(String chapterId, String dialog, boolean jsonMode,
+                                                          Consumer<String> onDelta) {
+        return callStreamingAsync(buildRequest(chapterId, dialog, jsonMode), onDelta);
+    }
 
-        EpisodePrompts prompt = promptLoader.load("episode.yml", EpisodePrompts.class);
-        EpisodePrompts.PromptEntry entry = prompt.getPrompts()
-                .getOrDefault(chapterId, prompt.getPrompts().get("chapter1"));
+    @Override
+    public CompletableFuture<String> summarizeAsync(String previousSummary, String newDialog) {
+        PromptSnapshot snapshot = promptRegistry.current();
+        CompiledPrompt entry = snapshot.getEpisodeSummary();
+        if (entry == null) {
+            throw new IllegalStateException("No episode summary prompt in episode.yml");
+        }
+        EpisodePrompts.SummaryPrompt prompt = snapshot.getEpisode().getSummary();
+
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model(props.getModel())
+                .messages(List.of(
+                        ChatMessage.system(entry.getSystem()),
+                        ChatMessage.user(entry.getUserTemplate().format(
+                                previousSummary == null || previousSummary.isBlank() ? "(없음)" : previousSummary,
+                                newDialog))
+                ))
+                .maxTokens(prompt.getMaxTokens())
+                .temperature(prompt.getTemperature())
+                .build();
+        return callAsync(request);
+    }
+
+    private ChatCompletionRequest buildRequest(String chapterId, String dialog, boolean jsonMode) {
+        PromptSnapshot snapshot = promptRegistry.current();
+        EpisodePrompts prompt = snapshot.getEpisode();
+        CompiledPrompt entry = snapshot.getEpisodeByChapter()
+                .getOrDefault(chapterId, snapshot.getEpisodeByChapter().get("chapter1"));
 
         if (entry == null) {
             throw new IllegalStateException("No episode prompt for chapterId: " + chapterId);
@@ -35,9 +86,17 @@ public class EpisodeAIClientImpl extends BaseAIClient implements EpisodeAIClient
 
         ChatMessage system = ChatMessage.system(entry.getSystem());
         ChatMessage user = ChatMessage.user(
-                String.format(entry.getUserTemplate(), dialog)
+                entry.getUserTemplate().format(dialog)
         );
 
+        // 사전 토큰 계산: 컨텍스트 한도를 넘으면 오래된 대화(앞부분)부터 잘라냄
+        int overflow = tokenCounter.overflow(List.of(system, user), prompt.getMaxTokens());
+        if (overflow > 0) {
+            log.warn("에피소드 프롬프트가 컨텍스트 한도를 {} 토큰 초과하여 대화 앞부분을 잘라냅니다. chapterId={}",
+                    overflow, chapterId);
+            user = ChatMessage.user(entry.getUserTemplate().format(tokenCounter.trimHead(dialog, overflow)));
+        }
+
         ChatCompletionRequest.ChatCompletionRequestBuilder builder =
                 ChatCompletionRequest.builder()
                         .model(props.getModel())
@@ -49,6 +108,6 @@ public class EpisodeAIClientImpl extends BaseAIClient implements EpisodeAIClient
             builder.responseFormat(new ChatCompletionRequest.ResponseFormat("json_object"));
         }
 
-        return call(builder.build());
+        return builder.build();
     }
 }
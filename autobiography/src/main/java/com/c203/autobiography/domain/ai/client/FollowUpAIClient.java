@@ -1,5 +1,21 @@
 package com.c203.autobiography.domain.ai.client;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 public interface FollowUpAIClient {
     String generateDynamicFollowUpBySection(String sectionKey, String userAnswer, String nextTemplateQuestion);
+
+    /**
+     * 스트리밍 버전: 생성 중인 텍스트 조각을 onDelta로 전달하고, 완성된 전체 텍스트를 반환합니다.
+     */
+    String generateDynamicFollowUpBySection(String sectionKey, String userAnswer, String nextTemplateQuestion,
+                                            Consumer<String> onDelta);
+
+    /**
+     * 비동기 버전: 호출 스레드를 막지 않고 완성된 전체 텍스트를 CompletableFuture로 반환합니다.
+     */
+    CompletableFuture<String> generateDynamicFollowUpBySectionAsync(String sectionKey, String userAnswer,
+                                                                    String nextTemplateQuestion,
+                                                                    Consumer<String> onDelta);
 }
@@ -1,12 +1,18 @@
 package com.c203.autobiography.domain.ai.client;
 
+import com.c203.autobiography.domain.ai.cache.AiResponseCache;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.dto.ChatMessage;
-import com.c203.autobiography.domain.ai.loader.PromptLoader;
+import com.c203.autobiography.domain.ai.loader.PromptRegistry;
+import com.c203.autobiography.domain.ai.loader.PromptSnapshot;
+import com.c203.autobiography.domain.ai.prompt.CompiledPrompt;
 import com.c203.autobiography.domain.ai.prompt.FollowUpPrompts;
 import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
 import com.c203.autobiography.domain.ai.service.OpenAiService;
+import com.c203.autobiography.domain.ai.token.TokenCounter;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -14,43 +20,79 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class FollowUpAIClientImpl extends BaseAIClient implements FollowUpAIClient {
 
-    private final PromptLoader promptLoader;
+    private final PromptRegistry promptRegistry;
+    private final TokenCounter tokenCounter;
 
     protected FollowUpAIClientImpl(OpenAiService openAiService,
                                    OpenAiProperties props
-    ,PromptLoader promptLoader) {
-        super(openAiService, props);
-        this.promptLoader = promptLoader;
+    ,PromptRegistry promptRegistry, AiResponseCache responseCache, TokenCounter tokenCounter) {
+        super(openAiService, props, responseCache);
+        this.promptRegistry = promptRegistry;
+        this.tokenCounter = tokenCounter;
+    }
+
+    @Override
+    protected String cacheName() {
+        return "followup";
     }
 
     @Override
     public String generateDynamicFollowUpBySection(String sectionKey, String userAnswer, String nextTemplateQuestion) {
+        return generateDynamicFollowUpBySection(sectionKey, userAnswer, nextTemplateQuestion, null);
+    }
+
+    @Override
+    public String generateDynamicFollowUpBySection(String sectionKey, String userAnswer, String nextTemplateQuestion,
+                                                   Consumer<String> onDelta) {
+        ChatCompletionRequest request = buildRequest(sectionKey, userAnswer, nextTemplateQuestion);
+        if (request == null) {
+            return null;
+        }
+        return callStreaming(request, onDelta);
+    }
 
-        FollowUpPrompts prompt = promptLoader.load("followup.yml", FollowUpPrompts.class);
+    @Override
+    public CompletableFuture<String> generateDynamicFollowUpBySectionAsync(String sectionKey, String userAnswer,
+                                                                           String nextTemplateQuestion,
+                                                                           Consumer<String> onDelta) {
+        ChatCompletionRequest request = buildRequest(sectionKey, userAnswer, nextTemplateQuestion);
+        if (request == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return callStreamingAsync(request, onDelta);
+    }
+
+    private ChatCompletionRequest buildRequest(String sectionKey, String userAnswer, String nextTemplateQuestion) {
+        PromptSnapshot snapshot = promptRegistry.current();
+        FollowUpPrompts prompt = snapshot.getFollowUp();
 
-        FollowUpPrompts.PromptEntry entry = prompt.getPrompts().get(sectionKey);
+        CompiledPrompt entry = snapshot.getFollowUpBySection().get(sectionKey);
         if (entry == null) {
             log.warn("FollowUp prompt not found for key: {}", sectionKey);
             return null;
         }
 
-        String userPrompt = String.format(entry.getUserTemplate(),
-                userAnswer,
-                nextTemplateQuestion != null ? nextTemplateQuestion : ""
-        );
+        String nextQuestion = nextTemplateQuestion != null ? nextTemplateQuestion : "";
+        String userPrompt = entry.getUserTemplate().format(userAnswer, nextQuestion);
 
 
         ChatMessage system = ChatMessage.system(entry.getSystem());
         ChatMessage user = ChatMessage.user(userPrompt);
 
-        ChatCompletionRequest request =
-                ChatCompletionRequest.builder()
-                        .model(props.getModel())
-                        .messages(List.of(system, user))
-                        .maxTokens(prompt.getMaxTokens())
-                        .temperature(prompt.getTemperature())
-                        .build();
+        // 사전 토큰 계산: 답변이 너무 길어 컨텍스트 한도를 넘으면 답변 앞부분을 잘라냄
+        int overflow = tokenCounter.overflow(List.of(system, user), prompt.getMaxTokens());
+        if (overflow > 0) {
+            log.warn("후속 질문 프롬프트가 컨텍스트 한도를 {} 토큰 초과하여 답변 앞부분을 잘라냅니다. sectionKey={}",
+                    overflow, sectionKey);
+            user = ChatMessage.user(entry.getUserTemplate().format(
+                    tokenCounter.trimHead(userAnswer, overflow), nextQuestion));
+        }
 
-        return call(request);
+        return ChatCompletionRequest.builder()
+                .model(props.getModel())
+                .messages(List.of(system, user))
+                .maxTokens(prompt.getMaxTokens())
+                .temperature(prompt.getTemperature())
+                .build();
     }
 }
@@ -1,5 +1,18 @@
 package com.c203.autobiography.domain.ai.client;
 
+import com.c203.autobiography.domain.ai.dto.ProofreadProgress;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 public interface ProofreadAIClient {
     String proofread(String originalText, Long bookCategory);
+
+    CompletableFuture<String> proofreadAsync(String originalText, Long bookCategory);
+
+    /**
+     * 긴 원고를 토큰 예산 단위로 나눠 병렬 교정한 뒤 원래 순서대로 이어 붙입니다.
+     * onProgress가 있으면 조각이 끝날 때마다 진행 상황을 넘깁니다.
+     */
+    CompletableFuture<String> proofreadChunkedAsync(String originalText, Long bookCategory,
+                                                    Consumer<ProofreadProgress> onProgress);
 }
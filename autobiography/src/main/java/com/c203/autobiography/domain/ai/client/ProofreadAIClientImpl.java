@@ -1,55 +1,146 @@
 package com.c203.autobiography.domain.ai.client;
 
+import com.c203.autobiography.domain.ai.cache.AiResponseCache;
+import com.c203.autobiography.domain.ai.dispatch.AiPriority;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.dto.ChatMessage;
-import com.c203.autobiography.domain.ai.loader.PromptLoader;
+import com.c203.autobiography.domain.ai.dto.ProofreadProgress;
+import com.c203.autobiography.domain.ai.loader.PromptRegistry;
+import com.c203.autobiography.domain.ai.loader.PromptSnapshot;
 import com.c203.autobiography.domain.ai.prompt.ProofreadPrompts;
 import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
 import com.c203.autobiography.domain.ai.service.OpenAiService;
+import com.c203.autobiography.domain.ai.token.TextSegmenter;
+import com.c203.autobiography.domain.ai.token.TextSegmenter.Segment;
 import com.c203.autobiography.domain.book.repository.BookCategoryRepository;
 import com.c203.autobiography.global.exception.ApiException;
 import com.c203.autobiography.global.exception.ErrorCode;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 public class ProofreadAIClientImpl extends BaseAIClient implements ProofreadAIClient {
 
     private final BookCategoryRepository bookCategoryRepository;
-    private final PromptLoader promptLoader;
+    private final PromptRegistry promptRegistry;
+    private final TextSegmenter textSegmenter;
 
     protected ProofreadAIClientImpl(OpenAiService openAiService,
                                     OpenAiProperties props, BookCategoryRepository bookCategoryRepository,
-                                    PromptLoader promptLoader) {
-        super(openAiService, props);
+                                    PromptRegistry promptRegistry, AiResponseCache responseCache,
+                                    TextSegmenter textSegmenter) {
+        super(openAiService, props, responseCache);
         this.bookCategoryRepository = bookCategoryRepository;
-        this.promptLoader = promptLoader;
+        this.promptRegistry = promptRegistry;
+        this.textSegmenter = textSegmenter;
     }
 
 
+    @Override
+    protected String cacheName() {
+        return "proofread";
+    }
+
+    @Override
+    protected AiPriority priority() {
+        return AiPriority.BACKGROUND;
+    }
+
     @Override
     public String proofread(String originalText, Long categoryId) {
+        return call(buildRequest(originalText, categoryName(categoryId), null));
+    }
+
+    @Override
+    public CompletableFuture<String> proofreadAsync(String originalText, Long categoryId) {
+        return callAsync(buildRequest(originalText, categoryName(categoryId), null));
+    }
 
-        var category = bookCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ApiException(ErrorCode.BOOK_CATEGORY_NOT_FOUND));
+    @Override
+    public CompletableFuture<String> proofreadChunkedAsync(String originalText, Long categoryId,
+                                                           Consumer<ProofreadProgress> onProgress) {
+        String categoryName = categoryName(categoryId);
+        OpenAiProperties.Proofread config = props.getProofread();
+        List<Segment> segments = textSegmenter.split(originalText, config.getChunkMaxTokens());
+        int total = segments.size();
+        AtomicInteger completed = new AtomicInteger();
+
+        // 조각마다 독립 요청(캐시 키도 조각 단위)으로 보내고, flatMapSequential로 원래 순서를 유지
+        return Flux.range(0, total)
+                .flatMapSequential(index -> {
+                    Segment segment = segments.get(index);
+                    String context = index > 0 ? lastSentence(segments.get(index - 1).text()) : null;
+                    return Mono.fromFuture(() -> callAsync(buildRequest(segment.text(), categoryName, context)))
+                            .map(corrected -> stripEchoedContext(corrected, context))
+                            .doOnNext(corrected -> {
+                                if (onProgress != null) {
+                                    onProgress.accept(new ProofreadProgress(index, total,
+                                            completed.incrementAndGet(), corrected));
+                                }
+                            })
+                            .map(corrected -> corrected + segment.separator());
+                }, Math.max(1, config.getChunkConcurrency()))
+                .collect(Collectors.joining())
+                .map(String::trim)
+                .toFuture();
+    }
+
+    private String categoryName(Long categoryId) {
+        return bookCategoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ApiException(ErrorCode.BOOK_CATEGORY_NOT_FOUND))
+                .getCategoryName();
+    }
 
-        ProofreadPrompts prompt = promptLoader.load("proofread.yml", ProofreadPrompts.class);
+    /**
+     * precedingContext: 앞 조각의 마지막 문장. 조각 경계에서 문장 흐름이 끊기지 않도록 참고용으로만 전달하며 교정 대상은 아님
+     */
+    private ChatCompletionRequest buildRequest(String originalText, String categoryName, String precedingContext) {
+        PromptSnapshot snapshot = promptRegistry.current();
+        ProofreadPrompts prompt = snapshot.getProofread();
 
-        String userPrompt = String.format(prompt.getTemplate(),
-                category.getCategoryName(),
+        String userPrompt = snapshot.getProofreadTemplate().format(
+                categoryName,
                 originalText);
 
-        ChatCompletionRequest request =
-                ChatCompletionRequest.builder()
-                        .model(props.getModel())
-                        .messages(List.of(
-                                ChatMessage.system(prompt.getSystem()),
-                                ChatMessage.user(userPrompt)
-                        ))
-                        .maxTokens(prompt.getMaxTokens())
-                        .temperature(prompt.getTemperature())
-                        .build();
-
-        return call(request);
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(ChatMessage.system(prompt.getSystem()));
+        if (precedingContext != null && !precedingContext.isBlank()) {
+            messages.add(ChatMessage.system("[앞 문맥] 아래 문장은 바로 앞 부분입니다. 흐름 참고용이며 교정 결과에 포함하지 마세요.\n"
+                    + precedingContext));
+        }
+        messages.add(ChatMessage.user(userPrompt));
+
+        return ChatCompletionRequest.builder()
+                .model(props.getModel())
+                .messages(messages)
+                .maxTokens(prompt.getMaxTokens())
+                .temperature(prompt.getTemperature())
+                .build();
+    }
+
+    private String lastSentence(String text) {
+        String trimmed = text.trim();
+        int cut = Math.max(Math.max(trimmed.lastIndexOf(". ", trimmed.length() - 2),
+                trimmed.lastIndexOf("? ", trimmed.length() - 2)), trimmed.lastIndexOf('\n'));
+        return cut >= 0 ? trimmed.substring(cut + 1).trim() : trimmed;
+    }
+
+    // 모델이 참고용 앞 문맥을 결과 앞에 다시 적어 보낸 경우 중복되지 않도록 제거
+    private String stripEchoedContext(String corrected, String context) {
+        if (context == null || context.isBlank()) {
+            return corrected;
+        }
+        String head = context.trim();
+        if (corrected.startsWith(head)) {
+            return corrected.substring(head.length()).stripLeading();
+        }
+        return corrected;
     }
 }
@@ -1,38 +1,97 @@
 package com.c203.autobiography.domain.ai.controller;
 
 import com.c203.autobiography.domain.ai.client.AiClientFactory;
+import com.c203.autobiography.domain.ai.dto.ProofreadProgress;
 import com.c203.autobiography.domain.ai.dto.ProofreadRequest;
 import com.c203.autobiography.domain.ai.dto.ProofreadResponse;
 import com.c203.autobiography.global.dto.ApiResponse;
 import com.c203.autobiography.global.security.jwt.CustomUserDetails;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/v1/ai")
 @RequiredArgsConstructor
 public class AiController {
 
+    private static final long PROOFREAD_STREAM_TIMEOUT_MS = 5 * 60 * 1000L;
+
     private final AiClientFactory aiClient;
 
     @PostMapping("/proofread")
-    public ResponseEntity<ApiResponse<ProofreadResponse>> proofreadText(
+    public DeferredResult<ResponseEntity<ApiResponse<ProofreadResponse>>> proofreadText(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody ProofreadRequest request,
             HttpServletRequest httpRequest
     ) {
-        String correctedText = aiClient.proofread().proofread(request.getTextToCorrect(), request.getBookCategory());
+        // 교정 응답을 기다리는 동안 서블릿 스레드를 점유하지 않음
+        DeferredResult<ResponseEntity<ApiResponse<ProofreadResponse>>> result = new DeferredResult<>();
+        String requestUri = httpRequest.getRequestURI();
+
+        // 긴 원고는 조각으로 나눠 병렬 교정 (짧은 글은 기존과 같은 단일 요청)
+        aiClient.proofread().proofreadChunkedAsync(request.getTextToCorrect(), request.getBookCategory(), null)
+                .whenComplete((correctedText, ex) -> {
+                    if (ex != null) {
+                        result.setErrorResult(ex instanceof CompletionException && ex.getCause() != null
+                                ? ex.getCause() : ex);
+                        return;
+                    }
+                    result.setResult(ResponseEntity.status(HttpStatus.OK)
+                            .body(ApiResponse.of(HttpStatus.OK, "교정 성공", new ProofreadResponse(correctedText),
+                                    requestUri)));
+                });
+        return result;
+    }
+
+    /**
+     * 교정 진행 상황 스트리밍: 조각이 끝날 때마다 progress, 전체가 끝나면 done 이벤트를 보냅니다.
+     */
+    @PostMapping(value = "/proofread/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter proofreadTextStream(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody ProofreadRequest request
+    ) {
+        SseEmitter emitter = new SseEmitter(PROOFREAD_STREAM_TIMEOUT_MS);
+
+        aiClient.proofread().proofreadChunkedAsync(request.getTextToCorrect(), request.getBookCategory(),
+                        progress -> sendProofreadEvent(emitter, "progress", progress))
+                .whenComplete((correctedText, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                                ? ex.getCause() : ex;
+                        log.error("[AI] 교정 스트리밍 실패: {}", cause.getMessage());
+                        emitter.completeWithError(cause);
+                        return;
+                    }
+                    sendProofreadEvent(emitter, "done", new ProofreadResponse(correctedText));
+                    emitter.complete();
+                });
+        return emitter;
+    }
 
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(ApiResponse.of(HttpStatus.OK, "교정 성공", new ProofreadResponse(correctedText),
-                        httpRequest.getRequestURI()));
+    // 여러 조각이 동시에 끝날 수 있으므로 emitter 단위로 직렬화해서 전송
+    private void sendProofreadEvent(SseEmitter emitter, String eventName, Object payload) {
+        synchronized (emitter) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(payload, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("[AI] 교정 이벤트 전송 실패 (연결 종료): {}", e.getMessage());
+            }
+        }
     }
 }
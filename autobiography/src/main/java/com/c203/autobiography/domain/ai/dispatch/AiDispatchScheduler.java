@@ -0,0 +1,333 @@
+package com.c203.autobiography.domain.ai.dispatch;
+
+import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
+import com.c203.autobiography.domain.ai.service.OpenAiCallException;
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * OpenAI 호출 스케줄러: 적응형(AIMD) 동시성 제한 + 우선순위 레인
+ *
+ * - 성공할 때마다 한도를 조금씩(1/limit) 늘리고, 429/타임아웃이면 backoffRatio 만큼 줄입니다.
+ * - 대기열은 INTERACTIVE > EDIT > BACKGROUND 순서로 꺼내며,
+ *   EDIT/BACKGROUND는 interactiveReserve 만큼을 남겨 두고, BACKGROUND는 backgroundShare 이하만 사용합니다.
+ * - 429 응답은 Retry-After 동안 디스패치를 멈춘 뒤 같은 레인에 다시 넣어 재시도합니다.
+ *   (WebClient 필터에서 바로 재전송하지 않으므로 레이트 리밋 상황에서 요청이 불어나지 않습니다)
+ * - 5xx 응답은 exponential backoff 후 같은 레인에 다시 넣어 재시도합니다. 기다리는 동안 슬롯은 반환합니다.
+ *   (스트리밍은 상태 코드를 받은 시점에 실패하므로 delta가 중복 전달되지 않습니다)
+ * - 레인 대기열이 가득 찼거나 maxQueueWaitMs 안에 슬롯을 받지 못하면 AI_OVERLOADED로 실패합니다.
+ *   서버 자체의 과부하이므로 429/5xx 재시도 대상이 아니며 한도도 바꾸지 않습니다.
+ */
+@Slf4j
+@Component
+public class AiDispatchScheduler {
+
+    private static final String METRIC_PREFIX = "ai.dispatch";
+
+    private final OpenAiProperties.Dispatch config;
+    private final MeterRegistry meterRegistry;
+
+    private final Object lock = new Object();
+    private final Map<AiPriority, ArrayDeque<Ticket>> queues = new EnumMap<>(AiPriority.class);
+    private final Map<AiPriority, Integer> inFlightByLane = new EnumMap<>(AiPriority.class);
+    private final Map<AiPriority, Timer> waitTimers = new EnumMap<>(AiPriority.class);
+    private final Counter throttledCounter;
+    private final Counter overloadedCounter;
+
+    private double limit;
+    private int inFlight;
+    private long pausedUntilNanos;
+    private boolean resumeScheduled;
+
+    public AiDispatchScheduler(OpenAiProperties props, MeterRegistry meterRegistry) {
+        this.config = props.getDispatch();
+        this.meterRegistry = meterRegistry;
+        this.limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), config.getInitialLimit()));
+
+        for (AiPriority lane : AiPriority.values()) {
+            ArrayDeque<Ticket> queue = new ArrayDeque<>();
+            queues.put(lane, queue);
+            inFlightByLane.put(lane, 0);
+            String tag = lane.name().toLowerCase();
+            Gauge.builder(METRIC_PREFIX + ".queue.depth", this, s -> s.queueDepth(lane))
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            waitTimers.put(lane, Timer.builder(METRIC_PREFIX + ".wait")
+                    .tag("lane", tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder(METRIC_PREFIX + ".inflight", this, s -> s.inFlight()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".limit", this, s -> s.currentLimit()).register(meterRegistry);
+        this.throttledCounter = meterRegistry.counter(METRIC_PREFIX + ".throttled");
+        this.overloadedCounter = meterRegistry.counter(METRIC_PREFIX + ".overloaded");
+    }
+
+    /**
+     * 단건 호출 스케줄링. 구독 시점에 대기열에 들어가고, 슬롯을 얻으면 call을 실행합니다.
+     */
+    public <T> Mono<T> submit(AiPriority priority, Supplier<? extends Mono<T>> call) {
+        return Mono.from(schedule(priority, call));
+    }
+
+    /**
+     * 스트리밍 호출 스케줄링. 스트림이 끝날 때까지 슬롯을 점유합니다.
+     */
+    public <T> Flux<T> submitStream(AiPriority priority, Supplier<? extends Publisher<T>> call) {
+        return schedule(priority, call);
+    }
+
+    private <T> Flux<T> schedule(AiPriority priority, Supplier<? extends Publisher<T>> call) {
+        Flux<T> attempt = Flux.usingWhen(
+                acquire(priority),
+                permit -> Flux.defer(() -> Flux.from(call.get())),
+                permit -> Mono.fromRunnable(() -> release(permit, Outcome.SUCCESS)),
+                (permit, ex) -> Mono.fromRunnable(() -> release(permit, classify(ex))),
+                permit -> Mono.fromRunnable(() -> release(permit, Outcome.IGNORED)));
+
+        return attempt.retryWhen(Retry.backoff(config.getMaxServerErrorRetries(),
+                                Duration.ofMillis(config.getServerErrorBackoffMs()))
+                        .filter(ex -> ex instanceof OpenAiCallException oe && oe.isServerError())
+                        .doBeforeRetry(signal -> log.warn("OpenAI {} 재시도 {}회차: lane={}",
+                                ((OpenAiCallException) signal.failure()).getStatusCode(),
+                                signal.totalRetries() + 1, priority))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .retryWhen(Retry.max(config.getMaxThrottleRetries())
+                .filter(ex -> ex instanceof OpenAiCallException oe && oe.isThrottled())
+                .doBeforeRetry(signal -> log.warn("OpenAI 429 재시도 {}회차: lane={}",
+                        signal.totalRetries() + 1, priority))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    // ------------------------
+    // 슬롯 획득 / 반환
+    // ------------------------
+
+    private Mono<Permit> acquire(AiPriority priority) {
+        Mono<Permit> permit = Mono.create(sink -> {
+            Ticket ticket = new Ticket(priority, sink);
+            synchronized (lock) {
+                ArrayDeque<Ticket> queue = queues.get(priority);
+                if (queue.size() >= config.getMaxQueueSize()) {
+                    overloadedCounter.increment();
+                    sink.error(new ApiException(ErrorCode.AI_OVERLOADED));
+                    return;
+                }
+                queue.addLast(ticket);
+            }
+            sink.onCancel(ticket::cancel);
+            drain();
+        });
+        // 시간 초과 시 구독 취소로 대기열에서 빠짐 (그 직전에 슬롯을 받았으면 바로 반환)
+        return permit.timeout(Duration.ofMillis(config.getMaxQueueWaitMs()), Mono.defer(() -> {
+            overloadedCounter.increment();
+            log.warn("OpenAI 슬롯 대기 시간 초과: lane={}, waitMs={}", priority, config.getMaxQueueWaitMs());
+            return Mono.error(new ApiException(ErrorCode.AI_OVERLOADED));
+        }));
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        if (!permit.released.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (lock) {
+            inFlight--;
+            inFlightByLane.merge(permit.priority, -1, Integer::sum);
+            switch (outcome) {
+                case SUCCESS -> limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+                case OVERLOADED -> limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+                default -> {
+                }
+            }
+            if (outcome == Outcome.OVERLOADED) {
+                log.info("OpenAI 동시 호출 한도 축소: limit={}", String.format("%.2f", limit));
+            }
+        }
+        drain();
+    }
+
+    private Outcome classify(Throwable ex) {
+        if (ex instanceof OpenAiCallException oe && oe.isThrottled()) {
+            throttledCounter.increment();
+            Duration retryAfter = oe.getRetryAfter() != null
+                    ? oe.getRetryAfter()
+                    : Duration.ofMillis(config.getDefaultRetryAfterMs());
+            pauseFor(retryAfter);
+            return Outcome.OVERLOADED;
+        }
+        if (ex instanceof TimeoutException) {
+            return Outcome.OVERLOADED;
+        }
+        return Outcome.IGNORED;
+    }
+
+    private void pauseFor(Duration retryAfter) {
+        synchronized (lock) {
+            long until = System.nanoTime() + retryAfter.toNanos();
+            if (until - pausedUntilNanos > 0) {
+                pausedUntilNanos = until;
+            }
+        }
+        log.warn("OpenAI 레이트 리밋: {}ms 동안 디스패치를 멈춥니다", retryAfter.toMillis());
+    }
+
+    /**
+     * 한도가 허락하는 만큼 대기열에서 꺼내 슬롯을 부여합니다.
+     * 구독자 콜백은 락 밖에서 실행합니다.
+     */
+    private void drain() {
+        List<Ticket> granted = new ArrayList<>();
+        synchronized (lock) {
+            long now = System.nanoTime();
+            if (pausedUntilNanos - now > 0) {
+                scheduleResume(pausedUntilNanos - now);
+                return;
+            }
+            Ticket next;
+            while ((next = pollNext()) != null) {
+                inFlight++;
+                inFlightByLane.merge(next.priority, 1, Integer::sum);
+                granted.add(next);
+            }
+        }
+        for (Ticket ticket : granted) {
+            ticket.grant();
+        }
+    }
+
+    private Ticket pollNext() {
+        int max = (int) Math.floor(limit);
+        if (inFlight >= max) {
+            return null;
+        }
+        int reserved = Math.max(1, (int) Math.floor(limit * config.getInteractiveReserve()));
+        int sharedMax = Math.max(1, max - reserved);
+        int backgroundMax = Math.max(1, (int) Math.floor(limit * config.getBackgroundShare()));
+        int nonInteractive = inFlightByLane.get(AiPriority.EDIT) + inFlightByLane.get(AiPriority.BACKGROUND);
+
+        for (AiPriority lane : AiPriority.values()) {
+            ArrayDeque<Ticket> queue = queues.get(lane);
+            dropCancelled(queue);
+            if (queue.isEmpty()) {
+                continue;
+            }
+            if (lane != AiPriority.INTERACTIVE && nonInteractive >= sharedMax) {
+                continue;
+            }
+            if (lane == AiPriority.BACKGROUND && inFlightByLane.get(lane) >= backgroundMax) {
+                continue;
+            }
+            return queue.pollFirst();
+        }
+        return null;
+    }
+
+    private void dropCancelled(ArrayDeque<Ticket> queue) {
+        while (!queue.isEmpty() && queue.peekFirst().cancelled.get()) {
+            queue.pollFirst();
+        }
+    }
+
+    private void scheduleResume(long delayNanos) {
+        if (resumeScheduled) {
+            return;
+        }
+        resumeScheduled = true;
+        Schedulers.parallel().schedule(() -> {
+            synchronized (lock) {
+                resumeScheduled = false;
+            }
+            drain();
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ------------------------
+    // 메트릭
+    // ------------------------
+
+    private double queueDepth(AiPriority lane) {
+        synchronized (lock) {
+            return queues.get(lane).size();
+        }
+    }
+
+    private double inFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    private double currentLimit() {
+        synchronized (lock) {
+            return limit;
+        }
+    }
+
+    private enum Outcome { SUCCESS, OVERLOADED, IGNORED }
+
+    private static final class Permit {
+        private final AiPriority priority;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AiPriority priority) {
+            this.priority = priority;
+        }
+    }
+
+    private final class Ticket {
+        private final AiPriority priority;
+        private final MonoSink<Permit> sink;
+        private final long enqueuedAt = System.nanoTime();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicBoolean granted = new AtomicBoolean();
+        private Permit permit;
+
+        private Ticket(AiPriority priority, MonoSink<Permit> sink) {
+            this.priority = priority;
+            this.sink = sink;
+        }
+
+        private void grant() {
+            permit = new Permit(priority);
+            granted.set(true);
+            waitTimers.get(priority).record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            sink.success(permit);
+            if (cancelled.get()) {
+                // 슬롯을 받기 직전에 구독이 취소된 경우 바로 반환
+                release(permit, Outcome.IGNORED);
+            }
+        }
+
+        private void cancel() {
+            cancelled.set(true);
+            if (granted.get()) {
+                release(permit, Outcome.IGNORED);
+            } else {
+                synchronized (lock) {
+                    queues.get(priority).remove(this);
+                }
+            }
+        }
+    }
+}
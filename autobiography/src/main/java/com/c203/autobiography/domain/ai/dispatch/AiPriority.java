@@ -0,0 +1,13 @@
+package com.c203.autobiography.domain.ai.dispatch;
+
+/**
+ * OpenAI 호출 우선순위 레인 (위에 있을수록 먼저 실행)
+ */
+public enum AiPriority {
+    // 인터뷰 중인 사용자가 기다리는 호출 (후속 질문, 답변 분석)
+    INTERACTIVE,
+    // 그룹북 문단 다듬기 등 편집 호출
+    EDIT,
+    // 챕터 에피소드 생성, 교정 등 오래 걸려도 되는 호출
+    BACKGROUND
+}
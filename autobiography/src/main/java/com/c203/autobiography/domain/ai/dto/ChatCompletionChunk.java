@@ -0,0 +1,51 @@
+package com.c203.autobiography.domain.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * stream=true 요청 시 OpenAI가 SSE로 내려주는 chat.completion.chunk 한 조각
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionChunk {
+    private String id;
+    private String object;
+    private List<Choice> choices;
+    // stream_options.include_usage=true일 때 마지막 chunk에만 포함 (choices는 비어 있음)
+    private ChatCompletionResponse.Usage usage;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private int index;
+        private Delta delta;
+        private String finish_reason;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Delta {
+        private String role;
+        private String content; // 이번 조각에서 새로 생성된 텍스트
+    }
+
+    /**
+     * 첫 번째 choice의 delta 텍스트 (없으면 null)
+     */
+    public String firstDeltaContent() {
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) {
+            return null;
+        }
+        return choices.get(0).getDelta().getContent();
+    }
+}
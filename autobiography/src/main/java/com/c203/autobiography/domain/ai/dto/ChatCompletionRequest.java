@@ -1,5 +1,6 @@
 package com.c203.autobiography.domain.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -10,7 +11,7 @@ import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ChatCompletionRequest {
     private String model;
     private List<ChatMessage> messages;
@@ -19,10 +20,22 @@ public class ChatCompletionRequest {
     @JsonProperty("max_tokens")
     private Integer maxTokens;
     private Double temperature;
+    @JsonInclude(JsonInclude.Include.NON_NULL) // 스트리밍 요청일 때만 "stream": true 전송
+    private Boolean stream;
+    @JsonProperty("stream_options")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private StreamOptions streamOptions;
 
     @Getter
     @AllArgsConstructor
     public static class ResponseFormat {
         private String type;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StreamOptions {
+        @JsonProperty("include_usage")
+        private boolean includeUsage;
+    }
 }
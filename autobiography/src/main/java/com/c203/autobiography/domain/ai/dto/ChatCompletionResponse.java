@@ -40,6 +40,7 @@ public class ChatCompletionResponse {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Usage{
         private int prompt_tokens;
         private int completion_tokens;
@@ -0,0 +1,20 @@
+package com.c203.autobiography.domain.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조각 단위 교정 진행 상황 (index 번째 조각이 끝났을 때 전송)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProofreadProgress {
+    private int index;
+    private int total;
+    private int completed;
+    private String correctedText;
+}
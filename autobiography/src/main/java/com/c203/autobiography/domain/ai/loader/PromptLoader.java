@@ -2,16 +2,15 @@ package com.c203.autobiography.domain.ai.loader;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import java.io.File;
 import java.io.InputStream;
-import java.net.URL;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * YAML 프롬프트 파일 파서. 호출 경로에서 직접 쓰지 않고 PromptRegistry가 스냅샷을 만들 때만 사용합니다.
+ */
 @Slf4j
 @Component
 public class PromptLoader {
@@ -24,4 +23,22 @@ public class PromptLoader {
             throw new RuntimeException("Failed to load prompt file: " + path, e);
         }
     }
+
+    /**
+     * 외부 디렉터리의 프롬프트 파일을 우선 읽고, 없으면 classpath 기본값을 사용합니다.
+     */
+    public <T> T load(Path dir, String path, Class<T> clazz) {
+        if (dir == null) {
+            return load(path, clazz);
+        }
+        Path file = dir.resolve(path);
+        if (!Files.isRegularFile(file)) {
+            return load(path, clazz);
+        }
+        try (InputStream is = Files.newInputStream(file)) {
+            return yamlMapper.readValue(is, clazz);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load prompt file: " + file, e);
+        }
+    }
 }
@@ -0,0 +1,175 @@
+package com.c203.autobiography.domain.ai.loader;
+
+import com.c203.autobiography.domain.ai.prompt.AnalysisPrompts;
+import com.c203.autobiography.domain.ai.prompt.EditPrompts;
+import com.c203.autobiography.domain.ai.prompt.EpisodePrompts;
+import com.c203.autobiography.domain.ai.prompt.FollowUpPrompts;
+import com.c203.autobiography.domain.ai.prompt.ProofreadPrompts;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트 레지스트리: 서버 시작 시 모든 프롬프트 파일을 한 번 읽어 불변 스냅샷으로 보관합니다.
+ * AI 호출 경로는 current()만 사용하므로 YAML 파싱/클래스패스 I/O가 발생하지 않습니다.
+ *
+ * prompts.hot-reload.enabled=true 이고 prompts.hot-reload.dir 이 지정되면
+ * 해당 디렉터리의 *.yml 변경을 감시해 새 스냅샷으로 원자적으로 교체합니다. (재시작 불필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptRegistry {
+
+    static final String FOLLOW_UP_FILE = "followup.yml";
+    static final String EPISODE_FILE = "episode.yml";
+    static final String EDIT_FILE = "edit.yml";
+    static final String PROOFREAD_FILE = "proofread.yml";
+    static final String ANALYSIS_FILE = "analysis.yml";
+
+    private static final long RELOAD_DEBOUNCE_MS = 300;
+
+    private final PromptLoader promptLoader;
+
+    @Value("${prompts.hot-reload.enabled:false}")
+    private boolean hotReloadEnabled;
+
+    @Value("${prompts.hot-reload.dir:}")
+    private String hotReloadDir;
+
+    private final AtomicReference<PromptSnapshot> snapshot = new AtomicReference<>();
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    @PostConstruct
+    public void init() {
+        snapshot.set(buildSnapshot(overrideDir()));
+        log.info("프롬프트 레지스트리 초기화 완료 (followUp={}개, episode={}개)",
+                snapshot.get().getFollowUpBySection().size(), snapshot.get().getEpisodeByChapter().size());
+
+        if (hotReloadEnabled) {
+            startWatcher();
+        }
+    }
+
+    /**
+     * 현재 프롬프트 스냅샷 (항상 완전히 만들어진 불변 객체)
+     */
+    public PromptSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * 프롬프트 파일을 다시 읽어 스냅샷을 교체합니다. 실패하면 기존 스냅샷을 유지합니다.
+     */
+    public void reload() {
+        try {
+            snapshot.set(buildSnapshot(overrideDir()));
+            log.info("프롬프트 스냅샷 재로드 완료");
+        } catch (Exception e) {
+            log.warn("프롬프트 재로드 실패, 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    private PromptSnapshot buildSnapshot(Path dir) {
+        return PromptSnapshot.of(
+                promptLoader.load(dir, FOLLOW_UP_FILE, FollowUpPrompts.class),
+                promptLoader.load(dir, EPISODE_FILE, EpisodePrompts.class),
+                promptLoader.load(dir, EDIT_FILE, EditPrompts.class),
+                promptLoader.load(dir, PROOFREAD_FILE, ProofreadPrompts.class),
+                promptLoader.load(dir, ANALYSIS_FILE, AnalysisPrompts.class)
+        );
+    }
+
+    private Path overrideDir() {
+        if (hotReloadDir == null || hotReloadDir.isBlank()) {
+            return null;
+        }
+        return Paths.get(hotReloadDir);
+    }
+
+    private void startWatcher() {
+        Path dir = overrideDir();
+        if (dir == null || !Files.isDirectory(dir)) {
+            log.warn("프롬프트 hot-reload 디렉터리가 없어 감시를 시작하지 않습니다: {}", hotReloadDir);
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            log.warn("프롬프트 디렉터리 감시 등록 실패: {}", e.getMessage());
+            return;
+        }
+
+        watcherThread = new Thread(this::watchLoop, "prompt-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("프롬프트 hot-reload 감시 시작: {}", dir.toAbsolutePath());
+    }
+
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean promptChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context != null && context.toString().endsWith(".yml")) {
+                        promptChanged = true;
+                    }
+                }
+                key.reset();
+
+                if (promptChanged) {
+                    // 편집기가 파일을 여러 번 나눠 쓰는 경우를 위해 잠시 기다렸다가 한 번만 재로드
+                    Thread.sleep(RELOAD_DEBOUNCE_MS);
+                    drainPendingEvents();
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignore) {
+            // 종료 시 정상 경로
+        }
+    }
+
+    private void drainPendingEvents() {
+        WatchKey pending;
+        while ((pending = watchService.poll()) != null) {
+            pending.pollEvents();
+            pending.reset();
+        }
+    }
+
+    @PreDestroy
+    public void stopWatcher() {
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.c203.autobiography.domain.ai.loader;
+
+import com.c203.autobiography.domain.ai.prompt.AnalysisPrompts;
+import com.c203.autobiography.domain.ai.prompt.CompiledPrompt;
+import com.c203.autobiography.domain.ai.prompt.EditPrompts;
+import com.c203.autobiography.domain.ai.prompt.EpisodePrompts;
+import com.c203.autobiography.domain.ai.prompt.FollowUpPrompts;
+import com.c203.autobiography.domain.ai.prompt.PromptTemplate;
+import com.c203.autobiography.domain.ai.prompt.ProofreadPrompts;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 프롬프트 파일 전체를 한 번에 읽어 만든 불변 스냅샷.
+ * 섹션 키 / chapterId / tone 별로 미리 색인하고 템플릿은 미리 컴파일해 둡니다.
+ */
+@Getter
+public final class PromptSnapshot {
+
+    private final FollowUpPrompts followUp;
+    private final EpisodePrompts episode;
+    private final EditPrompts edit;
+    private final ProofreadPrompts proofread;
+    private final AnalysisPrompts analysis;
+
+    // sectionKey → 후속 질문 프롬프트
+    private final Map<String, CompiledPrompt> followUpBySection;
+    // chapterId → 에피소드 프롬프트
+    private final Map<String, CompiledPrompt> episodeByChapter;
+    // 대화 누적 요약 프롬프트 (episode.yml에 summary가 없으면 null)
+    private final CompiledPrompt episodeSummary;
+    // tone → 편집 템플릿
+    private final Map<String, PromptTemplate> editTones;
+    private final PromptTemplate proofreadTemplate;
+    private final PromptTemplate analysisTemplate;
+
+    private PromptSnapshot(FollowUpPrompts followUp, EpisodePrompts episode, EditPrompts edit,
+                           ProofreadPrompts proofread, AnalysisPrompts analysis) {
+        this.followUp = followUp;
+        this.episode = episode;
+        this.edit = edit;
+        this.proofread = proofread;
+        this.analysis = analysis;
+
+        this.followUpBySection = index(followUp.getPrompts(),
+                e -> CompiledPrompt.of(e.getSystem(), e.getUserTemplate()));
+        this.episodeByChapter = index(episode.getPrompts(),
+                e -> CompiledPrompt.of(e.getSystem(), e.getUserTemplate()));
+        this.episodeSummary = episode.getSummary() == null ? null
+                : CompiledPrompt.of(episode.getSummary().getSystem(), episode.getSummary().getUserTemplate());
+        this.editTones = index(edit.getTones(), PromptTemplate::compile);
+        this.proofreadTemplate = PromptTemplate.compile(proofread.getTemplate());
+        this.analysisTemplate = PromptTemplate.compile(analysis.getTemplate());
+    }
+
+    public static PromptSnapshot of(FollowUpPrompts followUp, EpisodePrompts episode, EditPrompts edit,
+                                    ProofreadPrompts proofread, AnalysisPrompts analysis) {
+        return new PromptSnapshot(followUp, episode, edit, proofread, analysis);
+    }
+
+    private static <S, T> Map<String, T> index(Map<String, S> source, Function<S, T> compiler) {
+        if (source == null) {
+            return Map.of();
+        }
+        Map<String, T> compiled = new HashMap<>();
+        source.forEach((key, value) -> {
+            if (value != null) {
+                compiled.put(key, compiler.apply(value));
+            }
+        });
+        return Map.copyOf(compiled);
+    }
+}
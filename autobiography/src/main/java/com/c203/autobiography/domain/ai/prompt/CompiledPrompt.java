@@ -0,0 +1,18 @@
+package com.c203.autobiography.domain.ai.prompt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * system 프롬프트 + 미리 잘라 둔 user 템플릿 (FollowUp/Episode의 PromptEntry를 컴파일한 형태)
+ */
+@Getter
+@AllArgsConstructor
+public class CompiledPrompt {
+    private final String system;
+    private final PromptTemplate userTemplate;
+
+    public static CompiledPrompt of(String system, String userTemplate) {
+        return new CompiledPrompt(system, PromptTemplate.compile(userTemplate));
+    }
+}
@@ -10,9 +10,20 @@ public class EpisodePrompts {
 
     private Map<String, PromptEntry> prompts;
 
+    // 긴 인터뷰용 누적 요약 프롬프트 (이전 요약 + 새 대화 → 갱신된 요약)
+    private SummaryPrompt summary;
+
     @Data
     public static class PromptEntry {
         private String system;
         private String userTemplate;
     }
+
+    @Data
+    public static class SummaryPrompt {
+        private Integer maxTokens;
+        private Double temperature;
+        private String system;
+        private String userTemplate;
+    }
 }
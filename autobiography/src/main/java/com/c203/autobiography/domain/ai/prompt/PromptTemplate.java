@@ -0,0 +1,60 @@
+package com.c203.autobiography.domain.ai.prompt;
+
+import java.util.MissingFormatArgumentException;
+
+/**
+ * "%s" 자리표시자 기준으로 미리 잘라 둔 프롬프트 템플릿.
+ * 호출마다 String.format의 포맷 문자열 파싱을 하지 않고 조각을 이어 붙이기만 합니다.
+ * "%s" 외의 포맷 지정자가 섞여 있으면 String.format으로 그대로 처리합니다.
+ */
+public final class PromptTemplate {
+
+    private static final String PLACEHOLDER = "%s";
+
+    private final String raw;
+    private final String[] parts; // null이면 String.format 사용
+    private final int fixedLength;
+
+    private PromptTemplate(String raw, String[] parts) {
+        this.raw = raw;
+        this.parts = parts;
+        int length = 0;
+        if (parts != null) {
+            for (String part : parts) {
+                length += part.length();
+            }
+        }
+        this.fixedLength = length;
+    }
+
+    public static PromptTemplate compile(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String withoutPlaceholders = raw.replace(PLACEHOLDER, "");
+        if (withoutPlaceholders.indexOf('%') >= 0) {
+            return new PromptTemplate(raw, null);
+        }
+        return new PromptTemplate(raw, raw.split(PLACEHOLDER, -1));
+    }
+
+    public String format(Object... args) {
+        if (parts == null) {
+            return String.format(raw, args);
+        }
+        int placeholders = parts.length - 1;
+        if (args.length < placeholders) {
+            throw new MissingFormatArgumentException(PLACEHOLDER);
+        }
+        StringBuilder sb = new StringBuilder(fixedLength + 64 * placeholders);
+        sb.append(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            sb.append(args[i - 1]).append(parts[i]);
+        }
+        return sb.toString();
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+}
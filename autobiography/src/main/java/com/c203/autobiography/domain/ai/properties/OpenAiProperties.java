@@ -17,6 +17,12 @@ public class OpenAiProperties {
     private String apiUrl = "https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions";
     private String model = "gpt-4o";
     private int requestTimeoutSec = 60;
+    // true면 질문/에피소드 생성 시 stream=true로 받아 SSE delta 이벤트로 바로 흘려보냄
+    private boolean streamEnabled = true;
+    // 스트리밍 응답 마지막 chunk로 usage(토큰 사용량)를 받음
+    private boolean streamIncludeUsage = true;
+    // 모델 컨텍스트 한도 (프롬프트 + 응답 토큰). 초과 시 대화 앞부분을 잘라 맞춤
+    private int contextWindowTokens = 128000;
 
     private Api api = new Api();
 
@@ -82,6 +88,10 @@ public class OpenAiProperties {
         private String template;
         private int maxTokens = 1500;
         private double temperature = 0.3;
+        // 긴 원고를 나눌 조각당 입력 토큰 예산 (교정 결과가 maxTokens 안에 들어오도록 절반 이하 권장)
+        private int chunkMaxTokens = 600;
+        // 한 요청 안에서 동시에 교정할 조각 수
+        private int chunkConcurrency = 4;
     }
 
     // ------------------------
@@ -99,6 +109,58 @@ public class OpenAiProperties {
         private Map<String, String> tones = new HashMap<>();
     }
 
+    // ------------------------
+    // 응답 캐시 설정
+    // ------------------------
+    private Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        // 로컬(인메모리) 캐시
+        private long localMaxSize = 1000;
+        private int localTtlMin = 30;
+        // Redis 공유 캐시
+        private boolean redisEnabled = true;
+        private int redisTtlHours = 24;
+
+        // client 이름 → 캐시 사용 여부 (proofread / edit / followup)
+        private Map<String, Boolean> clients = new HashMap<>(Map.of(
+                "proofread", true,
+                "edit", true,
+                "followup", false
+        ));
+    }
+
+    // ------------------------
+    // 호출 스케줄러(동시성 제한 / 우선순위) 설정
+    // ------------------------
+    private Dispatch dispatch = new Dispatch();
+
+    @Data
+    public static class Dispatch {
+        // AIMD 동시 호출 한도
+        private int initialLimit = 8;
+        private int minLimit = 1;
+        private int maxLimit = 64;
+        // 429/타임아웃 시 한도에 곱하는 비율
+        private double backoffRatio = 0.7;
+        // 인터랙티브 전용으로 남겨 둘 한도 비율 (edit/background는 나머지만 사용)
+        private double interactiveReserve = 0.25;
+        // background(에피소드/교정)가 쓸 수 있는 최대 한도 비율
+        private double backgroundShare = 0.5;
+        // 레인별 대기열 최대 길이 (초과 시 즉시 실패)
+        private int maxQueueSize = 500;
+        // 대기열에서 슬롯을 기다리는 최대 시간 (넘기면 즉시 실패, 호출 측 block()의 상한이 됨)
+        private long maxQueueWaitMs = 30_000;
+        // 429 응답 시 Retry-After 만큼 기다렸다가 재시도하는 횟수
+        private int maxThrottleRetries = 3;
+        private long defaultRetryAfterMs = 1000;
+        // 5xx 응답 시 exponential backoff로 재시도하는 횟수와 첫 대기 시간
+        private int maxServerErrorRetries = 3;
+        private long serverErrorBackoffMs = 500;
+    }
+
     // ------------------------
     // 공통 Prompt 구조
     // ------------------------
@@ -0,0 +1,78 @@
+package com.c203.autobiography.domain.ai.service;
+
+import com.c203.autobiography.domain.ai.cache.AiCacheKey;
+import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
+import com.c203.autobiography.domain.ai.dto.ChatCompletionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Single-flight: 같은 요청 키(AiCacheKey)로 동시에 들어온 OpenAI 호출을 하나로 합칩니다.
+ * 진행 중인 호출이 있으면 새로 보내지 않고 그 결과를 함께 구독하며, 완료되면 맵에서 제거됩니다.
+ * (완료된 결과를 재사용하는 것은 AiResponseCache의 역할)
+ *
+ * - 합친 호출은 cache()로 결과(스트림은 전체 delta)를 보관하므로, 완료 직후 맵에서 제거되기 전에 꺼낸 구독자도
+ *   호출을 다시 보내지 않고 같은 결과를 받습니다.
+ * - 구독자가 모두 취소해도 진행 중인 호출은 끝까지 받습니다. (뒤에 합류한 구독자가 있을 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AiRequestCoalescer {
+
+    private static final String METRIC_NAME = "ai.request.coalesced";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Mono<ChatCompletionResponse>> completions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Flux<String>> streams = new ConcurrentHashMap<>();
+
+    public Mono<ChatCompletionResponse> completion(ChatCompletionRequest request,
+                                                   Supplier<Mono<ChatCompletionResponse>> call) {
+        return Mono.defer(() -> {
+            String key = AiCacheKey.of(request);
+            boolean[] created = {false};
+            Mono<ChatCompletionResponse> shared = completions.computeIfAbsent(key, k -> {
+                created[0] = true;
+                AtomicReference<Mono<ChatCompletionResponse>> self = new AtomicReference<>();
+                Mono<ChatCompletionResponse> mono = call.get()
+                        .doFinally(signal -> completions.remove(k, self.get()))
+                        .cache();
+                self.set(mono);
+                return mono;
+            });
+            if (!created[0]) {
+                meterRegistry.counter(METRIC_NAME, "kind", "completion").increment();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * 스트리밍 호출 합치기: 늦게 합류한 구독자도 앞서 도착한 delta부터 모두 받도록 전체를 다시 보내줍니다.
+     */
+    public Flux<String> stream(ChatCompletionRequest request, Supplier<Flux<String>> call) {
+        return Flux.defer(() -> {
+            String key = AiCacheKey.of(request);
+            boolean[] created = {false};
+            Flux<String> shared = streams.computeIfAbsent(key, k -> {
+                created[0] = true;
+                AtomicReference<Flux<String>> self = new AtomicReference<>();
+                Flux<String> flux = call.get()
+                        .doFinally(signal -> streams.remove(k, self.get()))
+                        .cache();
+                self.set(flux);
+                return flux;
+            });
+            if (!created[0]) {
+                meterRegistry.counter(METRIC_NAME, "kind", "stream").increment();
+            }
+            return shared;
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.c203.autobiography.domain.ai.service;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * OpenAI 호출 실패 (HTTP 상태 코드와 Retry-After 정보 포함)
+ */
+@Getter
+public class OpenAiCallException extends RuntimeException {
+
+    private final int statusCode;
+    // 429/503 응답의 Retry-After (없으면 null)
+    private final Duration retryAfter;
+
+    public OpenAiCallException(int statusCode, Duration retryAfter) {
+        super("OpenAI error: " + statusCode);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean isThrottled() {
+        return statusCode == 429;
+    }
+
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+}
@@ -1,7 +1,10 @@
 package com.c203.autobiography.domain.ai.service;
 
+import com.c203.autobiography.domain.ai.dispatch.AiPriority;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface OpenAiService {
 
@@ -9,7 +12,32 @@ public interface OpenAiService {
      * Chat Completion 호출
      *
      */
-    ChatCompletionResponse createChatCompletion(ChatCompletionRequest request);
+    default ChatCompletionResponse createChatCompletion(ChatCompletionRequest request) {
+        return createChatCompletion(request, AiPriority.INTERACTIVE);
+    }
 
+    ChatCompletionResponse createChatCompletion(ChatCompletionRequest request, AiPriority priority);
+
+    /**
+     * Chat Completion 비동기 호출 (호출 스레드를 점유하지 않음)
+     */
+    default Mono<ChatCompletionResponse> createChatCompletionAsync(ChatCompletionRequest request) {
+        return createChatCompletionAsync(request, AiPriority.INTERACTIVE);
+    }
+
+    /**
+     * 우선순위 레인을 지정한 비동기 호출 (AiDispatchScheduler 대기열을 거침)
+     */
+    Mono<ChatCompletionResponse> createChatCompletionAsync(ChatCompletionRequest request, AiPriority priority);
+
+    /**
+     * Chat Completion 스트리밍 호출 (stream=true)
+     * 모델이 생성하는 텍스트 조각(delta)을 도착하는 순서대로 흘려보냅니다.
+     */
+    default Flux<String> streamChatCompletion(ChatCompletionRequest request) {
+        return streamChatCompletion(request, AiPriority.INTERACTIVE);
+    }
+
+    Flux<String> streamChatCompletion(ChatCompletionRequest request, AiPriority priority);
 
 }
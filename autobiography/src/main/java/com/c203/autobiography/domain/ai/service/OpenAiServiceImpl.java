@@ -1,17 +1,27 @@
 package com.c203.autobiography.domain.ai.service;
 
 ;
+import com.c203.autobiography.domain.ai.dispatch.AiDispatchScheduler;
+import com.c203.autobiography.domain.ai.dispatch.AiPriority;
+import com.c203.autobiography.domain.ai.dto.ChatCompletionChunk;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
 import com.c203.autobiography.domain.ai.dto.ChatCompletionResponse;
 import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -21,9 +31,21 @@ public class OpenAiServiceImpl implements OpenAiService {
 
     private final WebClient webClient;         // Spring Boot 에서 커넥터 풀, 타임아웃 자동 관리
     private final OpenAiProperties props;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AiRequestCoalescer coalescer;
+    private final AiDispatchScheduler dispatchScheduler;
+
+    private static final String STREAM_DONE = "[DONE]";
 
     @Override
-    public ChatCompletionResponse createChatCompletion(ChatCompletionRequest request) {
+    public ChatCompletionResponse createChatCompletion(ChatCompletionRequest request, AiPriority priority) {
+        // 시도마다의 타임아웃은 슬롯을 받은 시점부터 잽니다. 대기열에서 기다리는 시간은 스케줄러의 maxQueueWaitMs로 따로 제한
+        return createChatCompletionAsync(request, priority).block();
+    }
+
+    @Override
+    public Mono<ChatCompletionResponse> createChatCompletionAsync(ChatCompletionRequest request, AiPriority priority) {
         log.info("OpenAI API URL: {}", props.getApiUrl());
         String apiKey = props.getApiKey();
         if (apiKey != null && apiKey.length() > 10) {
@@ -31,13 +53,77 @@ public class OpenAiServiceImpl implements OpenAiService {
         } else {
             log.warn("API Key is null or too short: {}", apiKey != null ? "present but short" : "null");
         }
-        return webClient.post()
+        // 동일한 요청이 이미 진행 중이면 그 결과를 공유 (중복 클릭/재시도로 인한 이중 과금 방지)
+        // 합쳐진 요청은 슬롯을 한 번만 차지하도록 coalescer 안쪽에서 스케줄러를 거침
+        return coalescer.completion(request, () -> dispatchScheduler.submit(priority, () -> webClient.post()
                 .bodyValue(request)
                 .retrieve()
-                .onStatus(HttpStatusCode::isError, resp ->
-                        Mono.error(new RuntimeException("OpenAI error: " + resp.statusCode()))
-                )
+                .onStatus(HttpStatusCode::isError, resp -> Mono.error(toCallException(resp)))
                 .bodyToMono(ChatCompletionResponse.class)
-                .block(Duration.ofSeconds(props.getRequestTimeoutSec()));
+                .doOnNext(response -> recordUsage(request.getModel(), response.getUsage()))
+                .timeout(Duration.ofSeconds(props.getRequestTimeoutSec()))));
+    }
+
+    @Override
+    public Flux<String> streamChatCompletion(ChatCompletionRequest request, AiPriority priority) {
+        ChatCompletionRequest streamRequest = request.toBuilder()
+                .stream(true)
+                .streamOptions(props.isStreamIncludeUsage()
+                        ? new ChatCompletionRequest.StreamOptions(true) : null)
+                .build();
+
+        return coalescer.stream(request, () -> dispatchScheduler.submitStream(priority, () -> webClient.post()
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(streamRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, resp -> Mono.error(toCallException(resp)))
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .map(ServerSentEvent::data)
+                .takeWhile(data -> data != null && !STREAM_DONE.equals(data.trim()))
+                .concatMap(data -> Mono.justOrEmpty(parseDelta(request.getModel(), data)))
+                .timeout(Duration.ofSeconds(props.getRequestTimeoutSec()))));
+    }
+
+    // 상태 코드와 Retry-After(retry-after-ms 우선)를 담은 예외로 변환 (429 재시도/한도 조절에 사용)
+    private OpenAiCallException toCallException(ClientResponse resp) {
+        HttpHeaders headers = resp.headers().asHttpHeaders();
+        Duration retryAfter = null;
+        try {
+            String retryAfterMs = headers.getFirst("retry-after-ms");
+            String retryAfterSec = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfterMs != null) {
+                retryAfter = Duration.ofMillis((long) Double.parseDouble(retryAfterMs.trim()));
+            } else if (retryAfterSec != null) {
+                retryAfter = Duration.ofMillis((long) (Double.parseDouble(retryAfterSec.trim()) * 1000));
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Retry-After 헤더 파싱 실패: {}", headers.getFirst(HttpHeaders.RETRY_AFTER));
+        }
+        return new OpenAiCallException(resp.statusCode().value(), retryAfter);
+    }
+
+    // chunk JSON 한 줄에서 delta 텍스트만 꺼냄 (role만 있는 첫 chunk 등은 빈 값)
+    private String parseDelta(String model, String data) {
+        try {
+            ChatCompletionChunk chunk = objectMapper.readValue(data, ChatCompletionChunk.class);
+            recordUsage(model, chunk.getUsage());
+            String delta = chunk.firstDeltaContent();
+            return (delta == null || delta.isEmpty()) ? null : delta;
+        } catch (JsonProcessingException e) {
+            log.warn("OpenAI stream chunk 파싱 실패: {}", data);
+            return null;
+        }
+    }
+
+    // 응답에 usage 블록이 있으면 실제 토큰 사용량을 메트릭으로 기록 (비용 추적용)
+    private void recordUsage(String model, ChatCompletionResponse.Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        String modelTag = model != null ? model : "unknown";
+        meterRegistry.counter("ai.tokens", "model", modelTag, "type", "prompt").increment(usage.getPrompt_tokens());
+        meterRegistry.counter("ai.tokens", "model", modelTag, "type", "completion").increment(usage.getCompletion_tokens());
+        log.debug("OpenAI usage: model={}, prompt={}, completion={}, total={}",
+                modelTag, usage.getPrompt_tokens(), usage.getCompletion_tokens(), usage.getTotal_tokens());
     }
-}
\ No newline at end of file
+}
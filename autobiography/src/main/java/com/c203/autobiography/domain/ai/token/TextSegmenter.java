@@ -0,0 +1,86 @@
+package com.c203.autobiography.domain.ai.token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 원고를 토큰 예산 안의 조각으로 나눕니다.
+ * 문단(빈 줄) 경계를 우선하고, 한 문단이 예산을 넘으면 문장 경계에서 자릅니다.
+ * 각 조각은 원문에서 뒤따르던 공백/줄바꿈(separator)을 함께 보관하므로 순서대로 이어 붙이면 원문 배치가 유지됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TextSegmenter {
+
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?…。])\\s+");
+
+    private final TokenCounter tokenCounter;
+
+    public record Segment(String text, String separator) {
+    }
+
+    public List<Segment> split(String text, int maxTokens) {
+        List<Segment> units = new ArrayList<>();
+        for (Segment paragraph : splitKeepingSeparators(text, PARAGRAPH_BREAK)) {
+            if (tokenCounter.count(paragraph.text()) <= maxTokens) {
+                units.add(paragraph);
+                continue;
+            }
+            List<Segment> sentences = splitKeepingSeparators(paragraph.text(), SENTENCE_END);
+            Segment last = sentences.remove(sentences.size() - 1);
+            sentences.add(new Segment(last.text(), last.separator() + paragraph.separator()));
+            units.addAll(sentences);
+        }
+        return pack(units, maxTokens);
+    }
+
+    // 예산을 넘지 않는 범위에서 연속된 단위를 하나의 조각으로 묶음 (단일 단위가 예산을 넘으면 그대로 한 조각)
+    private List<Segment> pack(List<Segment> units, int maxTokens) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        String pendingSeparator = "";
+        int currentTokens = 0;
+
+        for (Segment unit : units) {
+            int unitTokens = tokenCounter.count(unit.text());
+            if (current.length() > 0 && currentTokens + unitTokens > maxTokens) {
+                segments.add(new Segment(current.toString(), pendingSeparator));
+                current.setLength(0);
+                currentTokens = 0;
+            } else if (current.length() > 0) {
+                current.append(pendingSeparator);
+            }
+            current.append(unit.text());
+            currentTokens += unitTokens;
+            pendingSeparator = unit.separator();
+        }
+        if (current.length() > 0) {
+            segments.add(new Segment(current.toString(), pendingSeparator));
+        }
+        return segments;
+    }
+
+    private List<Segment> splitKeepingSeparators(String text, Pattern delimiter) {
+        List<Segment> result = new ArrayList<>();
+        Matcher matcher = delimiter.matcher(text);
+        int start = 0;
+        while (matcher.find()) {
+            if (matcher.start() > start) {
+                result.add(new Segment(text.substring(start, matcher.start()), matcher.group()));
+            } else if (!result.isEmpty()) {
+                Segment prev = result.remove(result.size() - 1);
+                result.add(new Segment(prev.text(), prev.separator() + matcher.group()));
+            }
+            start = matcher.end();
+        }
+        if (start < text.length() || result.isEmpty()) {
+            result.add(new Segment(text.substring(start), ""));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package com.c203.autobiography.domain.ai.token;
+
+import com.c203.autobiography.domain.ai.dto.ChatMessage;
+import java.util.List;
+
+/**
+ * 설정된 OpenAI 모델과 같은 BPE 인코딩으로 토큰 수를 계산합니다.
+ */
+public interface TokenCounter {
+
+    /**
+     * 텍스트의 토큰 수
+     */
+    int count(String text);
+
+    /**
+     * chat 메시지 목록의 프롬프트 토큰 수 (메시지별 role/구분자 오버헤드 포함)
+     */
+    int countMessages(List<ChatMessage> messages);
+
+    /**
+     * 프롬프트 + 응답 한도(maxTokens)가 모델 컨텍스트 한도를 몇 토큰 넘는지 (넘지 않으면 0)
+     */
+    int overflow(List<ChatMessage> messages, int maxTokens);
+
+    /**
+     * 앞부분을 잘라 tokensToRemove 만큼 줄인 텍스트 (최근 내용을 남김)
+     */
+    String trimHead(String text, int tokensToRemove);
+}
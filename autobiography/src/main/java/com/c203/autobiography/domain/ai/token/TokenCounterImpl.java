@@ -0,0 +1,84 @@
+package com.c203.autobiography.domain.ai.token;
+
+import com.c203.autobiography.domain.ai.dto.ChatMessage;
+import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.knuddels.jtokkit.api.IntArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * jtokkit(tiktoken 호환 BPE) 기반 토큰 카운터.
+ * 어휘 파일은 라이브러리 jar에 포함된 것을 서버 시작 시 한 번만 로드합니다.
+ * count()는 토큰 배열을 만들지 않고 개수만 세므로 답변마다 호출해도 부담이 적습니다.
+ */
+@Slf4j
+@Component
+public class TokenCounterImpl implements TokenCounter {
+
+    // https://github.com/openai/openai-cookbook - 메시지당 <|start|>role ... <|end|> 오버헤드
+    private static final int TOKENS_PER_MESSAGE = 3;
+    // 응답 시작(<|start|>assistant<|message|>) 프라이밍
+    private static final int TOKENS_PER_REPLY = 3;
+
+    private final Encoding encoding;
+    private final int contextWindowTokens;
+
+    public TokenCounterImpl(OpenAiProperties props) {
+        EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
+        this.encoding = registry.getEncodingForModel(props.getModel())
+                .orElseGet(() -> {
+                    log.warn("모델 {}에 맞는 토크나이저가 없어 o200k_base를 사용합니다.", props.getModel());
+                    return registry.getEncoding(EncodingType.O200K_BASE);
+                });
+        this.contextWindowTokens = props.getContextWindowTokens();
+        log.info("토크나이저 초기화: model={}, encoding={}", props.getModel(), encoding.getName());
+    }
+
+    @Override
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return encoding.countTokensOrdinary(text);
+    }
+
+    @Override
+    public int countMessages(List<ChatMessage> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+        int total = TOKENS_PER_REPLY;
+        for (ChatMessage message : messages) {
+            total += TOKENS_PER_MESSAGE + count(message.getRole()) + count(message.getContent());
+        }
+        return total;
+    }
+
+    @Override
+    public int overflow(List<ChatMessage> messages, int maxTokens) {
+        return Math.max(0, countMessages(messages) + maxTokens - contextWindowTokens);
+    }
+
+    @Override
+    public String trimHead(String text, int tokensToRemove) {
+        if (text == null || tokensToRemove <= 0) {
+            return text;
+        }
+        IntArrayList tokens = encoding.encodeOrdinary(text);
+        if (tokensToRemove >= tokens.size()) {
+            return "";
+        }
+        int[] all = tokens.toArray();
+        IntArrayList kept = new IntArrayList(all.length - tokensToRemove);
+        for (int i = tokensToRemove; i < all.length; i++) {
+            kept.add(all[i]);
+        }
+        // 한글 음절이 토큰 경계에서 잘리면 깨진 문자가 생길 수 있어 앞쪽 대체 문자를 제거
+        return encoding.decode(kept).replaceFirst("^\\uFFFD+", "");
+    }
+}
@@ -2,6 +2,7 @@ package com.c203.autobiography.domain.episode.controller;
 
 import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
+import com.c203.autobiography.domain.episode.dto.ConversationHistoryPageResponse;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageRequest;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageResponse;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageUpdateRequest;
@@ -17,18 +18,27 @@ import com.c203.autobiography.domain.episode.service.ConversationService;
 import com.c203.autobiography.domain.sse.service.SseService;
 import com.c203.autobiography.domain.episode.template.dto.QuestionResponse;
 import com.c203.autobiography.domain.episode.template.dto.NextQuestionDto;
+import com.c203.autobiography.global.async.SessionCommandMailbox;
 import com.c203.autobiography.global.dto.ApiResponse;
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import com.c203.autobiography.global.idempotency.IdempotencyRegistry;
 import com.c203.autobiography.global.security.jwt.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -37,10 +47,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import retrofit2.http.Path;
 
 @RestController
@@ -49,9 +63,17 @@ import retrofit2.http.Path;
 @Slf4j
 @Validated
 public class ConversationController {
+    /**
+     * "다음 질문" 응답 대기 시간. 넘으면 202로 응답하고, 턴은 계속 진행되어 질문이 준비되면 SSE로 전송됩니다.
+     */
+    private static final long NEXT_QUESTION_TIMEOUT_MS = 90 * 1000L;
+
     private final ConversationService conversationService;
     private final SseService sseService;
     private final ConversationMessageRepository conversationMessageRepository;
+    private final IdempotencyRegistry idempotencyRegistry;
+    private final SessionCommandMailbox sessionCommands;
+    private final ObjectMapper objectMapper;
 
     /**
      * 새로운 대화 시작
@@ -63,9 +85,13 @@ public class ConversationController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long bookId,
             @PathVariable Long episodeId,
-            HttpServletRequest httpRequest) {
+            HttpServletRequest httpRequest,
+            @RequestHeader(value = IdempotencyRegistry.HEADER, required = false) String idempotencyKey) {
         Long memberId = userDetails.getMemberId();
-        String sessionId = conversationService.startNewConversation(memberId, bookId, episodeId);
+        String sessionId = (idempotencyKey == null || idempotencyKey.isBlank())
+                ? conversationService.startNewConversation(memberId, bookId, episodeId)
+                : idempotencyRegistry.executeSync("conversation:start:" + memberId + ":" + idempotencyKey, true,
+                        () -> conversationService.startNewConversation(memberId, bookId, episodeId));
         Map<String, String> response = Map.of("sessionId", sessionId);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.of(HttpStatus.CREATED, "새로운 대화 세션이 생성되었습니다.", response, httpRequest.getRequestURI()));
@@ -73,16 +99,18 @@ public class ConversationController {
 
     /**
      * 지정된 세션에 대한 SSE 스트림을 "연결"하고 대화를 시작/재개합니다.
+     * 재연결 시 Last-Event-ID 헤더가 있으면 그 이후에 놓친 이벤트만 다시 보냅니다.
      * @param sessionId 대화 세션 ID
      * @return SseEmitter 객체
      */
     @GetMapping(value = "{bookId}/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter stream(@PathVariable String sessionId, @PathVariable Long bookId) {
+    public SseEmitter stream(@PathVariable String sessionId, @PathVariable Long bookId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
         try {
             // ★★★ 2. 기존 서비스 호출 로직을 try 블록 안으로 옮깁니다. ★★★
             // 이 때, 생성한 emitter 객체를 서비스로 전달하여 등록하도록 시그니처를 변경해야 합니다.
-            conversationService.establishConversationStream(sessionId, bookId, emitter);
+            conversationService.establishConversationStream(sessionId, bookId, lastEventId, emitter);
         } catch (Exception e) {
             // ★★★ 3. 서비스 로직에서 예외가 발생하면 여기서 잡습니다. ★★★
             log.error("SSE 스트림 설정 중 에러 발생. sessionId={}", sessionId, e);
@@ -101,6 +129,24 @@ public class ConversationController {
         return emitter;
     }
 
+    /**
+     * Flux 기반 SSE 스트림 연결. 이벤트 형식과 재연결(Last-Event-ID) 처리는 /stream과 같습니다.
+     * 연결마다 스레드나 무제한 버퍼를 잡지 않고, 세션별 bounded 버퍼에서 클라이언트가 읽는 만큼만 내보냅니다.
+     */
+    @GetMapping(value = "{bookId}/{sessionId}/stream/flux", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamFlux(@PathVariable String sessionId, @PathVariable Long bookId,
+                                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return conversationService.openConversationStream(sessionId, bookId, lastEventId);
+        } catch (Exception e) {
+            log.error("SSE 스트림 설정 중 에러 발생. sessionId={}", sessionId, e);
+            return Flux.just(ServerSentEvent.builder()
+                    .event("error")
+                    .data((Object) ("스트림 연결 중 서버 오류가 발생했습니다: " + e.getMessage()))
+                    .build());
+        }
+    }
+
     /**
      * 세션 업데이트
      */
@@ -134,9 +180,15 @@ public class ConversationController {
      */
     @PostMapping("/message")
     public ResponseEntity<ConversationMessageResponse> createMessage(
-            @Valid @RequestBody ConversationMessageRequest req
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody ConversationMessageRequest req,
+            @RequestHeader(value = IdempotencyRegistry.HEADER, required = false) String idempotencyKey
     ) {
-        ConversationMessageResponse res = conversationService.createMessage(req);
+        // 키는 회원 단위로 구분 (다른 회원이 같은 키로 이전 응답을 받아가지 않도록)
+        ConversationMessageResponse res = (idempotencyKey == null || idempotencyKey.isBlank())
+                ? conversationService.createMessage(req)
+                : idempotencyRegistry.executeSync("conversation:message:" + userDetails.getMemberId() + ":"
+                        + req.getSessionId() + ":" + idempotencyKey, true, () -> conversationService.createMessage(req));
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
@@ -150,67 +202,134 @@ public class ConversationController {
         return ResponseEntity.ok(conversationService.getHistory(sessionId));
     }
 
+    /**
+     * 메시지 히스토리 페이지 조회 (messageNo 커서)
+     * 첫 페이지는 after 없이, 다음 페이지는 응답의 nextCursor를 after로 넘깁니다.
+     */
+    @GetMapping("/{sessionId}/history/page")
+    public ResponseEntity<ConversationHistoryPageResponse> getHistoryPage(
+            @PathVariable String sessionId,
+            @RequestParam(required = false) Integer after,
+            @RequestParam(defaultValue = "50") int size) {
+
+        return ResponseEntity.ok(conversationService.getHistoryPage(sessionId, after, size));
+    }
+
+    /**
+     * 메시지 히스토리 전체 스트리밍 (NDJSON: 한 줄에 메시지 하나)
+     * DB 커서로 읽은 메시지를 바로 응답에 써서 긴 세션도 목록 전체를 메모리에 올리지 않습니다.
+     */
+    @GetMapping(value = "/{sessionId}/history/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHistory(
+            @PathVariable String sessionId) {
+
+        StreamingResponseBody body = out -> conversationService.streamHistory(sessionId, message -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(message));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping("{bookId}/episodes/{episodeId}/next")
-    public ResponseEntity<Void> nextQuestion(
+    public DeferredResult<ResponseEntity<ApiResponse<Void>>> nextQuestion(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long bookId,
             @PathVariable Long episodeId,
-            @RequestParam String sessionId
+            @RequestParam String sessionId,
+            @RequestHeader(value = IdempotencyRegistry.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest
     ) {
-        // 1) 서비스에서 다음 질문 꺼내기 - 챕터 기반 모드 우선 시도
-        ConversationSession session = conversationService.getSessionEntity(sessionId);
-        NextQuestionDto nextQuestionDto = null;
-        String next = null;
+        // AI 응답을 기다리는 동안 서블릿 스레드를 반환하고, 완료 시점에 응답을 채웁니다.
+        DeferredResult<ResponseEntity<ApiResponse<Void>>> result = new DeferredResult<>(NEXT_QUESTION_TIMEOUT_MS);
+        String requestUri = httpRequest.getRequestURI();
+        result.onTimeout(() -> {
+            log.warn("다음 질문 응답 대기 시간 초과, 질문은 준비되면 SSE로 전송: sessionId={}", sessionId);
+            result.setResult(ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.of(HttpStatus.ACCEPTED, "질문을 준비하는 중입니다. 준비되면 바로 전송됩니다.",
+                            null, requestUri)));
+        });
         Long memberId = userDetails.getMemberId();
 
-        if (session != null && session.getCurrentChapterId() != null) {
-            // 챕터 기반 모드
-            try {
-                String lastAnswer = conversationService.getLastAnswer(sessionId);
-                nextQuestionDto = conversationService.getNextQuestion(memberId, bookId, episodeId ,sessionId, lastAnswer);
-                if (nextQuestionDto == null) {
-                    log.info("서비스에서 모든 처리를 완료하고 null을 반환했습니다. 컨트롤러는 즉시 종료합니다. SessionId: {}", sessionId);
-                    return ResponseEntity.ok().build();
-                }
-                next = nextQuestionDto.getQuestionText();
+        // 키가 없어도 같은 세션의 "다음" 요청이 진행 중이면 합쳐서 AI 호출/질문 저장이 두 번 일어나지 않게 함
+        boolean retain = idempotencyKey != null && !idempotencyKey.isBlank();
+        String key = "conversation:next:" + memberId + ":" + sessionId + (retain ? ":" + idempotencyKey : "");
 
-            } catch (Exception e) {
-                // 오류시 레거시 모드로 fallback
-                e.printStackTrace();
-                return ResponseEntity.internalServerError().build();
-            }
-        } else {
+        // 같은 세션의 건너뛰기/SSE 초기화와 겹치지 않도록 세션 메일박스에서 한 턴 전체를 실행
+        idempotencyRegistry.execute(key, retain, () -> sessionCommands.submitAsync(sessionId,
+                        () -> processNextQuestion(memberId, bookId, episodeId, sessionId)))
+                .whenComplete((response, failure) -> {
+                    Throwable ex = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure;
+                    if (ex instanceof ApiException apiException) {
+                        log.warn("다음 질문 요청 거절: sessionId={}, reason={}", sessionId, apiException.getMessage());
+                        result.setErrorResult(apiException);
+                        return;
+                    }
+                    if (ex != null) {
+                        log.error("다음 질문 생성 실패: sessionId={}", sessionId, ex);
+                        result.setErrorResult(new ApiException(ErrorCode.INTERNAL_SERVER_ERROR));
+                        return;
+                    }
+                    result.setResult(response);
+                });
+        return result;
+    }
+
+    private CompletableFuture<ResponseEntity<ApiResponse<Void>>> processNextQuestion(
+            Long memberId, Long bookId, Long episodeId, String sessionId) {
+        // 1) 서비스에서 다음 질문 꺼내기 - 챕터 기반 모드 우선 시도
+        ConversationSession session = conversationService.getSessionEntity(sessionId);
+
+        if (session == null || session.getCurrentChapterId() == null) {
             log.error("챕터 기반 대화가 시작되지 않은 세션입니다. SessionId: {}", sessionId);
-            return ResponseEntity.badRequest().build();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
 
-        if (next != null) {
-            // 2) DB에 QUESTION 메시지 저장
-            conversationService.createMessage(
-                    ConversationMessageRequest.builder()
-                            .sessionId(sessionId)
-                            .messageType(MessageType.QUESTION)
-                            .content(next)
-                            .build()
-            );
-
-            // 3) SSE로 클라이언트에 푸시 (챕터 정보 포함)
-            QuestionResponse.QuestionResponseBuilder responseBuilder = QuestionResponse.builder()
-                    .text(next);
-
-            if (nextQuestionDto != null) {
-                responseBuilder
-                        .currentChapter(nextQuestionDto.getCurrentChapterName())
-                        .currentStage(nextQuestionDto.getCurrentStageName())
-                        .questionType(nextQuestionDto.getQuestionType())
-                        .overallProgress(nextQuestionDto.getOverallProgress())
-                        .chapterProgress(nextQuestionDto.getChapterProgress())
-                        .isLastQuestion(nextQuestionDto.isLastQuestion());
-            }
+        String lastAnswer = conversationService.getLastAnswer(sessionId);
+        return conversationService.getNextQuestion(memberId, bookId, episodeId, sessionId, lastAnswer)
+                .thenApply(nextQuestionDto -> {
+                    if (nextQuestionDto == null) {
+                        log.info("서비스에서 모든 처리를 완료하고 null을 반환했습니다. 컨트롤러는 즉시 종료합니다. SessionId: {}", sessionId);
+                        return ResponseEntity.ok().build();
+                    }
+                    pushNextQuestion(sessionId, nextQuestionDto);
+                    return ResponseEntity.ok().build();
+                });
+    }
 
-            sseService.pushQuestion(sessionId, responseBuilder.build());
+    private void pushNextQuestion(String sessionId, NextQuestionDto nextQuestionDto) {
+        String next = nextQuestionDto.getQuestionText();
+        if (next == null) {
+            return;
         }
-        return ResponseEntity.ok().build();
+
+        // 2) DB에 QUESTION 메시지 저장
+        conversationService.createMessage(
+                ConversationMessageRequest.builder()
+                        .sessionId(sessionId)
+                        .messageType(MessageType.QUESTION)
+                        .content(next)
+                        .build()
+        );
+
+        // 3) SSE로 클라이언트에 푸시 (챕터 정보 포함)
+        QuestionResponse response = QuestionResponse.builder()
+                .text(next)
+                .currentChapter(nextQuestionDto.getCurrentChapterName())
+                .currentStage(nextQuestionDto.getCurrentStageName())
+                .questionType(nextQuestionDto.getQuestionType())
+                .overallProgress(nextQuestionDto.getOverallProgress())
+                .chapterProgress(nextQuestionDto.getChapterProgress())
+                .isLastQuestion(nextQuestionDto.isLastQuestion())
+                .build();
+
+        sseService.pushQuestion(sessionId, response);
     }
 
     /**
@@ -229,10 +348,14 @@ public class ConversationController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long bookId,
             @PathVariable Long episodeId,
-            @RequestParam String sessionId
+            @RequestParam String sessionId,
+            @RequestHeader(value = IdempotencyRegistry.HEADER, required = false) String idempotencyKey
     ) {
         Long memberId = userDetails.getMemberId();
-        conversationService.skipCurrentQuestion(memberId, bookId, episodeId, sessionId);
+        boolean retain = idempotencyKey != null && !idempotencyKey.isBlank();
+        String key = "conversation:skip:" + memberId + ":" + sessionId + (retain ? ":" + idempotencyKey : "");
+        idempotencyRegistry.executeSync(key, retain, () -> sessionCommands.call(sessionId,
+                () -> conversationService.skipCurrentQuestion(memberId, bookId, episodeId, sessionId)));
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,24 @@
+package com.c203.autobiography.domain.episode.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "대화 히스토리 페이지 응답 DTO (messageNo 기준 커서)")
+public class ConversationHistoryPageResponse {
+    @Schema(description = "messageNo 오름차순 메시지 목록")
+    private List<ConversationMessageResponse> messages;
+
+    @Schema(description = "다음 페이지 요청 시 after로 넘길 값 (마지막 메시지의 messageNo)", example = "120")
+    private Integer nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -45,6 +45,9 @@ public class EpisodeResponse {
     @Schema(description = "수정일시")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "AI 에피소드 생성 작업 상태 (QUEUED/RUNNING/DONE/FAILED, SSE episode 이벤트에서만 사용)", nullable = true)
+    private String generationStatus;
+
     public static EpisodeResponse of(Episode e){
         return EpisodeResponse.builder()
                 .episodeId(e.getEpisodeId())
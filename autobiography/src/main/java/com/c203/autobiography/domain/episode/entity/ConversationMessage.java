@@ -8,9 +8,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,7 +21,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "conversation_messages")
+@Table(
+        name = "conversation_messages",
+        uniqueConstraints = {
+                // 세션 안에서 message_no는 하나만 (동시 저장 시 번호 중복 방지, 히스토리 키셋 페이지 인덱스 겸용)
+                @UniqueConstraint(name = "uk_cm__session_message_no", columnNames = {"session_id", "message_no"})
+        },
+        indexes = {
+                // 세션의 최근 답변/질문 조회, 요약 대상 답변 수 집계
+                @Index(name = "idx_cm__session_type_message_no", columnList = "session_id, message_type, message_no")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -10,6 +10,7 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import java.util.Deque;
 import lombok.AccessLevel;
@@ -63,7 +64,8 @@ public class ConversationSession {
     @Column(name = "status", nullable = false)
     private SessionStatus status;
 
-    @Column(name = "token_count", nullable = false)
+    // 누적 UPDATE(token_count = token_count + ?)로만 갱신하므로 엔티티 저장 시에는 쓰지 않음
+    @Column(name = "token_count", nullable = false, updatable = false)
     private Long tokenCount;
 
     @Column(name = "last_message_at")
@@ -72,6 +74,11 @@ public class ConversationSession {
     @Column(name = "episode_start_message_no")
     private Integer episodeStartMessageNo;
 
+    // 낙관적 잠금: 다른 요청이 먼저 저장한 상태를 덮어쓰지 않도록 (기존 행은 0으로 채움)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
 
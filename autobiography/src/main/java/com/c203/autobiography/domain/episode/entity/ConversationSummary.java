@@ -0,0 +1,58 @@
+package com.c203.autobiography.domain.episode.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 세션별 누적 대화 요약. upToMessageNo까지의 메시지가 summary에 반영되어 있습니다.
+ * (세션 엔티티와 분리해 두어, 세션 상태 저장과 요약 갱신이 서로의 값을 덮어쓰지 않도록 함)
+ */
+@Entity
+@Table(name = "conversation_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ConversationSummary {
+
+    @Id
+    @Column(name = "session_id", length = 36)
+    private String sessionId;
+
+    @Column(name = "summary", columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    // 요약이 시작된 메시지 번호 (에피소드 구간 시작점과 다르면 이전 챕터의 요약)
+    @Column(name = "from_message_no", nullable = false)
+    private Integer fromMessageNo;
+
+    @Column(name = "up_to_message_no", nullable = false)
+    private Integer upToMessageNo;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
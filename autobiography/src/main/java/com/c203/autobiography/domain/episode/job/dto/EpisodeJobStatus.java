@@ -0,0 +1,11 @@
+package com.c203.autobiography.domain.episode.job.dto;
+
+/**
+ * 에피소드 생성 작업 상태 (SSE episode 이벤트의 generationStatus로도 전송)
+ */
+public enum EpisodeJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,141 @@
+package com.c203.autobiography.domain.episode.job.entity;
+
+import com.c203.autobiography.domain.episode.job.dto.EpisodeJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 챕터 종료 시 에피소드 생성 작업.
+ * AI 원본 응답(rawResult)을 파싱 전에 먼저 저장하므로, 저장 도중 서버가 재시작돼도 생성된 챕터를 잃지 않습니다.
+ */
+@Entity
+@Table(
+        name = "episode_generation_job",
+        indexes = {
+                @Index(name = "idx_episode_job__status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_episode_job__session_id", columnList = "session_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EpisodeGenerationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "session_id", length = 36, nullable = false)
+    private String sessionId;
+
+    @Column(name = "episode_id", nullable = false)
+    private Long episodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EpisodeJobStatus status;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "raw_result", columnDefinition = "TEXT")
+    private String rawResult;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 실행 중인 워커가 주기적으로 갱신하는 lease 시각. 갱신이 끊긴 RUNNING 작업은 다시 대기열로 돌아갑니다.
+     * (엔티티 저장으로 덮어쓰지 않도록 벌크 쿼리로만 갱신)
+     */
+    @Column(name = "heartbeat_at", insertable = false, updatable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static EpisodeGenerationJob queued(String sessionId, Long episodeId) {
+        return EpisodeGenerationJob.builder()
+                .sessionId(sessionId)
+                .episodeId(episodeId)
+                .status(EpisodeJobStatus.QUEUED)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void recordRawResult(String rawResult) {
+        this.rawResult = rawResult;
+    }
+
+    public void complete() {
+        this.status = EpisodeJobStatus.DONE;
+        this.lastError = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 후 재시도 예약. 파싱 실패처럼 원본 응답 자체가 문제인 경우 discardRawResult=true로 다시 생성합니다.
+     */
+    public void retryAt(LocalDateTime nextAttemptAt, String error, boolean discardRawResult) {
+        this.status = EpisodeJobStatus.QUEUED;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        if (discardRawResult) {
+            this.rawResult = null;
+        }
+    }
+
+    public void fail(String error) {
+        this.status = EpisodeJobStatus.FAILED;
+        this.lastError = truncate(error);
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+
+    @PrePersist
+    protected void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
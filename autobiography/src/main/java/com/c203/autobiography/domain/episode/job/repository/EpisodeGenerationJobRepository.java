@@ -0,0 +1,62 @@
+package com.c203.autobiography.domain.episode.job.repository;
+
+import com.c203.autobiography.domain.episode.job.dto.EpisodeJobStatus;
+import com.c203.autobiography.domain.episode.job.entity.EpisodeGenerationJob;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EpisodeGenerationJobRepository extends JpaRepository<EpisodeGenerationJob, Long> {
+
+    // 실행 시각이 된 대기 작업 (오래된 순)
+    @Query("""
+   SELECT j.jobId FROM EpisodeGenerationJob j
+    WHERE j.status = :status AND j.nextAttemptAt <= :now
+    ORDER BY j.jobId
+""")
+    List<Long> findDueJobIds(EpisodeJobStatus status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * QUEUED → RUNNING 선점. 여러 워커(인스턴스)가 같은 작업을 잡아도 한 곳만 1을 돌려받습니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+   UPDATE EpisodeGenerationJob j
+      SET j.status = :running, j.attempts = j.attempts + 1, j.startedAt = :now, j.heartbeatAt = :now,
+          j.updatedAt = :now
+    WHERE j.jobId = :jobId AND j.status = :queued
+""")
+    int claim(Long jobId, EpisodeJobStatus queued, EpisodeJobStatus running, LocalDateTime now);
+
+    /**
+     * 이 워커에서 실행 중인 작업의 lease 갱신
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+   UPDATE EpisodeGenerationJob j
+      SET j.heartbeatAt = :now
+    WHERE j.jobId IN :jobIds AND j.status = :running
+""")
+    int heartbeat(Collection<Long> jobIds, EpisodeJobStatus running, LocalDateTime now);
+
+    /**
+     * lease가 끊긴 RUNNING 작업(서버 중단, 실패 처리 중 저장 오류 등)을 다시 대기 상태로 돌립니다.
+     * heartbeat_at이 없는 이전 작업은 started_at으로 판단합니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+   UPDATE EpisodeGenerationJob j
+      SET j.status = :queued, j.nextAttemptAt = :now, j.updatedAt = :now
+    WHERE j.status = :running AND COALESCE(j.heartbeatAt, j.startedAt) < :leaseExpiredBefore
+""")
+    int requeueStale(EpisodeJobStatus running, EpisodeJobStatus queued, LocalDateTime leaseExpiredBefore,
+                     LocalDateTime now);
+}
@@ -0,0 +1,112 @@
+package com.c203.autobiography.domain.episode.job.service;
+
+import com.c203.autobiography.domain.episode.dto.EpisodeResponse;
+import com.c203.autobiography.domain.episode.job.dto.EpisodeJobStatus;
+import com.c203.autobiography.domain.episode.job.entity.EpisodeGenerationJob;
+import com.c203.autobiography.domain.episode.job.repository.EpisodeGenerationJobRepository;
+import com.c203.autobiography.domain.episode.job.service.EpisodeResultParser.EpisodeDraft;
+import com.c203.autobiography.domain.episode.service.EpisodeService;
+import com.c203.autobiography.domain.sse.service.SseService;
+import com.c203.autobiography.global.exception.ApiException;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에피소드 생성 작업 1건 실행: 선점 → AI 생성 → 원본 저장 → 파싱 → 에피소드 저장.
+ * 실패하면 지수 백오프로 재시도하고, maxAttempts를 넘으면 FAILED로 끝냅니다.
+ * 상태가 바뀔 때마다 SSE episode 이벤트(generationStatus)로 알립니다.
+ */
+@Slf4j
+@Component
+public class EpisodeJobProcessor {
+
+    private final EpisodeGenerationJobRepository jobRepository;
+    private final EpisodeService episodeService;
+    private final EpisodeResultParser resultParser;
+    private final SseService sseService;
+    private final int maxAttempts;
+    private final long retryBackoffSec;
+
+    public EpisodeJobProcessor(
+            EpisodeGenerationJobRepository jobRepository,
+            EpisodeService episodeService,
+            EpisodeResultParser resultParser,
+            SseService sseService,
+            @Value("${episode.job.max-attempts:3}") int maxAttempts,
+            @Value("${episode.job.retry-backoff-sec:10}") long retryBackoffSec) {
+        this.jobRepository = jobRepository;
+        this.episodeService = episodeService;
+        this.resultParser = resultParser;
+        this.sseService = sseService;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffSec = retryBackoffSec;
+    }
+
+    public void process(Long jobId) {
+        if (jobRepository.claim(jobId, EpisodeJobStatus.QUEUED, EpisodeJobStatus.RUNNING, LocalDateTime.now()) == 0) {
+            return; // 다른 워커가 이미 가져감
+        }
+        EpisodeGenerationJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("에피소드 생성 작업을 찾을 수 없습니다: " + jobId));
+        pushStatus(job, EpisodeJobStatus.RUNNING);
+        log.info("에피소드 생성 작업 시작: jobId={}, sessionId={}, attempt={}",
+                jobId, job.getSessionId(), job.getAttempts());
+
+        boolean parseFailed = false;
+        try {
+            String raw = job.getRawResult();
+            if (raw == null) {
+                raw = episodeService.generateEpisodeText(job.getSessionId());
+                // 파싱/저장 전에 원본부터 저장 (재시작 시 AI를 다시 호출하지 않도록)
+                job.recordRawResult(raw);
+                job = jobRepository.save(job);
+            }
+
+            EpisodeDraft draft;
+            try {
+                draft = resultParser.parse(raw);
+            } catch (ApiException e) {
+                parseFailed = true;
+                throw e;
+            }
+            EpisodeResponse saved = episodeService.saveEpisodeWithAiResult(
+                    job.getEpisodeId(), draft.title(), draft.content());
+
+            job.complete();
+            jobRepository.save(job);
+
+            saved.setGenerationStatus(EpisodeJobStatus.DONE.name());
+            sseService.pushEpisode(job.getSessionId(), saved);
+            log.info("✅ 에피소드 생성 작업 완료: jobId={}, episodeId={}", jobId, job.getEpisodeId());
+        } catch (Exception e) {
+            handleFailure(job, e, parseFailed);
+        }
+    }
+
+    private void handleFailure(EpisodeGenerationJob job, Exception e, boolean parseFailed) {
+        String error = e instanceof ApiException api ? api.getErrorCode().name() : e.getMessage();
+        if (job.getAttempts() < maxAttempts) {
+            long delaySec = retryBackoffSec * (1L << (job.getAttempts() - 1));
+            job.retryAt(LocalDateTime.now().plusSeconds(delaySec), error, parseFailed);
+            jobRepository.save(job);
+            log.warn("에피소드 생성 작업 실패, {}초 후 재시도: jobId={}, attempt={}, error={}",
+                    delaySec, job.getJobId(), job.getAttempts(), error);
+            pushStatus(job, EpisodeJobStatus.QUEUED);
+        } else {
+            job.fail(error);
+            jobRepository.save(job);
+            log.error("에피소드 생성 작업 최종 실패: jobId={}, sessionId={}, error={}",
+                    job.getJobId(), job.getSessionId(), error);
+            pushStatus(job, EpisodeJobStatus.FAILED);
+        }
+    }
+
+    void pushStatus(EpisodeGenerationJob job, EpisodeJobStatus status) {
+        sseService.pushEpisode(job.getSessionId(), EpisodeResponse.builder()
+                .episodeId(job.getEpisodeId())
+                .generationStatus(status.name())
+                .build());
+    }
+}
@@ -0,0 +1,12 @@
+package com.c203.autobiography.domain.episode.job.service;
+
+/**
+ * 챕터 종료 에피소드 생성을 백그라운드 작업으로 등록합니다.
+ */
+public interface EpisodeJobService {
+
+    /**
+     * 작업을 DB에 QUEUED로 저장하고 워커 풀에 넘깁니다. AI 생성 완료를 기다리지 않고 jobId를 바로 반환합니다.
+     */
+    Long enqueue(String sessionId, Long episodeId);
+}
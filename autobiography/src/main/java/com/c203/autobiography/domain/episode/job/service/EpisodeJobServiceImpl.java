@@ -0,0 +1,40 @@
+package com.c203.autobiography.domain.episode.job.service;
+
+import com.c203.autobiography.domain.episode.job.dto.EpisodeJobStatus;
+import com.c203.autobiography.domain.episode.job.entity.EpisodeGenerationJob;
+import com.c203.autobiography.domain.episode.job.repository.EpisodeGenerationJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EpisodeJobServiceImpl implements EpisodeJobService {
+
+    private final EpisodeGenerationJobRepository jobRepository;
+    private final EpisodeJobWorker worker;
+    private final EpisodeJobProcessor processor;
+
+    @Override
+    public Long enqueue(String sessionId, Long episodeId) {
+        EpisodeGenerationJob job = jobRepository.save(EpisodeGenerationJob.queued(sessionId, episodeId));
+        log.info("에피소드 생성 작업 등록: jobId={}, sessionId={}, episodeId={}", job.getJobId(), sessionId, episodeId);
+        processor.pushStatus(job, EpisodeJobStatus.QUEUED);
+
+        // 호출부 트랜잭션 안이라면 커밋된 뒤에 제출 (워커가 아직 보이지 않는 행을 읽지 않도록)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    worker.submit(job.getJobId());
+                }
+            });
+        } else {
+            worker.submit(job.getJobId());
+        }
+        return job.getJobId();
+    }
+}
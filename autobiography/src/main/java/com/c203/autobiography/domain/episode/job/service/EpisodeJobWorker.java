@@ -0,0 +1,105 @@
+package com.c203.autobiography.domain.episode.job.service;
+
+import com.c203.autobiography.domain.episode.job.dto.EpisodeJobStatus;
+import com.c203.autobiography.domain.episode.job.repository.EpisodeGenerationJobRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에피소드 생성 작업용 고정 크기 워커 풀.
+ * 새 작업은 enqueue 직후 바로 제출하고, 풀이 가득 찼거나 재시도 예약/재시작으로 남은 작업은 주기적 폴링으로 가져갑니다.
+ *
+ * - 폴링마다 이 워커에서 실행 중인 작업의 lease(heartbeat_at)를 갱신하고,
+ *   lease가 lease-sec 넘게 끊긴 RUNNING 작업은 다시 QUEUED로 돌립니다. (서버가 곧바로 재시작되거나 실패 처리 저장이 실패해도 복구)
+ *
+ * Executor 빈으로 등록하면 스프링 기본 @Async 실행기가 비활성화되므로 컴포넌트 내부에만 보관합니다.
+ */
+@Slf4j
+@Component
+public class EpisodeJobWorker {
+
+    private final EpisodeGenerationJobRepository jobRepository;
+    private final EpisodeJobProcessor processor;
+    private final ThreadPoolTaskExecutor executor;
+    private final int pollBatchSize;
+    private final long leaseSec;
+    // 이미 풀에 들어간 작업 (폴링으로 중복 제출하지 않도록)
+    private final Set<Long> submitted = ConcurrentHashMap.newKeySet();
+
+    public EpisodeJobWorker(
+            EpisodeGenerationJobRepository jobRepository,
+            EpisodeJobProcessor processor,
+            @Value("${episode.job.workers:2}") int workers,
+            @Value("${episode.job.queue-capacity:50}") int queueCapacity,
+            @Value("${episode.job.poll-batch-size:10}") int pollBatchSize,
+            @Value("${episode.job.lease-sec:60}") long leaseSec) {
+        this.jobRepository = jobRepository;
+        this.processor = processor;
+        this.pollBatchSize = pollBatchSize;
+        this.leaseSec = leaseSec;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("episode-job-");
+        // 가득 차면 거절 → 작업은 DB에 QUEUED로 남아 다음 폴링에서 다시 시도
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+    }
+
+    public void submit(Long jobId) {
+        if (!submitted.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    processor.process(jobId);
+                } catch (Exception e) {
+                    log.error("에피소드 생성 작업 실행 중 예외: jobId={}", jobId, e);
+                } finally {
+                    submitted.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            submitted.remove(jobId);
+            log.info("에피소드 작업 풀이 가득 차 다음 폴링에서 처리합니다: jobId={}", jobId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${episode.job.poll-interval-ms:5000}")
+    public void pollDueJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!submitted.isEmpty()) {
+            jobRepository.heartbeat(List.copyOf(submitted), EpisodeJobStatus.RUNNING, now);
+        }
+        int requeued = jobRepository.requeueStale(EpisodeJobStatus.RUNNING, EpisodeJobStatus.QUEUED,
+                now.minusSeconds(leaseSec), now);
+        if (requeued > 0) {
+            log.info("lease가 끊긴 에피소드 생성 작업 {}건을 다시 대기열에 넣었습니다.", requeued);
+        }
+
+        List<Long> due = jobRepository.findDueJobIds(EpisodeJobStatus.QUEUED, now,
+                PageRequest.of(0, pollBatchSize));
+        due.forEach(this::submit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
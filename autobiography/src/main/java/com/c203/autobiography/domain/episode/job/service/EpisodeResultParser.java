@@ -0,0 +1,149 @@
+package com.c203.autobiography.domain.episode.job.service;
+
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에피소드 생성 AI 응답에서 {"title", "content"}를 꺼냅니다.
+ * 코드블록, 이중 인코딩된 JSON 문자열, chat 래퍼/tool_calls 형태를 모두 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EpisodeResultParser {
+
+    private final ObjectMapper objectMapper;
+
+    public record EpisodeDraft(String title, String content) {
+    }
+
+    /**
+     * 파싱할 수 없거나 제목/본문이 비어 있으면 ApiException(INVALID_FILE_FORMAT)
+     */
+    public EpisodeDraft parse(String rawApiResponse) {
+        try {
+            String innerJsonContent = extractAssistantText(rawApiResponse);
+            if (innerJsonContent == null) {
+                throw new ApiException(ErrorCode.INVALID_FILE_FORMAT);
+            }
+            JsonNode finalNode = objectMapper.readTree(cleanInnerJsonText(innerJsonContent));
+            String title = finalNode.path("title").asText(null);
+            String content = finalNode.path("content").asText(null);
+            if (title == null || content == null) {
+                log.error("AI 결과에서 제목 또는 콘텐츠가 누락되었습니다.");
+                throw new ApiException(ErrorCode.INVALID_FILE_FORMAT);
+            }
+            return new EpisodeDraft(title, content);
+        } catch (JsonProcessingException e) {
+            log.warn("에피소드 AI 응답 파싱 실패: {}", e.getOriginalMessage());
+            throw new ApiException(ErrorCode.INVALID_FILE_FORMAT);
+        }
+    }
+
+    // 문자열 전처리 헬퍼 메소드
+    private static String cleanInnerJsonText(String text) {
+        if (text == null) {
+            return null;
+        }
+        // ```json ... ``` 만 제거 (본문만 정리)
+        String trimmed = text.trim();
+        if (trimmed.startsWith("```")) {
+            trimmed = trimmed.replaceFirst("^```(?:json)?\\s*", "");
+            trimmed = trimmed.replaceFirst("\\s*```\\s*$", "");
+        }
+        return trimmed.trim();
+    }
+
+    private String extractAssistantText(String raw) throws JsonProcessingException {
+        if (raw == null) {
+            return null;
+        }
+        String t = raw.trim();
+
+        // 0) 백틱 코드블록 제거(있다면)
+        if (t.startsWith("```")) {
+            t = cleanInnerJsonText(t);
+        }
+
+        // 0-1) 이미 {"title": "...", "content": "..."} 형태로 온 경우 바로 통과
+        if (t.startsWith("{") && t.endsWith("}")) {
+            try {
+                JsonNode node = objectMapper.readTree(t);
+                if (node.has("title") && node.has("content")) {
+                    return t; // 이미 최종 JSON
+                }
+            } catch (Exception ignore) {
+            }
+        }
+
+        // 0-2) 응답이 이중 인코딩된 JSON 문자열인 경우 처리 ( "{"title":".."}" )
+        if (t.startsWith("\"") && t.endsWith("\"")) {
+            try {
+                JsonNode asTextNode = objectMapper.readTree(t);
+                if (asTextNode.isTextual()) {
+                    String unquoted = asTextNode.asText().trim();
+                    if (unquoted.startsWith("{") && unquoted.endsWith("}")) {
+                        JsonNode node2 = objectMapper.readTree(unquoted);
+                        if (node2.has("title") && node2.has("content")) {
+                            return unquoted;
+                        }
+                        // 래퍼일 수도 있으니 아래 일반 흐름으로 계속 진행
+                        t = unquoted;
+                    }
+                }
+            } catch (Exception ignore) {
+            }
+        }
+
+        // 1) OpenAI chat 랩퍼에서 추출
+        JsonNode root = objectMapper.readTree(t);
+
+        JsonNode msg = root.path("choices").path(0).path("message");
+
+        // 1-1) content가 문자열
+        JsonNode content = msg.get("content");
+        if (content != null && !content.isNull()) {
+            if (content.isTextual()) {
+                return content.asText();
+            }
+
+            // 1-2) content가 배열(Responses 스타일)
+            if (content.isArray()) {
+                StringBuilder sb = new StringBuilder();
+                for (JsonNode part : content) {
+                    if (part.hasNonNull("text")) {
+                        sb.append(part.get("text").asText());
+                    } else if (part.hasNonNull("output_text")) {
+                        sb.append(part.get("output_text").asText());
+                    }
+                }
+                if (sb.length() > 0) {
+                    return sb.toString();
+                }
+            }
+        }
+        // 1-3) content가 객체 { type, text } 형태인 경우
+        if (content != null && content.isObject()) {
+            if (content.hasNonNull("text")) {
+                return content.get("text").asText();
+            }
+            if (content.hasNonNull("output_text")) {
+                return content.get("output_text").asText();
+            }
+        }
+
+        // 2) tool_calls(function.arguments)에 JSON이 담긴 경우
+        JsonNode toolArgs = msg.path("tool_calls").path(0).path("function").path("arguments");
+        if (!toolArgs.isMissingNode() && !toolArgs.isNull()) {
+            return toolArgs.isTextual() ? toolArgs.asText() : toolArgs.toString();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,187 @@
+package com.c203.autobiography.domain.episode.migration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * conversation_messages(session_id, message_no) unique 제약 마이그레이션.
+ * 예전 max+1 번호 발급으로 같은 번호가 중복된 행이 있으면 ddl-auto=update의 ALTER가 실패하고 로그만 남으므로,
+ * 스키마 갱신(EntityManagerFactory 생성) 직후 제약이 없으면 중복을 다시 번호 매긴 뒤 제약을 추가합니다.
+ *
+ * - 세션 안의 순서(message_no, message_id)는 유지하고, 중복된 행 뒤의 번호를 그만큼 뒤로 밉니다.
+ * - 번호를 기준으로 삼는 세션의 에피소드 시작 번호와 요약 구간도 같은 규칙으로 옮깁니다. (세션 version 증가)
+ * - 끝난 뒤에도 제약이 없으면 시작을 실패시킵니다. (번호 충돌 재시도/개별 저장 fallback이 제약에 의존)
+ * - 여러 서버가 함께 시작해도 MySQL GET_LOCK으로 한 서버만 실행하고, 잠금을 얻은 뒤 제약을 다시 확인합니다.
+ * - 기본은 꺼져 있습니다. 제약이 없는 기존 DB에서 한 번 켜고 배포한 뒤 다시 끕니다.
+ */
+@Slf4j
+@Component
+public class MessageNoConstraintMigration {
+
+    private static final String TABLE = "conversation_messages";
+    private static final String CONSTRAINT = "uk_cm__session_message_no";
+    private static final String LOCK_NAME = "autobiography.migration." + CONSTRAINT;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int lockTimeoutSec;
+
+    // 스키마 갱신이 끝난 뒤 실행되도록 EntityManagerFactory에 의존
+    public MessageNoConstraintMigration(
+            EntityManagerFactory entityManagerFactory,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${conversation.message-no.migrate-constraint:false}") boolean enabled,
+            @Value("${conversation.message-no.migrate-lock-timeout-sec:600}") int lockTimeoutSec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.lockTimeoutSec = lockTimeoutSec;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!enabled || hasConstraint()) {
+            return;
+        }
+        // GET_LOCK은 DB 연결 단위라 잠금/작업/해제가 같은 연결을 쓰도록 한 트랜잭션 안에서 실행
+        // (ALTER는 암묵적으로 커밋하지만 잠금은 연결이 유지되는 동안 남아 있음)
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer locked = jdbcTemplate.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class,
+                    LOCK_NAME, lockTimeoutSec);
+            if (locked == null || locked != 1) {
+                // 다른 서버가 아직 실행 중이거나 실패함: 그 사이 끝났으면 그대로 진행
+                requireConstraint("마이그레이션 잠금을 얻지 못했습니다.");
+                return;
+            }
+            try {
+                migrateLocked();
+            } finally {
+                jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+            }
+        });
+    }
+
+    private void migrateLocked() {
+        if (hasConstraint()) {
+            log.info("{}.{} 제약은 다른 서버가 이미 추가했습니다.", TABLE, CONSTRAINT);
+            return;
+        }
+        log.warn("{}.{} 제약이 없습니다. 중복 번호를 정리한 뒤 추가합니다.", TABLE, CONSTRAINT);
+
+        int renumbered = renumberDuplicates();
+        log.info("중복 message_no 정리 완료: {}개 세션", renumbered);
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + CONSTRAINT
+                    + " UNIQUE (session_id, message_no)");
+        } catch (DataAccessException e) {
+            // 잠금 없이 실행된 다른 경로(ddl-auto 등)가 먼저 만든 경우는 그대로 진행
+            log.warn("{}.{} 제약 추가 실패, 이미 있는지 확인합니다: {}", TABLE, CONSTRAINT, e.getMessage());
+        }
+        requireConstraint("제약을 만들지 못했습니다.");
+        log.info("{}.{} 제약 추가 완료", TABLE, CONSTRAINT);
+    }
+
+    private void requireConstraint(String message) {
+        if (!hasConstraint()) {
+            throw new IllegalStateException(TABLE + "." + CONSTRAINT + " " + message);
+        }
+    }
+
+    private boolean hasConstraint() {
+        Boolean found = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            DatabaseMetaData meta = con.getMetaData();
+            try (ResultSet rs = meta.getIndexInfo(con.getCatalog(), con.getSchema(), TABLE, true, false)) {
+                while (rs.next()) {
+                    if (CONSTRAINT.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    private int renumberDuplicates() {
+        List<String> sessionIds = jdbcTemplate.queryForList("""
+                SELECT DISTINCT d.session_id FROM (
+                    SELECT session_id FROM conversation_messages
+                     GROUP BY session_id, message_no
+                    HAVING COUNT(*) > 1
+                ) d
+                """, String.class);
+        for (String sessionId : sessionIds) {
+            renumberSession(sessionId);
+        }
+        return sessionIds.size();
+    }
+
+    private void renumberSession(String sessionId) {
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT message_id, message_no FROM conversation_messages WHERE session_id = ? "
+                        + "ORDER BY message_no, message_id",
+                (rs, i) -> new long[]{rs.getLong("message_id"), rs.getInt("message_no")},
+                sessionId);
+
+        // 같은 번호의 두 번째 이후 행(추가 행)의 원래 번호. 이 행들만큼 뒤의 번호가 밀림
+        List<Integer> extras = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        long previousNo = Long.MIN_VALUE;
+        for (long[] row : rows) {
+            int oldNo = (int) row[1];
+            if (oldNo == previousNo) {
+                extras.add(oldNo);
+            }
+            previousNo = oldNo;
+            int newNo = oldNo + extras.size();
+            if (newNo != oldNo) {
+                updates.add(new Object[]{newNo, row[0]});
+            }
+        }
+        // 아직 unique 제약이 없으므로 갱신 순서는 상관없음
+        jdbcTemplate.batchUpdate("UPDATE conversation_messages SET message_no = ? WHERE message_id = ?", updates);
+
+        for (Integer start : jdbcTemplate.queryForList(
+                "SELECT episode_start_message_no FROM conversation_sessions WHERE session_id = ?",
+                Integer.class, sessionId)) {
+            if (start != null && shift(extras, start, false) != start) {
+                jdbcTemplate.update("UPDATE conversation_sessions SET episode_start_message_no = ?, "
+                        + "version = version + 1 WHERE session_id = ?", shift(extras, start, false), sessionId);
+            }
+        }
+        for (int[] range : jdbcTemplate.query(
+                "SELECT from_message_no, up_to_message_no FROM conversation_summaries WHERE session_id = ?",
+                (rs, i) -> new int[]{rs.getInt(1), rs.getInt(2)}, sessionId)) {
+            jdbcTemplate.update("UPDATE conversation_summaries SET from_message_no = ?, up_to_message_no = ? "
+                    + "WHERE session_id = ?", shift(extras, range[0], false), shift(extras, range[1], true), sessionId);
+        }
+        log.info("message_no 재정렬: sessionId={}, 중복 {}건, 변경 {}건", sessionId, extras.size(), updates.size());
+    }
+
+    /**
+     * 원래 번호 no가 옮겨질 번호. 구간 시작은 그 번호의 첫 행, 구간 끝(inclusive)은 마지막 행 기준.
+     */
+    private static int shift(List<Integer> extras, int no, boolean inclusiveEnd) {
+        int before = 0;
+        for (int extra : extras) {
+            if (extra < no || (inclusiveEnd && extra == no)) {
+                before++;
+            }
+        }
+        return no + before;
+    }
+}
@@ -2,12 +2,21 @@ package com.c203.autobiography.domain.episode.repository;
 
 import com.c203.autobiography.domain.episode.dto.MessageType;
 import com.c203.autobiography.domain.episode.entity.ConversationMessage;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ConversationMessageRepository extends JpaRepository<ConversationMessage, Long> {
+    // MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 (useCursorFetch 없이) 행을 하나씩 흘려 읽음.
+    // 풀 전체에 서버 prepared statement를 강제하는 useCursorFetch 대신 이 쿼리에만 적용
+    int STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+
     List<ConversationMessage> findBySessionIdOrderByMessageNo(String sessionId);
 
     Optional<ConversationMessage> findTopBySessionIdOrderByMessageNoDesc(String sessionId);
@@ -18,11 +27,33 @@ public interface ConversationMessageRepository extends JpaRepository<Conversatio
     List<ConversationMessage> findBySessionIdAndMessageNoBetweenOrderByMessageNo(
             String sessionId, Integer startInclusive, Integer endInclusive);
 
+    // 키셋 페이지: afterMessageNo 다음부터 (session_id, message_no) 인덱스 순서대로
+    List<ConversationMessage> findBySessionIdAndMessageNoGreaterThanOrderByMessageNo(
+            String sessionId, Integer afterMessageNo, Pageable pageable);
+
+    // 행 단위 스트리밍: 전체를 메모리에 올리지 않고 읽음 (트랜잭션 안에서 사용 후 close).
+    // 다 읽거나 닫기 전에는 같은 연결로 다른 쿼리를 실행할 수 없으므로, 읽는 동안 지연 로딩/추가 조회를 하지 않아야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select m from ConversationMessage m
+             where m.sessionId = :sessionId
+               and m.messageNo between :startInclusive and :endInclusive
+             order by m.messageNo
+            """)
+    Stream<ConversationMessage> streamBySessionIdAndMessageNoBetween(
+            String sessionId, Integer startInclusive, Integer endInclusive);
+
     @Query(
             "select max(m.messageNo) from ConversationMessage m where m.sessionId = :sessionId"
     )
     Integer findMaxMessageNo(String sessionId);
 
+    // 요약에 아직 반영되지 않은 답변 수 (누적 요약 갱신 주기 판단용)
+    long countBySessionIdAndMessageTypeAndMessageNoGreaterThan(String sessionId, MessageType type, Integer messageNo);
+
     @Query(
             "select max(m.messageNo) from ConversationMessage m where m.sessionId = :sessionId"
     )
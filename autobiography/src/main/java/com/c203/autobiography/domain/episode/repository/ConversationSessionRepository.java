@@ -12,10 +12,16 @@ public interface ConversationSessionRepository extends JpaRepository<Conversatio
     @Modifying
     @Query("""
    UPDATE ConversationSession s
-      SET s.episodeId = :episodeId
+      SET s.episodeId = :episodeId,
+          s.version = s.version + 1
     WHERE s.sessionId = :sessionId
 """)
     void updateEpisodeId(String sessionId, Long episodeId);
+
+    // 턴 시작 시 메모리 상태가 최신인지 확인하는 용도 (엔티티 전체를 읽지 않음)
+    @Query("SELECT s.version FROM ConversationSession s WHERE s.sessionId = :sessionId")
+    Optional<Long> findVersion(String sessionId);
+
     // 특정 에피소드에 대해 OPEN 상태인 가장 최신 세션을 찾는 메소드
     Optional<ConversationSession> findTopByEpisodeIdAndStatusOrderByCreatedAtDesc(Long episodeId, SessionStatus status);
 }
@@ -0,0 +1,7 @@
+package com.c203.autobiography.domain.episode.repository;
+
+import com.c203.autobiography.domain.episode.entity.ConversationSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ConversationSummaryRepository extends JpaRepository<ConversationSummary, String> {
+}
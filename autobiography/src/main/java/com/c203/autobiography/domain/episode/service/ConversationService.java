@@ -1,5 +1,6 @@
 package com.c203.autobiography.domain.episode.service;
 
+import com.c203.autobiography.domain.episode.dto.ConversationHistoryPageResponse;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageRequest;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageResponse;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageUpdateRequest;
@@ -11,7 +12,11 @@ import com.c203.autobiography.domain.episode.entity.ConversationSession;
 
 import com.c203.autobiography.domain.episode.template.dto.NextQuestionDto;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 public interface ConversationService {
 
@@ -21,11 +26,31 @@ public interface ConversationService {
     ConversationSessionResponse getSession(String sessionId);
     ConversationSession getSessionEntity(String sessionId);
     ConversationMessageResponse createMessage(ConversationMessageRequest request);
+
+    /**
+     * STT 청크 메시지 저장: 다른 청크들과 묶어 배치로 저장되며, 저장이 끝나면 messageId가 채워진 응답으로 완료됩니다.
+     */
+    CompletableFuture<ConversationMessageResponse> appendTranscriptChunk(ConversationMessageRequest request);
     ConversationMessageResponse updateMessage(ConversationMessageUpdateRequest request);
     List<ConversationMessageResponse> getHistory(String sessionId);
+
+    /**
+     * messageNo 커서 기반 히스토리 페이지 조회: afterMessageNo 다음 메시지부터 size개
+     */
+    ConversationHistoryPageResponse getHistoryPage(String sessionId, Integer afterMessageNo, int size);
+
+    /**
+     * 전체 히스토리를 DB 커서로 읽으면서 한 건씩 consumer에 넘깁니다. (목록 전체를 메모리에 올리지 않음)
+     */
+    void streamHistory(String sessionId, Consumer<ConversationMessageResponse> consumer);
     String getLastAnswer(String sessionId);
     String getLastQuestion(String sessionId);
 
+    /**
+     * STT 부분 결과로 동적 후속 질문을 미리 생성 (followup.speculation.enabled일 때만 동작)
+     */
+    void speculateFollowUp(String sessionId, String partialAnswer);
+
     // == 대화 흐름(질문) 관리 기능 (기존 ChapterBasedQuestionService 역할) ==
     /**
      * 챕터 기반 대화 세션을 초기화하고 첫 번째 질문을 반환합니다.
@@ -34,13 +59,17 @@ public interface ConversationService {
 
     /**
      * 사용자 답변을 기반으로 다음 질문을 생성하고 반환합니다.
+     * AI 후속 질문 생성은 비동기로 진행되며, 요청 스레드는 즉시 반환됩니다.
      */
-    NextQuestionDto getNextQuestion(Long memberId, Long bookId, Long episodeId, String sessionId, String userAnswer);
+    CompletableFuture<NextQuestionDto> getNextQuestion(Long memberId, Long bookId, Long episodeId, String sessionId, String userAnswer);
 
     String startNewConversation(Long memberId, Long bookId, Long episodeId);
 
-    // 기존 대화 재연결
-    void establishConversationStream(String sessionId, Long bookId, SseEmitter emitter);
+    // Flux 기반 SSE 스트림 연결 (SseEmitter 대신 세션별 bounded 버퍼 사용, 재연결 처리는 아래와 동일)
+    Flux<ServerSentEvent<Object>> openConversationStream(String sessionId, Long bookId, String lastEventId);
+
+    // 기존 대화 재연결 (lastEventId: 재연결 시 클라이언트가 보낸 Last-Event-ID, 없으면 null)
+    void establishConversationStream(String sessionId, Long bookId, String lastEventId, SseEmitter emitter);
 
     NextQuestionDto skipCurrentQuestion(Long memberId, Long bookId, Long episodeId, String sessionId);
 
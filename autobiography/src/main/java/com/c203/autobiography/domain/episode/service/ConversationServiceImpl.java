@@ -1,22 +1,22 @@
 package com.c203.autobiography.domain.episode.service;
 
 import com.c203.autobiography.domain.ai.client.AiClientFactory;
+import com.c203.autobiography.domain.ai.token.TokenCounter;
 import com.c203.autobiography.domain.book.entity.Book;
 import com.c203.autobiography.domain.book.repository.BookRepository;
+import com.c203.autobiography.domain.episode.dto.ConversationHistoryPageResponse;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageRequest;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageResponse;
-import com.c203.autobiography.domain.episode.dto.EpisodeResponse;
+import com.c203.autobiography.domain.episode.job.service.EpisodeJobService;
 import com.c203.autobiography.domain.episode.dto.StartConversationResponse;
 import com.c203.autobiography.domain.episode.entity.Episode;
 import com.c203.autobiography.domain.episode.repository.EpisodeRepository;
 import com.c203.autobiography.domain.episode.template.dto.FollowUpType;
 import com.c203.autobiography.domain.episode.template.dto.QuestionResponse;
-import com.c203.autobiography.domain.episode.template.entity.Chapter;
-import com.c203.autobiography.domain.episode.template.entity.ChapterTemplate;
-import com.c203.autobiography.domain.episode.template.entity.FollowUpQuestion;
-import com.c203.autobiography.domain.episode.template.repository.ChapterRepository;
-import com.c203.autobiography.domain.episode.template.repository.ChapterTemplateRepository;
-import com.c203.autobiography.domain.episode.template.repository.FollowUpQuestionRepository;
+import com.c203.autobiography.domain.episode.template.catalog.ChapterCatalog;
+import com.c203.autobiography.domain.episode.template.catalog.ChapterCatalog.ChapterEntry;
+import com.c203.autobiography.domain.episode.template.catalog.ChapterCatalog.TemplateEntry;
+import com.c203.autobiography.domain.episode.template.catalog.ChapterCatalogRegistry;
 import com.c203.autobiography.domain.episode.template.dto.NextQuestionDto;
 import com.c203.autobiography.domain.episode.dto.ConversationMessageUpdateRequest;
 import com.c203.autobiography.domain.episode.dto.ConversationSessionRequest;
@@ -30,9 +30,17 @@ import com.c203.autobiography.domain.episode.repository.ConversationMessageRepos
 import com.c203.autobiography.domain.episode.repository.ConversationSessionRepository;
 import com.c203.autobiography.domain.member.entity.Member;
 import com.c203.autobiography.domain.member.repository.MemberRepository;
+import com.c203.autobiography.domain.sse.dto.ResumedStream;
 import com.c203.autobiography.domain.sse.service.SseService;
+import com.c203.autobiography.global.async.AiCallbackExecutor;
+import com.c203.autobiography.global.async.SessionCommandMailbox;
 import com.c203.autobiography.global.exception.ApiException;
 import com.c203.autobiography.global.exception.ErrorCode;
+import com.c203.autobiography.global.session.SessionStateStore;
+import com.c203.autobiography.global.session.SessionStateStoreFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import java.io.IOException;
 import java.util.Set;
 import java.util.UUID;
@@ -40,16 +48,25 @@ import java.util.UUID;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 /**
  * ConversationService 구현체: 세션과 메시지를 관리하며, 질문 템플릿 인덱스를 자동으로 증가시킵니다.
@@ -59,27 +76,46 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @Slf4j
 public class ConversationServiceImpl implements ConversationService {
 
-    private final EpisodeService episodeService;
+    private final EpisodeJobService episodeJobService;
     private final ConversationSessionRepository sessionRepo;
+    private final SessionStateMachine sessionState;
+    private final MessageSequenceAllocator messageSequence;
+    private final TranscriptIngestionBuffer transcriptBuffer;
     private final ConversationMessageRepository messageRepo;
-    private final ChapterRepository chapterRepo;
-    private final ChapterTemplateRepository templateRepo;
-    private final FollowUpQuestionRepository followUpRepo;
+    private final EntityManager entityManager;
+    private final ChapterCatalogRegistry chapterCatalog;
     private final AiClientFactory aiClient;
     private final SseService sseService;
     private final MemberRepository memberRepository;
     private final BookRepository bookRepository;
     private final EpisodeRepository episodeRepository;
+    private final AiCallbackExecutor aiCallbackExecutor;
+    private final SessionCommandMailbox sessionCommands;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenCounter tokenCounter;
+    private final FollowUpSpeculator followUpSpeculator;
+    private final ConversationSummaryService conversationSummaryService;
     private static final Set<String> COMMENT_PROMPT_KEYS = Set.of(
             "PROMPT_ACKNOWLEDGE_NAME",
             "PROMPT_FACTS_CONNECT"
     );
+    private static final int MESSAGE_INSERT_MAX_ATTEMPTS = 3;
+    private static final int HISTORY_PAGE_MAX_SIZE = 200;
 
     // == 인메모리 상태 관리 ==
     // 세션별 질문 큐 관리 (0부터 시작)
-    private final ConcurrentHashMap<String, Deque<String>> dynamicFollowUpQueues = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Deque<String>> questionQueueMap = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, String> lastQuestionMap = new ConcurrentHashMap<>();
+    // 세션 상태 저장소(로컬 또는 Redis)에 두어 버려진 세션은 idle TTL 후 사라지고, 여러 서버에서 공유됨
+    private final SessionStateStoreFactory sessionStateStoreFactory;
+    private SessionStateStore<List<String>> dynamicFollowUpQueues;
+    private SessionStateStore<List<String>> questionQueueMap;
+    private SessionStateStore<String> lastQuestionMap;
+
+    @PostConstruct
+    void initStateStores() {
+        dynamicFollowUpQueues = sessionStateStoreFactory.create("followup-queue", new TypeReference<>() {});
+        questionQueueMap = sessionStateStoreFactory.create("question-queue", new TypeReference<>() {});
+        lastQuestionMap = sessionStateStoreFactory.create("last-question", String.class);
+    }
 
 
     @Override
@@ -156,16 +192,25 @@ public class ConversationServiceImpl implements ConversationService {
     }
 
     @Override
-    public void establishConversationStream(String sessionId, Long bookId, SseEmitter emitter) {
+    public Flux<ServerSentEvent<Object>> openConversationStream(String sessionId, Long bookId, String lastEventId) {
+        // 세션 존재 여부 확인 (없으면 예외 발생)
+        getSessionEntity(sessionId);
+
+        // 놓친 이벤트는 연결이 세션에 공개되기 전에 이미 큐에 들어감
+        ResumedStream stream = sseService.connect(sessionId, lastEventId);
+        submitBootstrap(sessionId, bookId, stream.replayed());
+        return stream.events();
+    }
+
+    @Override
+    public void establishConversationStream(String sessionId, Long bookId, String lastEventId, SseEmitter emitter) {
         // 1. 세션 존재 여부 확인 (없으면 예외 발생)
         ConversationSession session = getSessionEntity(sessionId);
 
-        emitter.onTimeout(() -> sseService.remove(sessionId));
-        emitter.onCompletion(() -> sseService.remove(sessionId));
-        emitter.onError(e -> sseService.remove(sessionId));
-        sseService.register(sessionId, emitter);
-
-        processSseConnectionAsync(sessionId, bookId, emitter);
+        // 타임아웃/완료/오류 시 정리는 register가 emitter 단위로 등록함
+        // 놓친 이벤트 재전송도 여기서 연결 공개 전에 끝냄
+        boolean replayed = sseService.register(sessionId, emitter, lastEventId);
+        submitBootstrap(sessionId, bookId, replayed);
 
 //        // 세션 상태를 확인하여 첫 연결인지 재연결인지 판단
 //        if (session.getCurrentChapterId() == null) {
@@ -213,14 +258,13 @@ public class ConversationServiceImpl implements ConversationService {
                 .orElseThrow(() -> new ApiException(ErrorCode.BOOK_NOT_FOUND));
         Episode episode = episodeRepository.findByEpisodeIdAndDeletedAtIsNull(episodeId)
                 .orElseThrow(() -> new ApiException(ErrorCode.EPISODE_NOT_FOUND));
-        ConversationSession session = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
+        ConversationSession session = sessionState.begin(sessionId);
 
         // 2) 다음 메인 템플릿으로 전진 (없다면 챕터 종료 처리)
-        ChapterTemplate nextTemplate = templateRepo.findByChapterOrderAndTemplateOrder(
+        TemplateEntry nextTemplate = chapterCatalog.current().next(
                 session.getCurrentChapterOrder(),
-                session.getCurrentTemplateOrder() + 1
-        ).orElse(null);
+                session.getCurrentTemplateOrder()
+        );
 
 
         // 2) 다음 템플릿이 없다면, 현재가 마지막 질문이므로 예외를 발생시킵니다.
@@ -235,10 +279,12 @@ public class ConversationServiceImpl implements ConversationService {
 
         // 팔로업 중이었다면 다 버리고, 다음 메인으로 가야 하므로 동적 큐/인덱스 초기화
         dynamicFollowUpQueues.remove(sessionId);
-        updateFollowUpIndex(session, 0); // 내부에서 fresh 로딩해 저장
+        followUpSpeculator.discard(sessionId);
+        updateFollowUpIndex(session, 0);
 
-        //다음 메인 템플릿으로 상태를 전진
+        //다음 메인 템플릿으로 상태를 전진 (건너뛰기 한 번에 세션 저장은 한 번)
         NextQuestionDto nextQuestionDto = moveToNextTemplate(session, nextTemplate);
+        sessionState.flush(sessionId);
 
         // 3) 새 질문을 DB에 '저장' + SSE 푸시 (여기서 저장되는 건 '건너뛰기 후의 질문'뿐)
         createMessage(
@@ -263,72 +309,90 @@ public class ConversationServiceImpl implements ConversationService {
         return nextQuestionDto;
     }
 
-    @Async
-    public void processSseConnectionAsync(String sessionId, Long bookId, SseEmitter emitter) {
+    /**
+     * 첫 질문 생성/마지막 질문 재전송은 같은 세션의 다른 명령(다음 질문, 건너뛰기 등)과 순서대로
+     * 인터뷰 전용 풀에서 실행하고, 요청 스레드는 바로 반환해 SSE 응답을 시작합니다.
+     */
+    private void submitBootstrap(String sessionId, Long bookId, boolean replayed) {
+        sessionCommands.submit(sessionId, () -> {
+            bootstrapStream(sessionId, bookId, replayed);
+            return null;
+        }).exceptionally(ex -> {
+            // 실행 풀이 가득 차 거절된 경우: 첫 질문 없이 열린 채로 두지 않고 닫아 재연결을 유도
+            log.warn("대화 시작/재개 명령 실패: sessionId={}, error={}", sessionId, ex.getMessage());
+            sseService.closeWithError(sessionId, "요청이 많아 대화를 시작하지 못했습니다. 잠시 후 다시 연결해주세요.");
+            return null;
+        });
+    }
+
+    /**
+     * SSE 연결 직후의 대화 시작/재개 처리. 세션 메일박스(InterviewTaskExecutor 스레드)에서 실행되며 요청 스레드는 기다리지 않습니다.
+     *
+     * @param replayed 연결 등록 때 Last-Event-ID 이후 이벤트를 재전송 버퍼에서 이어 보냈는지 여부
+     */
+    private void bootstrapStream(String sessionId, Long bookId, boolean replayed) {
         try {
             ConversationSession session = getSessionEntity(sessionId); // 여기서는 트랜잭션 없이 단순 조회
             // 1. 세션의 상태(status)를 가장 먼저 확인합니다.
             if (session.getStatus() == SessionStatus.CLOSE) {
                 log.warn("이미 종료된 세션(SessionId: {})에 대한 SSE 연결 시도입니다. 연결을 거부하고 종료합니다.", sessionId);
 
-                // 2. 프론트엔드에 '이미 완료된 세션'임을 알리는 에러 이벤트를 보냅니다.
+                // 2. 프론트엔드에 '이미 완료된 세션'임을 알리는 에러 이벤트를 보내고 서버 측에서도 SSE 연결을 즉시 종료합니다.
                 //    이를 통해 프론트엔드는 오래된 세션 ID를 사용하지 않고 새 인터뷰를 시작하도록 유도할 수 있습니다.
-                emitter.send(SseEmitter.event().name("error").data("이미 완료된 인터뷰 세션입니다. 새로운 인터뷰를 시작해주세요."));
-
-                // 3. 서버 측에서도 SSE 연결을 즉시 종료합니다.
-                emitter.complete();
+                sseService.closeWithError(sessionId, "이미 완료된 인터뷰 세션입니다. 새로운 인터뷰를 시작해주세요.");
 
                 // 4. 더 이상 진행하지 않고 메소드를 종료합니다.
                 return;
             }
 
             if (session.getCurrentChapterId() == null) {
-                // 첫 연결 시나리오: DB 작업은 별도의 트랜잭션 메소드에서 수행
+                // 첫 연결 시나리오: 세션 초기화 + 첫 질문 저장은 한 트랜잭션, 전송은 커밋 후
                 initializeAndPushFirstQuestion(sessionId, bookId);
-            } else {
-                // 재연결 시나리오: DB 작업은 별도의 트랜잭션 메소드에서 수행
+            } else if (!replayed) {
+                // 재연결 시나리오: Last-Event-ID 이후 이벤트를 버퍼에서 이어 보내지 못했으면
+                // 조회만 하므로 트랜잭션 없이 마지막 질문 재전송
                 pushLastQuestion(sessionId);
             }
         } catch (Exception e) {
             log.error("SSE 비동기 처리 중 에러 발생, sessionId={}", sessionId, e);
-            try {
-                emitter.send(SseEmitter.event().name("error").data("대화 처리 중 오류 발생: " + e.getMessage()));
-            } catch (IOException ex) {
-                log.warn("SSE 에러 이벤트 전송 실패", ex);
-            }
-            emitter.completeWithError(e);
+            sseService.closeWithError(sessionId, "대화 처리 중 오류 발생: " + e.getMessage());
         }
     }
 
     /**
-     * [신규] 첫 질문 생성 및 전송을 담당하는 트랜잭션 메소드
+     * 첫 질문 생성 및 전송.
+     * 같은 빈 안에서 호출되어 @Transactional 프록시를 거치지 않으므로 TransactionTemplate으로 경계를 직접 잡습니다.
      */
-    @Transactional
-    public void initializeAndPushFirstQuestion(String sessionId, Long bookId) {
+    private void initializeAndPushFirstQuestion(String sessionId, Long bookId) {
         log.info("첫 연결 대화 초기화 및 질문 전송. SessionId: {}", sessionId);
-        NextQuestionDto firstQuestion = initializeSession(sessionId, bookId);
-        createMessage(
-                ConversationMessageRequest.builder()
-                        .sessionId(sessionId)
-                        .messageType(MessageType.QUESTION)
-                        .content(firstQuestion.getQuestionText())
-                        .build()
-        );
-        // ... (QuestionResponse 빌드 및 sseService.pushQuestion 호출)
+        NextQuestionDto firstQuestion = transactionTemplate.execute(status -> {
+            NextQuestionDto question = initializeSession(sessionId, bookId);
+            createMessage(
+                    ConversationMessageRequest.builder()
+                            .sessionId(sessionId)
+                            .messageType(MessageType.QUESTION)
+                            .content(question.getQuestionText())
+                            .build()
+            );
+            return question;
+        });
         QuestionResponse response = QuestionResponse.builder()
                 .text(firstQuestion.getQuestionText())
                 .currentChapterName(firstQuestion.getCurrentChapterName())
-                // ... 등등
+                .currentStageName(firstQuestion.getCurrentStageName())
+                .questionType(firstQuestion.getQuestionType())
+                .chapterProgress(firstQuestion.getChapterProgress())
+                .overallProgress(firstQuestion.getOverallProgress())
+                .isLastQuestion(firstQuestion.isLastQuestion())
                 .build();
         sseService.pushQuestion(sessionId, response);
         log.info("질문 전송 {}", response);
     }
 
     /**
-     * [신규] 마지막 질문 전송을 담당하는 읽기 전용 트랜잭션 메소드
+     * 마지막 질문 재전송
      */
-    @Transactional(readOnly = true)
-    public void pushLastQuestion(String sessionId) {
+    private void pushLastQuestion(String sessionId) {
         log.info("기존 대화 재연결, 마지막 질문 전송. SessionId: {}", sessionId);
         String lastQuestion = getLastQuestion(sessionId); // DB 조회
         if (lastQuestion != null && !lastQuestion.isEmpty()) {
@@ -340,10 +404,8 @@ public class ConversationServiceImpl implements ConversationService {
     @Override
     @Transactional
     public ConversationSessionResponse updateSession(ConversationSessionUpdateRequest request) {
-        ConversationSession session = sessionRepo.findById(request.getSessionId())
-                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + request.getSessionId()));
-
-        ConversationSession updated = session.toBuilder()
+        sessionState.begin(request.getSessionId());
+        ConversationSession updated = sessionState.transition(request.getSessionId(), session -> session.toBuilder()
                 .status(request.getStatus() != null ? request.getStatus() : session.getStatus())
                 .templateIndex(
                         request.getTemplateIndex() != null ? request.getTemplateIndex() : session.getTemplateIndex())
@@ -352,9 +414,8 @@ public class ConversationServiceImpl implements ConversationService {
                                 ? request.getEpisodeStartMessageNo()
                                 : session.getEpisodeStartMessageNo()
                 )
-                .build();
-
-        sessionRepo.save(updated);
+                .build());
+        sessionState.flush(request.getSessionId());
 
         // 상태가 CLOSED면 레거시 큐 정리(권장)
         if (request.getStatus() == SessionStatus.CLOSE) {
@@ -368,44 +429,71 @@ public class ConversationServiceImpl implements ConversationService {
 
     @Override
     public ConversationSessionResponse getSession(String sessionId) {
-        ConversationSession session = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
+        ConversationSession session = sessionState.get(sessionId);
         return ConversationSessionResponse.from(session);
     }
 
     @Override
     public ConversationSession getSessionEntity(String sessionId) {
-        return sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
+        return sessionState.get(sessionId);
     }
 
+    /**
+     * messageNo는 MessageSequenceAllocator가 조회 없이 발급하므로 저장은 INSERT 한 번입니다.
+     * (session_id, message_no) unique 제약에 걸리면 시퀀스를 DB 기준으로 다시 맞춘 뒤 재시도합니다.
+     * 호출부 트랜잭션 안에서는 제약 위반 후 같은 트랜잭션을 계속 쓸 수 없으므로 재시도하지 않습니다.
+     */
     @Override
-    @Transactional
     public ConversationMessageResponse createMessage(ConversationMessageRequest request) {
-        int lastNo = messageRepo.findTopBySessionIdOrderByMessageNoDesc(request.getSessionId())
-                .map(ConversationMessage::getMessageNo)
-                .orElse(0);
+        String sessionId = request.getSessionId();
+        boolean canRetry = !TransactionSynchronizationManager.isActualTransactionActive();
+        ConversationMessage msg;
+        for (int attempt = 1; ; attempt++) {
+            msg = ConversationMessage.builder()
+                    .sessionId(sessionId)
+                    .messageType(request.getMessageType())
+                    .chunkIndex(request.getChunkIndex())
+                    .content(request.getContent())
+                    .messageNo(messageSequence.next(sessionId))
+                    .build();
+            try {
+                messageRepo.save(msg);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                messageSequence.resync(sessionId);
+                if (!canRetry || attempt >= MESSAGE_INSERT_MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+
+        if (request.getMessageType() == MessageType.ANSWER) {
+            // 토큰 수는 다음 묶음 저장 때 token_count 누적 UPDATE로 반영
+            transcriptBuffer.addTokens(sessionId, tokenCounter.count(request.getContent()));
+            conversationSummaryService.onAnswerSaved(sessionId);
+        }
+        return ConversationMessageResponse.from(msg);
+    }
 
+    @Override
+    public CompletableFuture<ConversationMessageResponse> appendTranscriptChunk(ConversationMessageRequest request) {
+        String sessionId = request.getSessionId();
+        boolean answer = request.getMessageType() == MessageType.ANSWER;
         ConversationMessage msg = ConversationMessage.builder()
-                .sessionId(request.getSessionId())
+                .sessionId(sessionId)
                 .messageType(request.getMessageType())
                 .chunkIndex(request.getChunkIndex())
                 .content(request.getContent())
-                .messageNo(lastNo + 1)
+                .messageNo(messageSequence.next(sessionId))
                 .build();
-        messageRepo.save(msg);
 
-        if (request.getMessageType() == MessageType.ANSWER) {
-            long add = estimateTokens(request.getContent());
-            sessionRepo.findById(request.getSessionId()).ifPresent(s -> {
-                ConversationSession updated = s.toBuilder()
-                        .tokenCount((s.getTokenCount() == null ? 0L : s.getTokenCount()) + add)
-                        // toBuilder가 알아서  복제
-                        .build();
-                sessionRepo.save(updated);
-            });
-        }
-        return ConversationMessageResponse.from(msg);
+        return transcriptBuffer.append(msg, answer ? tokenCounter.count(request.getContent()) : 0)
+                .thenApply(saved -> {
+                    if (answer) {
+                        conversationSummaryService.onAnswerSaved(sessionId);
+                    }
+                    return ConversationMessageResponse.from(saved);
+                });
     }
 
     @Override
@@ -420,13 +508,51 @@ public class ConversationServiceImpl implements ConversationService {
 
     @Override
     public List<ConversationMessageResponse> getHistory(String sessionId) {
+        transcriptBuffer.flushPending();
         return messageRepo.findBySessionIdOrderByMessageNo(sessionId).stream()
                 .map(ConversationMessageResponse::from)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public ConversationHistoryPageResponse getHistoryPage(String sessionId, Integer afterMessageNo, int size) {
+        transcriptBuffer.flushPending();
+        int pageSize = Math.max(1, Math.min(size, HISTORY_PAGE_MAX_SIZE));
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        List<ConversationMessage> rows = messageRepo.findBySessionIdAndMessageNoGreaterThanOrderByMessageNo(
+                sessionId, afterMessageNo == null ? 0 : afterMessageNo, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<ConversationMessageResponse> messages = rows.stream()
+                .limit(pageSize)
+                .map(ConversationMessageResponse::from)
+                .collect(Collectors.toList());
+        Integer nextCursor = messages.isEmpty()
+                ? afterMessageNo
+                : messages.get(messages.size() - 1).getMessageNo();
+        return ConversationHistoryPageResponse.builder()
+                .messages(messages)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamHistory(String sessionId, Consumer<ConversationMessageResponse> consumer) {
+        transcriptBuffer.flushPending();
+        try (Stream<ConversationMessage> messages = messageRepo
+                .streamBySessionIdAndMessageNoBetween(sessionId, 1, Integer.MAX_VALUE)) {
+            messages.forEach(m -> {
+                consumer.accept(ConversationMessageResponse.from(m));
+                // 읽은 엔티티는 영속성 컨텍스트에서 바로 떼어 내 메모리가 쌓이지 않게 함
+                entityManager.detach(m);
+            });
+        }
+    }
+
     @Override
     public String getLastAnswer(String sessionId) {
+        transcriptBuffer.flushPending();
         return messageRepo
                 .findFirstBySessionIdAndMessageTypeOrderByMessageNoDesc(sessionId, MessageType.ANSWER)
                 .map(ConversationMessage::getContent)
@@ -443,6 +569,52 @@ public class ConversationServiceImpl implements ConversationService {
                 .orElse(null); // 마지막 질문이 없으면 null 반환
     }
 
+    @Override
+    public void speculateFollowUp(String sessionId, String partialAnswer) {
+        if (!followUpSpeculator.isEnabled()) {
+            return;
+        }
+        ConversationSession session = sessionState.find(sessionId).orElse(null);
+        if (session == null || session.getCurrentTemplateId() == null) {
+            return;
+        }
+        TemplateEntry template = chapterCatalog.current().template(session.getCurrentTemplateId());
+        if (template == null || template.getFollowUpType() != FollowUpType.DYNAMIC) {
+            return;
+        }
+        String sectionKey = template.getDynamicPromptTemplate();
+
+        // processDynamicFollowUp에서 실제로 AI를 호출하게 될 경우와 같은 입력으로만 추측
+        String nextQuestion = null;
+        if (COMMENT_PROMPT_KEYS.contains(sectionKey)) {
+            TemplateEntry nextTemplate = chapterCatalog.current().next(
+                    session.getCurrentChapterOrder(),
+                    session.getCurrentTemplateOrder()
+            );
+            if (nextTemplate == null) {
+                return;
+            }
+            nextQuestion = nextTemplate.getMainQuestion();
+        } else if (dynamicFollowUpQueues.contains(sessionId) || session.getFollowUpQuestionIndex() != 0) {
+            return;
+        }
+
+        String next = nextQuestion;
+        followUpSpeculator.speculate(sessionId, sectionKey, partialAnswer, next,
+                () -> aiClient.followUp().generateDynamicFollowUpBySectionAsync(sectionKey, partialAnswer, next, null));
+    }
+
+    // 선행 생성 결과가 최종 답변과 맞으면 재사용하고, 아니면(또는 실패하면) 새로 생성
+    private CompletableFuture<String> generateDynamicFollowUp(String sessionId, String sectionKey, String userAnswer,
+                                                              String nextQuestion, Consumer<String> onDelta) {
+        CompletableFuture<String> speculated = followUpSpeculator.take(sessionId, sectionKey, userAnswer, nextQuestion);
+        if (speculated == null) {
+            return aiClient.followUp().generateDynamicFollowUpBySectionAsync(sectionKey, userAnswer, nextQuestion, onDelta);
+        }
+        return speculated.exceptionallyCompose(ex -> aiClient.followUp()
+                .generateDynamicFollowUpBySectionAsync(sectionKey, userAnswer, nextQuestion, onDelta));
+    }
+
     // ChapterBasedQuestion에서 가져온 코드
 
     @Override
@@ -453,38 +625,43 @@ public class ConversationServiceImpl implements ConversationService {
 
         log.info("새 인터뷰 시작. 완료된 챕터 수: {}, 다음 챕터: {}", completedChapterCount, nextChapterOrder);
 
-        Chapter firstChapter = chapterRepo.findByChapterOrder(nextChapterOrder)
-                .orElseThrow(() -> new IllegalStateException("첫 번째 챕터를 찾을 수 없습니다."));
-        ChapterTemplate firstTemplate = templateRepo.findByChapterOrderAndTemplateOrder(nextChapterOrder, 1)
-                .orElseThrow(() -> new IllegalStateException("첫 번째 질문 템플릿을 찾을 수 없습니다."));
-
-        ConversationSession session = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
+        ChapterCatalog catalog = chapterCatalog.current();
+        ChapterEntry firstChapter = catalog.chapterByOrder(nextChapterOrder);
+        if (firstChapter == null) {
+            throw new IllegalStateException("첫 번째 챕터를 찾을 수 없습니다.");
+        }
+        TemplateEntry firstTemplate = catalog.template(nextChapterOrder, 1);
+        if (firstTemplate == null) {
+            throw new IllegalStateException("첫 번째 질문 템플릿을 찾을 수 없습니다.");
+        }
 
         // 1. 현재 세션의 최대 메시지 번호를 조회합니다.
+        transcriptBuffer.flushPending();
         Integer maxMessageNo = messageRepo.findMaxMessageNo(sessionId);
 
         // 2. maxMessageNo가 null이면 (메시지가 없으면) 1을, 아니면 maxMessageNo + 1을 사용합니다.
         Integer nextEpisodeStartNo = (maxMessageNo == null) ? 1 : maxMessageNo + 1;
 
         // 세션을 새로 시작하는 챕터의 정보로 업데이트
-        ConversationSession updatedSession = session.toBuilder()
+        sessionState.begin(sessionId);
+        ConversationSession updatedSession = sessionState.transition(sessionId, session -> session.toBuilder()
                 .currentChapterId(firstChapter.getChapterId())
                 .currentTemplateId(firstTemplate.getTemplateId())
                 .followUpQuestionIndex(0)
                 .currentChapterOrder(firstChapter.getChapterOrder())
                 .currentTemplateOrder(1)
                 .episodeStartMessageNo(nextEpisodeStartNo) // 새 시작점
-                .build();
-        sessionRepo.save(updatedSession);
+                .build());
+        // 에피소드 생성/요약이 DB에서 구간 시작점을 읽으므로 바로 저장
+        sessionState.flush(sessionId);
 
         return createNextQuestionDto(updatedSession, firstTemplate.getMainQuestion(), "MAIN", firstTemplate);
     }
 
 
     @Override
-    public NextQuestionDto getNextQuestion(Long memberId, Long bookId, Long episodeId, String sessionId,
-                                           String userAnswer) {
+    public CompletableFuture<NextQuestionDto> getNextQuestion(Long memberId, Long bookId, Long episodeId,
+                                                              String sessionId, String userAnswer) {
         // 1) 사용자 확인
         Member member = memberRepository.findByMemberIdAndDeletedAtIsNull(memberId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
@@ -496,22 +673,27 @@ public class ConversationServiceImpl implements ConversationService {
         Episode episode = episodeRepository.findByEpisodeIdAndDeletedAtIsNull(episodeId)
                 .orElseThrow(() -> new ApiException(ErrorCode.EPISODE_NOT_FOUND));
 
-        ConversationSession session = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
+        ConversationSession session = sessionState.begin(sessionId);
 
-        // 1. 원본 코드의 방식을 따라, fetch join이 적용된 메서드로 현재 템플릿을 조회합니다. (성능 최적화)
-        ChapterTemplate currentTemplate = templateRepo.findByTemplateIdWithFollowUps(session.getCurrentTemplateId())
-                .orElseThrow(() -> new IllegalStateException("현재 템플릿을 찾을 수 없습니다."));
+        // 1. 현재 템플릿(정적 후속 질문 포함)은 메모리 카탈로그에서 조회합니다.
+        TemplateEntry currentTemplate = chapterCatalog.current().template(session.getCurrentTemplateId());
+        if (currentTemplate == null) {
+            throw new IllegalStateException("현재 템플릿을 찾을 수 없습니다.");
+        }
 
         lastQuestionMap.put(sessionId, currentTemplate.getMainQuestion());
 
-        String followUpQuestion = processFollowUpQuestions(session, currentTemplate, userAnswer);
-        if (followUpQuestion != null) {
-            lastQuestionMap.put(sessionId, followUpQuestion);
-            return createNextQuestionDto(session, followUpQuestion, "FOLLOWUP", currentTemplate);
-        }
-
-        return moveToNextMainQuestion(member, book, episode, session);
+        // AI 응답 이후의 DB 저장/챕터 전환은 WebClient 스레드가 아닌 전용 executor에서 실행
+        return processFollowUpQuestions(session, currentTemplate, userAnswer)
+                .thenApplyAsync(followUpQuestion -> {
+                    if (followUpQuestion != null) {
+                        lastQuestionMap.put(sessionId, followUpQuestion);
+                        return createNextQuestionDto(session, followUpQuestion, "FOLLOWUP", currentTemplate);
+                    }
+                    return moveToNextMainQuestion(member, book, episode, sessionState.get(sessionId));
+                }, aiCallbackExecutor.executor())
+                // 이번 턴의 상태 전이를 한 번에 저장
+                .whenComplete((result, ex) -> sessionState.flush(sessionId));
     }
 
     // sse 관련 메서드
@@ -520,10 +702,10 @@ public class ConversationServiceImpl implements ConversationService {
 
     private @Nullable NextQuestionDto moveToNextMainQuestion(Member member, Book book, Episode episode,
                                                              ConversationSession session) {
-        ChapterTemplate nextTemplate = templateRepo.findByChapterOrderAndTemplateOrder(
+        TemplateEntry nextTemplate = chapterCatalog.current().next(
                 session.getCurrentChapterOrder(),
-                session.getCurrentTemplateOrder() + 1
-        ).orElse(null);
+                session.getCurrentTemplateOrder()
+        );
 
         if (nextTemplate == null) { // 챕터 종료
             return handleChapterTransition(member, book, episode, session);
@@ -535,29 +717,24 @@ public class ConversationServiceImpl implements ConversationService {
     private NextQuestionDto handleChapterTransition(Member member, Book book, Episode episode,
                                                     ConversationSession session) {
 
-        // 1. "방금 끝난" 챕터의 에피소드를 생성합니다.
-        try {
-            log.info("챕터 종료! 에피소드 생성을 시작합니다. SessionId: {}", session.getSessionId());
-            EpisodeResponse savedEpisode = episodeService.createEpisodeFromCurrentWindow(episode,
-                    session.getSessionId());
-            log.info("✅ 챕터 에피소드 생성 완료");
-            sseService.pushEpisode(session.getSessionId(), savedEpisode);
-            log.info("에피소드 생성 완료. content: {}", savedEpisode.getContent());
-        } catch (Exception ex) {
-            log.warn("챕터 에피소드 생성 실패(다음 챕터 진행은 계속): {}", ex.getMessage());
-        }
+        // 1. "방금 끝난" 챕터의 에피소드 생성을 백그라운드 작업으로 등록합니다.
+        //    진행 상태(QUEUED/RUNNING/DONE/FAILED)와 완성본은 SSE episode 이벤트로 전달됩니다.
+        log.info("챕터 종료! 에피소드 생성 작업을 등록합니다. SessionId: {}", session.getSessionId());
+        episodeJobService.enqueue(session.getSessionId(), episode.getEpisodeId());
 
         log.info("인터뷰 세션을 종료 처리합니다. SessionId: {}", session.getSessionId());
-        ConversationSession updatedSession = session.toBuilder()
+        sessionState.transition(session.getSessionId(), s -> s.toBuilder()
                 .status(SessionStatus.CLOSE) // 상태를 CLOSED로 변경
-                .build();
-        sessionRepo.save(updatedSession);
+                .build());
+        sessionState.flush(session.getSessionId());
 
-        Chapter nextChapter = chapterRepo.findByChapterOrder(session.getCurrentChapterOrder() + 1)
-                .orElse(null);
+        ChapterCatalog catalog = chapterCatalog.current();
+        ChapterEntry nextChapter = catalog.chapterByOrder(session.getCurrentChapterOrder() + 1);
 
-        Chapter currentChapter = chapterRepo.findById(session.getCurrentChapterId())
-                .orElseThrow(() -> new IllegalStateException("현재 챕터 정보를 찾을 수 없습니다: " + session.getCurrentChapterId()));
+        ChapterEntry currentChapter = catalog.chapter(session.getCurrentChapterId());
+        if (currentChapter == null) {
+            throw new IllegalStateException("현재 챕터 정보를 찾을 수 없습니다: " + session.getCurrentChapterId());
+        }
 
         // 모든 대화 종료
         if (nextChapter != null) {
@@ -574,27 +751,25 @@ public class ConversationServiceImpl implements ConversationService {
                     .currentChapterName(currentChapter.getChapterName())
                     .currentStageName("챕터 완료")
                     .chapterProgress(100)
-                    .overallProgress(calculateOverallProgress(session))
+                    .overallProgress(catalog.overallProgress(session.getCurrentChapterOrder()))
                     .build();
             sseService.pushQuestion(session.getSessionId(), chapterCompleteResponse);
             return null;
         } else {
             // 모든 챕터가 끝났을 때의 로직은 그대로 유지
-            ConversationSession finalSession = sessionRepo.findById(session.getSessionId()).get();
+            ConversationSession finalSession = sessionState.get(session.getSessionId());
             return createCompletionQuestion(finalSession);
         }
 
 
     }
 
-    private NextQuestionDto moveToNextTemplate(ConversationSession session, ChapterTemplate nextTemplate) {
-        ConversationSession updatedSession = session.toBuilder()
+    private NextQuestionDto moveToNextTemplate(ConversationSession session, TemplateEntry nextTemplate) {
+        ConversationSession updatedSession = sessionState.transition(session.getSessionId(), s -> s.toBuilder()
                 .currentTemplateId(nextTemplate.getTemplateId())
                 .followUpQuestionIndex(0)
-                .currentTemplateOrder(session.getCurrentTemplateOrder() + 1)
-                .build();
-
-        sessionRepo.save(updatedSession);
+                .currentTemplateOrder(nextTemplate.getTemplateOrder())
+                .build());
 
         dynamicFollowUpQueues.remove(session.getSessionId());
         return createNextQuestionDto(updatedSession, nextTemplate.getMainQuestion(), "MAIN", nextTemplate);
@@ -614,92 +789,124 @@ public class ConversationServiceImpl implements ConversationService {
 //                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_INPUT_VALUE));
 //    }
 
-    private String processFollowUpQuestions(ConversationSession session, ChapterTemplate template, String userAnswer) {
+    private CompletableFuture<String> processFollowUpQuestions(ConversationSession session, TemplateEntry template,
+                                                               String userAnswer) {
         if (template.getFollowUpType() == FollowUpType.STATIC) {
-            return processStaticFollowUp(session, template, userAnswer);
+            return CompletableFuture.completedFuture(processStaticFollowUp(session, template, userAnswer));
         } else if (template.getFollowUpType() == FollowUpType.DYNAMIC) {
             return processDynamicFollowUp(session, template, userAnswer);
         }
-        return null;
+        return CompletableFuture.completedFuture(null);
     }
 
-    private String processStaticFollowUp(ConversationSession session, ChapterTemplate template, String userAnswer) {
-        List<FollowUpQuestion> followUps = followUpRepo.findByChapterTemplateTemplateIdOrderByQuestionOrderAsc(
-                template.getTemplateId());
+    private String processStaticFollowUp(ConversationSession session, TemplateEntry template, String userAnswer) {
+        List<String> followUps = template.getStaticFollowUps();
         int currentIndex = session.getFollowUpQuestionIndex();
 
         if (currentIndex < followUps.size()) {
             // 이 부분은 개선의 여지가 있지만, 일단 기존 로직을 유지합니다.
             // updateFollowUpIndex가 세션을 업데이트하고 DB에 저장하지만, 현재 컨텍스트의 'session' 객체는 변경되지 않습니다.
             updateFollowUpIndex(session, currentIndex + 1);
-            return followUps.get(currentIndex).getQuestionText();
+            return followUps.get(currentIndex);
         }
         return null;
     }
 
-    private String processDynamicFollowUp(ConversationSession session, ChapterTemplate template, String userAnswer) {
+    private CompletableFuture<String> processDynamicFollowUp(ConversationSession session, TemplateEntry template,
+                                                             String userAnswer) {
         String sectionKey = template.getDynamicPromptTemplate();
 
         // AI에게 '어떤 재료'를 줄지 결정하기 위해 키를 확인합니다.
         if (COMMENT_PROMPT_KEYS.contains(sectionKey)) {
             // --- 재료: [사용자 답변] + [다음 본 질문] ---
 
-            ChapterTemplate nextTemplate = templateRepo.findByChapterOrderAndTemplateOrder(
+            TemplateEntry nextTemplate = chapterCatalog.current().next(
                     session.getCurrentChapterOrder(),
-                    session.getCurrentTemplateOrder() + 1
-            ).orElse(null);
+                    session.getCurrentTemplateOrder()
+            );
 
             if (nextTemplate == null) {
-                return null; // 다음 질문 없으면 종료
+                return CompletableFuture.completedFuture(null); // 다음 질문 없으면 종료
             }
 
-            String combinedResponse = aiClient.followUp().generateDynamicFollowUpBySection(
+            return generateDynamicFollowUp(
+                    session.getSessionId(),
                     sectionKey,
                     userAnswer,
-                    nextTemplate.getMainQuestion()
-            );
-
-            // ★ AI가 다음 질문까지 만들어줬으니, 우리 시스템의 상태도 다음으로 넘겨줍니다.
-            advanceSessionToTemplate(session, nextTemplate);
-
-            return combinedResponse; // "코멘트\n다음 본 질문" 텍스트를 반환
+                    nextTemplate.getMainQuestion(),
+                    delta -> sseService.pushQuestionDelta(session.getSessionId(), delta)
+            ).thenApplyAsync(combinedResponse -> {
+                // ★ AI가 다음 질문까지 만들어줬으니, 우리 시스템의 상태도 다음으로 넘겨줍니다.
+                advanceSessionToTemplate(session, nextTemplate);
+                return combinedResponse; // "코멘트\n다음 본 질문" 텍스트를 반환
+            }, aiCallbackExecutor.executor());
 
         } else {
             // --- 재료: [사용자 답변] --- (기존 로직)
-            Deque<String> dynamicQueue = dynamicFollowUpQueues.get(session.getSessionId());
+            Deque<String> dynamicQueue = dynamicFollowUpQueues.get(session.getSessionId())
+                    .<Deque<String>>map(ArrayDeque::new)
+                    .orElse(null);
 
             if (dynamicQueue == null && session.getFollowUpQuestionIndex() == 0) {
-                String generatedQuestions = aiClient.followUp().generateDynamicFollowUpBySection(sectionKey, userAnswer, null);
-                dynamicQueue = parseAndCreateDynamicQueue(generatedQuestions);
-                dynamicFollowUpQueues.put(session.getSessionId(), dynamicQueue);
+                return generateDynamicFollowUp(
+                        session.getSessionId(), sectionKey, userAnswer, null,
+                        firstLineDeltaForwarder(session.getSessionId())
+                ).thenApplyAsync(generatedQuestions -> {
+                    Deque<String> generatedQueue = parseAndCreateDynamicQueue(generatedQuestions);
+                    return pollDynamicFollowUp(session, generatedQueue);
+                }, aiCallbackExecutor.executor());
             }
 
-            if (dynamicQueue != null && !dynamicQueue.isEmpty()) {
-                updateFollowUpIndex(session, session.getFollowUpQuestionIndex() + 1);
-                return dynamicQueue.poll();
-            }
+            return CompletableFuture.completedFuture(pollDynamicFollowUp(session, dynamicQueue));
+        }
+    }
 
-            return null;
+    private String pollDynamicFollowUp(ConversationSession session, Deque<String> dynamicQueue) {
+        if (dynamicQueue != null && !dynamicQueue.isEmpty()) {
+            updateFollowUpIndex(session, session.getFollowUpQuestionIndex() + 1);
+            String next = dynamicQueue.poll();
+            // 꺼낸 뒤 남은 큐를 다시 저장 (저장소의 값은 복사본)
+            dynamicFollowUpQueues.put(session.getSessionId(), new ArrayList<>(dynamicQueue));
+            return next;
         }
+        return null;
     }
 
     /**
      * 세션 상태를 다음 템플릿으로 업데이트하는 헬퍼 메소드
      */
-    private void advanceSessionToTemplate(ConversationSession session, ChapterTemplate nextTemplate) {
-        ConversationSession freshSession = sessionRepo.findById(session.getSessionId())
-                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_INPUT_VALUE));
-
-        ConversationSession updatedSession = freshSession.toBuilder()
+    private void advanceSessionToTemplate(ConversationSession session, TemplateEntry nextTemplate) {
+        sessionState.transition(session.getSessionId(), s -> s.toBuilder()
                 .currentTemplateId(nextTemplate.getTemplateId())
                 .currentTemplateOrder(nextTemplate.getTemplateOrder())
                 .followUpQuestionIndex(0)
-                .build();
-
-        sessionRepo.save(updatedSession);
+                .build());
         dynamicFollowUpQueues.remove(session.getSessionId());
     }
 
+    /**
+     * 여러 줄로 생성되는 후속 질문 목록 중 화면에 먼저 보일 첫 질문만 delta로 흘려보냅니다.
+     * (번호 접두어는 parseAndCreateDynamicQueue와 같은 규칙으로 제거)
+     */
+    private Consumer<String> firstLineDeltaForwarder(String sessionId) {
+        StringBuilder received = new StringBuilder();
+        int[] sentLength = {0};
+        return delta -> {
+            received.append(delta);
+            String text = received.toString().stripLeading();
+            int newline = text.indexOf('\n');
+            String firstLine = newline >= 0 ? text.substring(0, newline) : text;
+            if (newline < 0 && firstLine.matches("^[0-9]*[.)\\-]?\\s*$")) {
+                return; // 아직 번호 접두어만 도착함
+            }
+            String question = firstLine.replaceAll("^[0-9]+[.)\\-]\\s*", "");
+            if (question.length() > sentLength[0]) {
+                sseService.pushQuestionDelta(sessionId, question.substring(sentLength[0]));
+                sentLength[0] = question.length();
+            }
+        };
+    }
+
     private Deque<String> parseAndCreateDynamicQueue(String aiResponse) {
         Deque<String> queue = new ConcurrentLinkedDeque<>();
         if (aiResponse != null && !aiResponse.trim().isEmpty()) {
@@ -716,19 +923,18 @@ public class ConversationServiceImpl implements ConversationService {
 
     private void updateFollowUpIndex(ConversationSession session, int newIndex) {
         // 이 메서드는 호출한 쪽의 'session' 객체 상태를 직접 바꾸지 않으므로 주의가 필요합니다.
-        ConversationSession fresh = sessionRepo.findById(session.getSessionId())
-                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_INPUT_VALUE));
-
-        ConversationSession updated = fresh.toBuilder()
+        sessionState.transition(session.getSessionId(), s -> s.toBuilder()
                 .followUpQuestionIndex(newIndex)
-                .build();
-        sessionRepo.save(updated);
+                .build());
     }
 
     private NextQuestionDto createNextQuestionDto(ConversationSession session, String questionText, String questionType,
-                                                  ChapterTemplate template) {
-        Chapter currentChapter = chapterRepo.findById(session.getCurrentChapterId())
-                .orElseThrow(() -> new IllegalStateException("현재 챕터를 찾을 수 없습니다."));
+                                                  TemplateEntry template) {
+        ChapterCatalog catalog = chapterCatalog.current();
+        ChapterEntry currentChapter = catalog.chapter(session.getCurrentChapterId());
+        if (currentChapter == null) {
+            throw new IllegalStateException("현재 챕터를 찾을 수 없습니다.");
+        }
 
         return NextQuestionDto.builder()
                 .questionText(questionText)
@@ -737,15 +943,18 @@ public class ConversationServiceImpl implements ConversationService {
                 .currentChapterName(currentChapter.getChapterName())
                 .currentTemplateId(template.getTemplateId())
                 .currentStageName(template.getStageName())
-                .chapterProgress(calculateChapterProgress(session))
-                .overallProgress(calculateOverallProgress(session))
+                .chapterProgress(catalog.chapterProgress(currentChapter.getChapterId(),
+                        session.getCurrentTemplateOrder()))
+                .overallProgress(catalog.overallProgress(session.getCurrentChapterOrder()))
                 .isLastQuestion(false)
                 .build();
     }
 
     private NextQuestionDto createCompletionQuestion(ConversationSession session) {
-        Chapter currentChapter = chapterRepo.findById(session.getCurrentChapterId())
-                .orElseThrow(() -> new IllegalStateException("현재 챕터를 찾을 수 없습니다."));
+        ChapterEntry currentChapter = chapterCatalog.current().chapter(session.getCurrentChapterId());
+        if (currentChapter == null) {
+            throw new IllegalStateException("현재 챕터를 찾을 수 없습니다.");
+        }
 
         return NextQuestionDto.builder()
                 .questionText("모든 질문이 완료되었습니다. 자서전 작성을 마치시겠습니까?")
@@ -760,30 +969,4 @@ public class ConversationServiceImpl implements ConversationService {
                 .build();
     }
 
-    private int calculateChapterProgress(ConversationSession session) {
-        List<ChapterTemplate> templatesInChapter = templateRepo.findByChapterChapterIdOrderByTemplateOrderAsc(
-                session.getCurrentChapterId());
-        if (templatesInChapter.isEmpty()) {
-            return 0;
-        }
-        return (session.getCurrentTemplateOrder() * 100) / templatesInChapter.size();
-    }
-
-    private int calculateOverallProgress(ConversationSession session) {
-        List<Chapter> allChapters = chapterRepo.findAllByOrderByChapterOrderAsc();
-        if (allChapters.isEmpty()) {
-            return 0;
-        }
-        return (session.getCurrentChapterOrder() * 100) / allChapters.size();
-    }
-
-
-    private long estimateTokens(String text) {
-        if (text == null) {
-            return 0;
-        }
-// 한글 기준 대략 2~3자당 1토큰으로 가정
-        return Math.max(1, text.length() / 3);
-    }
-
 }
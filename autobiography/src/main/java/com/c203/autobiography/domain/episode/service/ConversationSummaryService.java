@@ -0,0 +1,17 @@
+package com.c203.autobiography.domain.episode.service;
+
+/**
+ * 긴 인터뷰의 대화를 누적 요약으로 압축해 에피소드 생성 프롬프트 크기를 일정하게 유지합니다.
+ */
+public interface ConversationSummaryService {
+
+    /**
+     * 답변 저장 후 호출. 요약에 반영되지 않은 답변이 일정 수 이상 쌓였으면 비동기로 요약을 갱신합니다.
+     */
+    void onAnswerSaved(String sessionId);
+
+    /**
+     * 에피소드 생성용 대화 텍스트: [누적 요약] + 요약 이후의 최근 원문 대화
+     */
+    String buildEpisodeDialog(String sessionId, int startNo, int endNo);
+}
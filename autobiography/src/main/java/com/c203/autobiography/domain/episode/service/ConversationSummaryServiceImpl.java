@@ -0,0 +1,198 @@
+package com.c203.autobiography.domain.episode.service;
+
+import com.c203.autobiography.domain.ai.client.AiClientFactory;
+import com.c203.autobiography.domain.episode.dto.MessageType;
+import com.c203.autobiography.domain.episode.entity.ConversationMessage;
+import com.c203.autobiography.domain.episode.entity.ConversationSession;
+import com.c203.autobiography.domain.episode.entity.ConversationSummary;
+import com.c203.autobiography.domain.episode.repository.ConversationMessageRepository;
+import com.c203.autobiography.domain.episode.repository.ConversationSessionRepository;
+import com.c203.autobiography.domain.episode.repository.ConversationSummaryRepository;
+import com.c203.autobiography.global.async.AiCallbackExecutor;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+public class ConversationSummaryServiceImpl implements ConversationSummaryService {
+
+    private final ConversationSessionRepository sessionRepo;
+    private final ConversationMessageRepository messageRepo;
+    private final ConversationSummaryRepository summaryRepo;
+    private final AiClientFactory aiClient;
+    private final AiCallbackExecutor aiCallbackExecutor;
+    private final boolean enabled;
+    private final int everyAnswers;
+    private final int keepRecentMessages;
+
+    // 세션당 요약 갱신은 한 번에 하나만
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ConversationSummaryServiceImpl(
+            ConversationSessionRepository sessionRepo,
+            ConversationMessageRepository messageRepo,
+            ConversationSummaryRepository summaryRepo,
+            AiClientFactory aiClient,
+            AiCallbackExecutor aiCallbackExecutor,
+            @Value("${conversation.summary.enabled:true}") boolean enabled,
+            @Value("${conversation.summary.every-answers:6}") int everyAnswers,
+            @Value("${conversation.summary.keep-recent-messages:8}") int keepRecentMessages) {
+        this.sessionRepo = sessionRepo;
+        this.messageRepo = messageRepo;
+        this.summaryRepo = summaryRepo;
+        this.aiClient = aiClient;
+        this.aiCallbackExecutor = aiCallbackExecutor;
+        this.enabled = enabled;
+        this.everyAnswers = everyAnswers;
+        this.keepRecentMessages = keepRecentMessages;
+    }
+
+    @Override
+    public void onAnswerSaved(String sessionId) {
+        if (!enabled) {
+            return;
+        }
+        // 호출부 트랜잭션 안이라면 커밋된 뒤에 확인 (방금 저장한 답변이 보이도록)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshAsync(sessionId);
+                }
+            });
+        } else {
+            refreshAsync(sessionId);
+        }
+    }
+
+    private void refreshAsync(String sessionId) {
+        if (!inFlight.add(sessionId)) {
+            return;
+        }
+        try {
+            aiCallbackExecutor.executor().execute(() -> {
+                boolean started = false;
+                try {
+                    started = refreshIfNeeded(sessionId);
+                } catch (Exception e) {
+                    log.warn("대화 요약 갱신 준비 실패: sessionId={}, error={}", sessionId, e.getMessage());
+                } finally {
+                    if (!started) {
+                        inFlight.remove(sessionId);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 차면 이번 갱신은 건너뛰고 다음 답변에서 다시 시도
+            inFlight.remove(sessionId);
+            log.warn("대화 요약 갱신 건너뜀(실행 대기열 가득 참): sessionId={}", sessionId);
+        }
+    }
+
+    /**
+     * 요약 이후 답변이 everyAnswers개 이상이면, 최근 keepRecentMessages개를 뺀 나머지를 요약에 합칩니다.
+     * AI 호출을 시작했으면 true (완료 시 inFlight 해제)
+     */
+    private boolean refreshIfNeeded(String sessionId) {
+        ConversationSession session = sessionRepo.findById(sessionId).orElse(null);
+        if (session == null) {
+            return false;
+        }
+        int startNo = episodeStartNo(session);
+        Optional<ConversationSummary> current = currentSummary(sessionId, startNo);
+        int summarizedUpTo = current.map(ConversationSummary::getUpToMessageNo).orElse(startNo - 1);
+
+        long pendingAnswers = messageRepo.countBySessionIdAndMessageTypeAndMessageNoGreaterThan(
+                sessionId, MessageType.ANSWER, summarizedUpTo);
+        if (pendingAnswers < everyAnswers) {
+            return false;
+        }
+        Integer maxNo = messageRepo.findMaxMessageNo(sessionId);
+        int foldUpTo = (maxNo == null ? 0 : maxNo) - keepRecentMessages;
+        if (foldUpTo <= summarizedUpTo) {
+            return false;
+        }
+
+        List<ConversationMessage> toFold = messageRepo
+                .findBySessionIdAndMessageNoBetweenOrderByMessageNo(sessionId, summarizedUpTo + 1, foldUpTo);
+        String previousSummary = current.map(ConversationSummary::getSummary).orElse("");
+
+        log.info("대화 요약 갱신 시작: sessionId={}, messages {}~{}", sessionId, summarizedUpTo + 1, foldUpTo);
+        aiClient.episode().summarizeAsync(previousSummary, toDialog(toFold))
+                .whenCompleteAsync((summary, ex) -> {
+                    try {
+                        if (ex != null) {
+                            log.warn("대화 요약 갱신 실패(다음 답변에서 재시도): sessionId={}, error={}",
+                                    sessionId, ex.getMessage());
+                            return;
+                        }
+                        summaryRepo.save(ConversationSummary.builder()
+                                .sessionId(sessionId)
+                                .summary(summary)
+                                .fromMessageNo(startNo)
+                                .upToMessageNo(foldUpTo)
+                                .createdAt(current.map(ConversationSummary::getCreatedAt).orElse(null))
+                                .build());
+                        log.info("대화 요약 갱신 완료: sessionId={}, upTo={}", sessionId, foldUpTo);
+                    } finally {
+                        inFlight.remove(sessionId);
+                    }
+                }, aiCallbackExecutor.executor())
+                .exceptionally(ex -> {
+                    // 후속 단계가 실행 대기열에서 거절된 경우에도 다음 답변에서 다시 시도할 수 있게 해제
+                    inFlight.remove(sessionId);
+                    return null;
+                });
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String buildEpisodeDialog(String sessionId, int startNo, int endNo) {
+        Optional<ConversationSummary> summary = currentSummary(sessionId, startNo)
+                .filter(s -> s.getUpToMessageNo() < endNo);
+        int rawFrom = summary.map(s -> s.getUpToMessageNo() + 1).orElse(startNo);
+
+        // 구간 메시지를 목록으로 모으지 않고 커서로 읽으면서 바로 대화문에 붙임
+        StringBuilder dialog = new StringBuilder();
+        summary.ifPresent(s -> dialog.append("[이전 대화 요약]\n").append(s.getSummary()).append("\n\n[최근 대화]\n"));
+        try (Stream<ConversationMessage> recent = messageRepo
+                .streamBySessionIdAndMessageNoBetween(sessionId, rawFrom, endNo)) {
+            recent.forEach(m -> appendLine(dialog, m));
+        }
+        return dialog.toString();
+    }
+
+    // 현재 에피소드 구간에서 시작된 요약만 사용 (이전 챕터 요약은 무시)
+    private Optional<ConversationSummary> currentSummary(String sessionId, int startNo) {
+        return summaryRepo.findById(sessionId)
+                .filter(s -> s.getFromMessageNo() == startNo);
+    }
+
+    private static int episodeStartNo(ConversationSession session) {
+        Integer startNo = session.getEpisodeStartMessageNo();
+        return startNo == null ? 1 : startNo;
+    }
+
+    private static String toDialog(List<ConversationMessage> messages) {
+        StringBuilder dialog = new StringBuilder();
+        for (ConversationMessage m : messages) {
+            appendLine(dialog, m);
+        }
+        return dialog.toString();
+    }
+
+    private static void appendLine(StringBuilder dialog, ConversationMessage m) {
+        dialog.append(m.getMessageType()).append(": ").append(m.getContent()).append("\n");
+    }
+}
@@ -24,6 +24,11 @@ public interface EpisodeService {
 
     EpisodeResponse createEpisodeFromCurrentWindow(Episode episode, String sessionId) throws JsonProcessingException;
 
+    // 현재 에피소드 구간 대화로 AI 원본 응답 생성 (파싱/저장은 호출부에서)
+    String generateEpisodeText(String sessionId);
+
+    EpisodeResponse saveEpisodeWithAiResult(Long episodeId, String title, String content);
+
     // 이미지 관련 메서드
     EpisodeImageResponse uploadImage(Long bookId, Long episodeId, MultipartFile file, 
                                    EpisodeImageUploadRequest request, Long memberId);
@@ -14,12 +14,15 @@ import com.c203.autobiography.domain.episode.entity.ConversationSession;
 import com.c203.autobiography.domain.episode.entity.Episode;
 import com.c203.autobiography.domain.episode.entity.EpisodeImage;
 import com.c203.autobiography.domain.episode.entity.EpisodeImageId;
+import com.c203.autobiography.domain.episode.job.service.EpisodeResultParser;
+import com.c203.autobiography.domain.episode.job.service.EpisodeResultParser.EpisodeDraft;
 import com.c203.autobiography.domain.episode.repository.ConversationMessageRepository;
 import com.c203.autobiography.domain.episode.repository.ConversationSessionRepository;
 import com.c203.autobiography.domain.episode.repository.EpisodeImageRepository;
 import com.c203.autobiography.domain.episode.repository.EpisodeRepository;
 import com.c203.autobiography.domain.member.entity.Member;
 import com.c203.autobiography.domain.member.repository.MemberRepository;
+import com.c203.autobiography.domain.sse.service.SseService;
 import com.c203.autobiography.global.exception.ApiException;
 import com.c203.autobiography.global.exception.ErrorCode;
 import com.c203.autobiography.global.s3.FileStorageService;
@@ -28,8 +31,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -51,6 +52,10 @@ public class EpisodeServiceImpl implements EpisodeService {
     private final BookRepository bookRepository;
     private final ConversationSessionRepository conversationSessionRepository;
     private final FileStorageService fileStorageService;
+    private final SseService sseService;
+    private final EpisodeResultParser episodeResultParser;
+    private final ConversationSummaryService conversationSummaryService;
+    private final TranscriptIngestionBuffer transcriptBuffer;
 
     /**
      * 에피소드 생성
@@ -194,7 +199,20 @@ public class EpisodeServiceImpl implements EpisodeService {
     @Override
     public EpisodeResponse createEpisodeFromCurrentWindow(Episode episode, String sessionId)
             throws JsonProcessingException {
+        String rawApiResponse = generateEpisodeText(sessionId);
+        EpisodeDraft draft = episodeResultParser.parse(rawApiResponse);
 
+        // 파싱된 결과를 가지고 DB에 저장하는 '트랜잭션 메소드'를 호출
+        return saveEpisodeWithAiResult(episode.getEpisodeId(), draft.title(), draft.content());
+    }
+
+    /**
+     * 현재 에피소드 구간의 대화로 AI 원본 응답을 생성합니다.
+     * 생성에 수십 초가 걸리므로 트랜잭션(DB 커넥션)을 잡지 않고 실행합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String generateEpisodeText(String sessionId) {
         var session = conversationSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new ApiException(ErrorCode.INVALID_INPUT_VALUE));
         Integer startNo = session.getEpisodeStartMessageNo();
@@ -203,19 +221,15 @@ public class EpisodeServiceImpl implements EpisodeService {
             startNo = 1;
         }
 
+        // 아직 버퍼에 있는 STT 청크까지 포함하도록 먼저 저장
+        transcriptBuffer.flushPending();
         Integer endNo = conversationMessageRepository.findMaxMessageNo(sessionId);
 
         if (endNo == null || endNo < startNo) {
             throw new ApiException(ErrorCode.INVALID_INPUT_VALUE); // 포함할 메시지가 없음
         }
-        List<ConversationMessage> history = conversationMessageRepository
-                .findBySessionIdAndMessageNoBetweenOrderByMessageNo(sessionId, startNo, endNo);
-
-        // 대화 텍스트 합치기
-        StringBuilder dialog = new StringBuilder();
-        for (ConversationMessage m : history) {
-            dialog.append(m.getMessageType()).append(": ").append(m.getContent()).append("\n");
-        }
+        // 누적 요약이 있으면 [요약 + 최근 원문], 없으면 구간 전체 원문
+        String dialog = conversationSummaryService.buildEpisodeDialog(sessionId, startNo, endNo);
 
         String chapterId = session.getCurrentChapterId();
 
@@ -224,36 +238,25 @@ public class EpisodeServiceImpl implements EpisodeService {
             throw new ApiException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        String rawApiResponse = aiClient.episode().generateEpisode(chapterId, dialog.toString(), true);
-
-        String innerJsonContent = extractAssistantText(rawApiResponse); // 헬퍼 메소드 사용
-        if (innerJsonContent == null) {
-            throw new ApiException(ErrorCode.INVALID_FILE_FORMAT);
-        }
-        String cleaned = cleanInnerJsonText(innerJsonContent);
-        ObjectMapper om = new ObjectMapper();
-        JsonNode finalNode = om.readTree(cleaned);
-        String title = finalNode.path("title").asText(null);
-        String content = finalNode.path("content").asText(null);
-
-        // 4. 파싱된 결과를 가지고 DB에 저장하는 '트랜잭션 메소드'를 호출
-        return saveEpisodeWithAiResult(episode, title, content);
-
+        // 생성 중인 조각은 episodeDelta로 먼저 흘려보내고, 완성본은 호출부에서 episode 이벤트로 전송
+        return aiClient.episode().generateEpisode(chapterId, dialog, true,
+                delta -> sseService.pushEpisodeDelta(sessionId, delta));
     }
 
 
     /**
      * [신규] AI 결과를 DB에 저장하는 역할만 담당하는 새로운 트랜잭션 메소드 이 메소드는 매우 빠르게 실행되므로 커넥션을 오래 차지하지 않습니다.
      */
+    @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public EpisodeResponse saveEpisodeWithAiResult(Episode episode, String title, String content) {
+    public EpisodeResponse saveEpisodeWithAiResult(Long episodeId, String title, String content) {
         if (title == null || content == null) {
             log.error("AI 결과에서 제목 또는 콘텐츠가 누락되었습니다.");
             throw new ApiException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
         // DB에서 최신 상태의 Episode 엔티티를 다시 가져오는 것이 더 안전합니다.
-        Episode managedEpisode = episodeRepository.findById(episode.getEpisodeId())
+        Episode managedEpisode = episodeRepository.findById(episodeId)
                 .orElseThrow(() -> new ApiException(ErrorCode.EPISODE_NOT_FOUND));
 
         managedEpisode.updateEpisode(
@@ -279,111 +282,6 @@ public class EpisodeServiceImpl implements EpisodeService {
         return s.length() <= max ? s : s.substring(0, max) + "...(truncated)";
     }
 
-    // 문자열 전처리 헬퍼 메소드
-    private static String cleanInnerJsonText(String text) {
-        if (text == null) {
-            return null;
-        }
-        // ```json ... ``` 만 제거 (본문만 정리)
-        String trimmed = text.trim();
-        if (trimmed.startsWith("```")) {
-            trimmed = trimmed.replaceFirst("^```(?:json)?\\s*", "");
-            trimmed = trimmed.replaceFirst("\\s*```\\s*$", "");
-        }
-        return trimmed.trim();
-    }
-
-    private static String extractAssistantText(String raw) throws JsonProcessingException {
-        if (raw == null) {
-            return null;
-        }
-        String t = raw.trim();
-
-        // 0) 백틱 코드블록 제거(있다면)
-        if (t.startsWith("```")) {
-            t = cleanInnerJsonText(t);
-        }
-
-        // 0-1) 이미 {"title": "...", "content": "..."} 형태로 온 경우 바로 통과
-        if (t.startsWith("{") && t.endsWith("}")) {
-            try {
-                ObjectMapper om = new ObjectMapper();
-                JsonNode node = om.readTree(t);
-                if (node.has("title") && node.has("content")) {
-                    return t; // 이미 최종 JSON
-                }
-            } catch (Exception ignore) {
-            }
-        }
-
-        // 0-2) 응답이 이중 인코딩된 JSON 문자열인 경우 처리 ( "{"title":".."}" )
-        if (t.startsWith("\"") && t.endsWith("\"")) {
-            try {
-                ObjectMapper om = new ObjectMapper();
-                JsonNode asTextNode = om.readTree(t);
-                if (asTextNode.isTextual()) {
-                    String unquoted = asTextNode.asText().trim();
-                    if (unquoted.startsWith("{") && unquoted.endsWith("}")) {
-                        JsonNode node2 = om.readTree(unquoted);
-                        if (node2.has("title") && node2.has("content")) {
-                            return unquoted;
-                        }
-                        // 래퍼일 수도 있으니 아래 일반 흐름으로 계속 진행
-                        t = unquoted;
-                    }
-                }
-            } catch (Exception ignore) {
-            }
-        }
-
-        // 1) OpenAI chat 랩퍼에서 추출
-        ObjectMapper om = new ObjectMapper();
-        JsonNode root = om.readTree(t);
-
-        JsonNode msg = root.path("choices").path(0).path("message");
-
-        // 1-1) content가 문자열
-        JsonNode content = msg.get("content");
-        if (content != null && !content.isNull()) {
-            if (content.isTextual()) {
-                return content.asText();
-            }
-
-            // 1-2) content가 배열(Responses 스타일)
-            if (content.isArray()) {
-                StringBuilder sb = new StringBuilder();
-                for (JsonNode part : content) {
-                    if (part.hasNonNull("text")) {
-                        sb.append(part.get("text").asText());
-                    } else if (part.hasNonNull("output_text")) {
-                        sb.append(part.get("output_text").asText());
-                    }
-                }
-                if (sb.length() > 0) {
-                    return sb.toString();
-                }
-            }
-        }
-        // 1-3) content가 객체 { type, text } 형태인 경우
-        if (content != null && content.isObject()) {
-            if (content.hasNonNull("text")) {
-                return content.get("text").asText();
-            }
-            if (content.hasNonNull("output_text")) {
-                return content.get("output_text").asText();
-            }
-        }
-
-        // 2) tool_calls(function.arguments)에 JSON이 담긴 경우
-        JsonNode toolArgs = msg.path("tool_calls").path(0).path("function").path("arguments");
-        if (!toolArgs.isMissingNode() && !toolArgs.isNull()) {
-            return toolArgs.isTextual() ? toolArgs.asText() : toolArgs.toString();
-        }
-
-        return null;
-    }
-
-
     /**
      * 공통 검증 로직: 1) 회원 존재 2) 책 존재 + 논리삭제 체크 + 권한 확인 3) 에피소드 존재 + 논리삭제 체크
      */
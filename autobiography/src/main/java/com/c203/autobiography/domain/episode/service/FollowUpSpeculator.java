@@ -0,0 +1,161 @@
+package com.c203.autobiography.domain.episode.service;
+
+import com.c203.autobiography.domain.ai.token.TokenCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동적 후속 질문 선행 생성 (speculative).
+ * 사용자가 말하는 동안 STT 부분 결과가 들어오면 지금까지의 답변으로 후속 질문을 미리 생성해 두고,
+ * 최종 답변이 도착했을 때 답변이 거의 같으면 그 결과를 그대로 쓰고, 많이 바뀌었으면 취소 후 다시 생성합니다.
+ *
+ * - 같은 턴에서 새 부분 답변이 기존 추측과 충분히 다를 때만 다시 생성하며, 턴당 maxPerTurn 회로 제한합니다.
+ * - 메트릭: ai.followup.speculation{result=hit|miss|superseded}, ai.followup.speculation.wasted.tokens (추정치)
+ */
+@Slf4j
+@Component
+public class FollowUpSpeculator {
+
+    private static final String METRIC_NAME = "ai.followup.speculation";
+
+    private final TokenCounter tokenCounter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int minAnswerTokens;
+    private final int maxExtraTokens;
+    private final int maxPerTurn;
+
+    private final ConcurrentHashMap<String, Speculation> speculations = new ConcurrentHashMap<>();
+
+    public FollowUpSpeculator(
+            TokenCounter tokenCounter,
+            MeterRegistry meterRegistry,
+            @Value("${followup.speculation.enabled:false}") boolean enabled,
+            @Value("${followup.speculation.min-answer-tokens:15}") int minAnswerTokens,
+            @Value("${followup.speculation.max-extra-tokens:12}") int maxExtraTokens,
+            @Value("${followup.speculation.max-per-turn:3}") int maxPerTurn) {
+        this.tokenCounter = tokenCounter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minAnswerTokens = minAnswerTokens;
+        this.maxExtraTokens = maxExtraTokens;
+        this.maxPerTurn = maxPerTurn;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 부분 답변으로 선행 생성을 시작합니다. 이미 비슷한 답변으로 생성 중이면 아무것도 하지 않습니다.
+     */
+    public void speculate(String sessionId, String sectionKey, String partialAnswer, String nextQuestion,
+                          Supplier<CompletableFuture<String>> generator) {
+        if (!enabled || partialAnswer == null || tokenCounter.count(partialAnswer) < minAnswerTokens) {
+            return;
+        }
+        speculations.compute(sessionId, (id, current) -> {
+            int attempts = 0;
+            if (current != null && current.matchesTarget(sectionKey, nextQuestion)) {
+                if (isMarginalChange(current.answer, partialAnswer)) {
+                    return current;
+                }
+                attempts = current.attempts;
+                if (attempts >= maxPerTurn) {
+                    return current; // 비용 상한: 이번 턴은 더 추측하지 않음
+                }
+            }
+            if (current != null) {
+                discard(current, "superseded");
+            }
+            log.debug("후속 질문 선행 생성 시작: sessionId={}, attempt={}", sessionId, attempts + 1);
+            return new Speculation(sectionKey, nextQuestion, partialAnswer, generator.get(), attempts + 1);
+        });
+    }
+
+    /**
+     * 최종 답변 기준으로 선행 생성 결과를 가져갑니다.
+     * 답변이 거의 같으면 생성 중(또는 완료된) 결과를, 아니면 취소 후 null을 반환합니다.
+     */
+    public CompletableFuture<String> take(String sessionId, String sectionKey, String finalAnswer,
+                                          String nextQuestion) {
+        Speculation speculation = speculations.remove(sessionId);
+        if (speculation == null) {
+            return null;
+        }
+        if (speculation.matchesTarget(sectionKey, nextQuestion)
+                && isMarginalChange(speculation.answer, finalAnswer)
+                && !speculation.result.isCompletedExceptionally()) {
+            meterRegistry.counter(METRIC_NAME, "result", "hit").increment();
+            log.info("후속 질문 선행 생성 결과 사용: sessionId={}", sessionId);
+            return speculation.result;
+        }
+        discard(speculation, "miss");
+        return null;
+    }
+
+    /**
+     * 질문 건너뛰기 등으로 턴이 바뀌었을 때 진행 중인 추측을 버립니다.
+     */
+    public void discard(String sessionId) {
+        Speculation speculation = speculations.remove(sessionId);
+        if (speculation != null) {
+            discard(speculation, "superseded");
+        }
+    }
+
+    private void discard(Speculation speculation, String result) {
+        speculation.result.cancel(true);
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+        // 취소 전에 이미 끝났다면 응답 토큰까지, 아니면 입력(답변) 토큰만 낭비로 집계
+        long wasted = tokenCounter.count(speculation.answer);
+        if (speculation.result.isDone() && !speculation.result.isCompletedExceptionally()) {
+            wasted += tokenCounter.count(speculation.result.getNow(""));
+        }
+        meterRegistry.counter(METRIC_NAME + ".wasted.tokens").increment(wasted);
+    }
+
+    // 최종 답변이 추측에 쓴 답변과 같거나, 그 뒤에 짧게 덧붙인 정도면 같은 답변으로 봄
+    private boolean isMarginalChange(String speculated, String actual) {
+        String a = normalize(speculated);
+        String b = normalize(actual);
+        if (a.equals(b)) {
+            return true;
+        }
+        if (!b.startsWith(a)) {
+            return false;
+        }
+        return tokenCounter.count(b.substring(a.length())) <= maxExtraTokens;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ");
+    }
+
+    private static final class Speculation {
+        private final String sectionKey;
+        private final String nextQuestion;
+        private final String answer;
+        private final CompletableFuture<String> result;
+        private final int attempts;
+
+        private Speculation(String sectionKey, String nextQuestion, String answer,
+                            CompletableFuture<String> result, int attempts) {
+            this.sectionKey = sectionKey;
+            this.nextQuestion = nextQuestion;
+            this.answer = answer;
+            this.result = result;
+            this.attempts = attempts;
+        }
+
+        private boolean matchesTarget(String sectionKey, String nextQuestion) {
+            return Objects.equals(this.sectionKey, sectionKey) && Objects.equals(this.nextQuestion, nextQuestion);
+        }
+    }
+}
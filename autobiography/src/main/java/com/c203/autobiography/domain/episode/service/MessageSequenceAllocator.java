@@ -0,0 +1,88 @@
+package com.c203.autobiography.domain.episode.service;
+
+import com.c203.autobiography.domain.episode.repository.ConversationMessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 ConversationMessage.messageNo 발급기.
+ * 세션마다 한 번만 DB의 최대 번호로 시작값을 잡고, 이후에는 조회 없이 원자적으로 증가시킵니다.
+ *
+ * - local: 활성 세션별 AtomicInteger (단일 서버)
+ * - redis: 세션별 키에 INCR (여러 서버가 같은 세션의 메시지를 저장할 때)
+ * 번호 충돌(unique 제약 위반)이 나면 resync()로 DB 기준으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+public class MessageSequenceAllocator {
+
+    private static final String KEY_PREFIX = "conv:msgno:";
+
+    private final ConversationMessageRepository messageRepo;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean redisMode;
+    private final Duration redisTtl;
+    private final Cache<String, AtomicInteger> counters;
+
+    public MessageSequenceAllocator(
+            ConversationMessageRepository messageRepo,
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${conversation.message-seq.mode:local}") String mode,
+            @Value("${conversation.message-seq.idle-ttl-min:120}") long idleTtlMin) {
+        this.messageRepo = messageRepo;
+        this.redisTemplate = redisTemplate;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        this.redisTtl = Duration.ofMinutes(idleTtlMin);
+        // 오래 쓰이지 않은 세션의 카운터는 비우고, 다음 사용 때 DB에서 다시 시작값을 잡음
+        this.counters = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleTtlMin))
+                .build();
+    }
+
+    public int next(String sessionId) {
+        if (redisMode) {
+            return nextFromRedis(sessionId);
+        }
+        return counters.get(sessionId, id -> new AtomicInteger(currentMax(id))).incrementAndGet();
+    }
+
+    /**
+     * 번호 충돌 후 호출: 다음 발급 번호를 DB의 최대 번호 이후로 맞춥니다.
+     */
+    public void resync(String sessionId) {
+        int max = currentMax(sessionId);
+        log.warn("메시지 번호 충돌, 시퀀스를 다시 맞춥니다: sessionId={}, dbMax={}", sessionId, max);
+        if (redisMode) {
+            String key = KEY_PREFIX + sessionId;
+            Long current = redisTemplate.opsForValue().increment(key, 0);
+            if (current == null || current < max) {
+                redisTemplate.opsForValue().increment(key, max - (current == null ? 0 : current));
+            }
+            return;
+        }
+        counters.get(sessionId, id -> new AtomicInteger(max))
+                .accumulateAndGet(max, Math::max);
+    }
+
+    private int nextFromRedis(String sessionId) {
+        String key = KEY_PREFIX + sessionId;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            // 여러 서버가 동시에 시작값을 잡아도 먼저 쓴 값만 남음
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(currentMax(sessionId)), redisTtl);
+        }
+        Long next = redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, redisTtl);
+        return next.intValue();
+    }
+
+    private int currentMax(String sessionId) {
+        Integer max = messageRepo.findMaxMessageNo(sessionId);
+        return max == null ? 0 : max;
+    }
+}
@@ -0,0 +1,221 @@
+package com.c203.autobiography.domain.episode.service;
+
+import com.c203.autobiography.domain.episode.entity.ConversationSession;
+import com.c203.autobiography.domain.episode.repository.ConversationSessionRepository;
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인터뷰 세션 상태 머신 (write-behind).
+ * 진행 중인 세션 상태를 메모리에 두고 상태 전이(후속 질문 인덱스, 템플릿 이동, 종료 등)를 세션 단위로 원자적으로 적용한 뒤,
+ * 한 턴이 끝날 때 flush()로 한 번만 저장합니다. flush되지 않은 변경은 flush-interval-ms 주기로 모아 저장합니다.
+ *
+ * - 엔티티는 toBuilder로 교체만 하므로 전이 결과를 그대로 보관합니다.
+ * - 턴을 시작할 때 begin()으로 DB의 version과 비교해, 다른 서버가 먼저 저장했으면 DB에서 다시 읽습니다.
+ * - 저장은 @Version 낙관적 잠금으로 보호되며, 충돌하면 메모리 상태를 버리고 SESSION_CONFLICT로 턴을 실패시킵니다.
+ *   호출부 트랜잭션 안에서의 저장 실패는 삼키지 않고 그대로 던져 트랜잭션과 함께 롤백합니다.
+ */
+@Slf4j
+@Component
+public class SessionStateMachine {
+
+    private final ConversationSessionRepository sessionRepo;
+    private final long idleEvictMs;
+
+    private final Map<String, LiveSession> sessions = new ConcurrentHashMap<>();
+
+    public SessionStateMachine(
+            ConversationSessionRepository sessionRepo,
+            @Value("${conversation.session.idle-evict-minutes:30}") long idleEvictMinutes) {
+        this.sessionRepo = sessionRepo;
+        this.idleEvictMs = idleEvictMinutes * 60_000;
+    }
+
+    public Optional<ConversationSession> find(String sessionId) {
+        LiveSession live = load(sessionId);
+        return live == null ? Optional.empty() : Optional.of(live.current());
+    }
+
+    public ConversationSession get(String sessionId) {
+        return find(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
+    }
+
+    /**
+     * 한 턴의 시작에서 호출합니다. 메모리 상태의 version이 DB와 다르면(다른 서버가 저장함) 버리고 DB에서 다시 읽습니다.
+     */
+    public ConversationSession begin(String sessionId) {
+        LiveSession live = sessions.get(sessionId);
+        if (live != null) {
+            synchronized (live.flushLock) {
+                Long dbVersion = sessionRepo.findVersion(sessionId).orElse(null);
+                ConversationSession current = live.current();
+                if (!Objects.equals(dbVersion, current.getVersion())) {
+                    sessions.remove(sessionId, live);
+                    if (live.isDirty()) {
+                        log.warn("다른 서버가 세션을 먼저 저장해 저장되지 않은 변경을 버립니다: sessionId={}, version={}→{}",
+                                sessionId, current.getVersion(), dbVersion);
+                    }
+                }
+            }
+        }
+        return get(sessionId);
+    }
+
+    /**
+     * 현재 상태에 전이를 적용합니다. 같은 세션의 전이는 순서대로 하나씩 적용되며, 저장은 flush 때 이뤄집니다.
+     */
+    public ConversationSession transition(String sessionId, UnaryOperator<ConversationSession> change) {
+        LiveSession live = load(sessionId);
+        if (live == null) {
+            throw new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId);
+        }
+        return live.apply(change);
+    }
+
+    /**
+     * 저장되지 않은 전이가 있으면 한 번에 저장합니다. (한 턴의 끝에서 호출)
+     * 호출부 트랜잭션이 롤백되면 메모리 상태도 버립니다.
+     *
+     * @throws ApiException SESSION_CONFLICT - 다른 서버가 먼저 저장한 경우 (메모리 상태는 버림)
+     */
+    public void flush(String sessionId) {
+        LiveSession live = sessions.get(sessionId);
+        if (live == null) {
+            return;
+        }
+        synchronized (live.flushLock) {
+            ConversationSession snapshot;
+            long seq;
+            synchronized (live) {
+                if (!live.isDirty()) {
+                    return;
+                }
+                snapshot = live.state;
+                seq = live.seq;
+            }
+            try {
+                ConversationSession saved = sessionRepo.saveAndFlush(snapshot);
+                live.markFlushed(seq, saved);
+                evictOnRollback(sessionId, live);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                sessions.remove(sessionId, live);
+                log.warn("세션 상태 저장 충돌, 메모리 상태를 버리고 DB 상태를 사용합니다: sessionId={}", sessionId);
+                throw new ApiException(ErrorCode.SESSION_CONFLICT);
+            } catch (DataAccessException e) {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    // 호출부 트랜잭션은 이미 rollback-only이므로 함께 실패시킴
+                    sessions.remove(sessionId, live);
+                    throw e;
+                }
+                // dirty 상태로 남겨 두고 다음 주기에 다시 저장
+                log.warn("세션 상태 저장 실패(다음 주기에 재시도): sessionId={}, error={}", sessionId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 메모리 상태를 버립니다. 저장되지 않은 전이가 있으면 먼저 저장합니다.
+     */
+    public void evict(String sessionId) {
+        try {
+            flush(sessionId);
+        } catch (ApiException e) {
+            // 충돌한 상태는 이미 버림
+        }
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * write-behind: 턴 끝에서 저장하지 못한 변경(토큰 수 누적 등)을 주기적으로 저장하고, 오래 쓰이지 않은 세션은 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${conversation.session.flush-interval-ms:2000}")
+    public void flushDirty() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, LiveSession> entry : sessions.entrySet()) {
+            LiveSession live = entry.getValue();
+            if (live.isDirty()) {
+                try {
+                    flush(entry.getKey());
+                } catch (ApiException e) {
+                    // 충돌한 상태는 이미 버림 (다음 조회 때 DB에서 다시 읽음)
+                }
+            } else if (now - live.lastAccessAt > idleEvictMs) {
+                sessions.remove(entry.getKey(), live);
+            }
+        }
+    }
+
+    private LiveSession load(String sessionId) {
+        LiveSession live = sessions.get(sessionId);
+        if (live == null) {
+            live = sessionRepo.findById(sessionId)
+                    .map(s -> sessions.computeIfAbsent(sessionId, id -> new LiveSession(s)))
+                    .orElse(null);
+        }
+        if (live != null) {
+            live.lastAccessAt = System.currentTimeMillis();
+        }
+        return live;
+    }
+
+    private void evictOnRollback(String sessionId, LiveSession live) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    sessions.remove(sessionId, live);
+                }
+            }
+        });
+    }
+
+    private static final class LiveSession {
+        private final Object flushLock = new Object();
+        private ConversationSession state;
+        // 전이 순번 / 마지막으로 저장된 전이 순번
+        private long seq;
+        private long flushedSeq;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        private LiveSession(ConversationSession state) {
+            this.state = state;
+        }
+
+        private synchronized ConversationSession current() {
+            return state;
+        }
+
+        private synchronized ConversationSession apply(UnaryOperator<ConversationSession> change) {
+            state = change.apply(state);
+            seq++;
+            return state;
+        }
+
+        private synchronized boolean isDirty() {
+            return seq != flushedSeq;
+        }
+
+        // 저장 중에 새 전이가 없었다면 저장된 엔티티로, 있었다면 새 상태에 증가한 version만 반영
+        private synchronized void markFlushed(long savedSeq, ConversationSession saved) {
+            flushedSeq = savedSeq;
+            state = seq == savedSeq ? saved : state.toBuilder().version(saved.getVersion()).build();
+        }
+    }
+}
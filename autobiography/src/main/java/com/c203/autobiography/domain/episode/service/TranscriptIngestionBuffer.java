@@ -0,0 +1,283 @@
+package com.c203.autobiography.domain.episode.service;
+
+import com.c203.autobiography.domain.episode.entity.ConversationMessage;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * STT 청크 메시지 묶음 저장 버퍼 (group commit).
+ * ConversationMessage는 IDENTITY 키라 Hibernate가 INSERT를 묶지 못하므로, 청크 메시지를 잠시 모아
+ * flush-interval-ms 주기 또는 max-batch-size 도달 시 JDBC 배치 INSERT 한 번과
+ * 세션별 token_count 누적 UPDATE 한 번으로 저장합니다.
+ *
+ * - append()의 Future는 저장이 끝나면 messageId가 채워진 메시지로 완료됩니다.
+ * - 메시지 목록을 읽기 전에는 flushPending()으로 남은 버퍼를 먼저 저장해 읽기 일관성을 맞춥니다.
+ * - 배치가 실패하면 한 건씩 다시 저장하고, messageNo 충돌이면 번호를 새로 받아 한 번 더 시도합니다.
+ */
+@Slf4j
+@Component
+public class TranscriptIngestionBuffer {
+
+    private static final String INSERT_MESSAGE_SQL = """
+            INSERT INTO conversation_messages
+                (session_id, message_type, chunk_index, content, message_no, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String ADD_TOKENS_SQL =
+            "UPDATE conversation_sessions SET token_count = token_count + ? WHERE session_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageSequenceAllocator messageSequence;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flusher;
+
+    private final Object flushLock = new Object();
+    private final ConcurrentLinkedQueue<PendingMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    // merge/remove가 키 단위로 원자적이라 누적 중인 증가분이 drain 사이에 빠지지 않음
+    private final Map<String, Long> pendingTokens = new ConcurrentHashMap<>();
+
+    public TranscriptIngestionBuffer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MessageSequenceAllocator messageSequence,
+            @Value("${stt.ingest.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${stt.ingest.max-batch-size:100}") int maxBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 읽기 전(flushPending) 호출부의 트랜잭션(읽기 전용 포함)에 섞이지 않도록 항상 별도 트랜잭션으로 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.messageSequence = messageSequence;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "transcript-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 메시지(messageNo 발급 완료)를 버퍼에 넣습니다. tokens는 세션 token_count에 함께 더해집니다.
+     */
+    public CompletableFuture<ConversationMessage> append(ConversationMessage message, long tokens) {
+        PendingMessage pending = new PendingMessage(message);
+        pendingMessages.add(pending);
+        addTokens(message.getSessionId(), tokens);
+        if (pendingCount.incrementAndGet() >= maxBatchSize) {
+            flusher.execute(this::flushQuietly);
+        }
+        return pending.future;
+    }
+
+    /**
+     * 세션 token_count 증가분만 누적합니다. (다음 flush 때 UPDATE 한 번으로 반영)
+     */
+    public void addTokens(String sessionId, long tokens) {
+        if (tokens > 0) {
+            pendingTokens.merge(sessionId, tokens, Long::sum);
+        }
+    }
+
+    /**
+     * 버퍼에 남은 메시지/토큰을 지금 저장합니다. 메시지 목록을 읽기 전에 호출합니다.
+     * 버퍼가 비어 있어도 다른 스레드가 꺼내 간 묶음이 아직 커밋 전일 수 있으므로, 그 저장이 끝날 때까지 기다린 뒤 반환합니다.
+     */
+    public void flushPending() {
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flushPending();
+        } catch (Exception e) {
+            log.error("STT 메시지 묶음 저장 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void flush() {
+        synchronized (flushLock) {
+            if (pendingCount.get() == 0 && pendingTokens.isEmpty()) {
+                return;
+            }
+            List<PendingMessage> batch = new ArrayList<>();
+            PendingMessage next;
+            while ((next = pendingMessages.poll()) != null) {
+                pendingCount.decrementAndGet();
+                batch.add(next);
+            }
+            List<Object[]> tokenUpdates = drainTokens();
+            if (batch.isEmpty() && tokenUpdates.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> keys = insertBatch(batch, now);
+                    if (!tokenUpdates.isEmpty()) {
+                        jdbcTemplate.batchUpdate(ADD_TOKENS_SQL, tokenUpdates);
+                    }
+                    return keys;
+                });
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).complete(ids.get(i), now);
+                }
+                log.debug("STT 메시지 묶음 저장: messages={}, sessions={}", batch.size(), tokenUpdates.size());
+            } catch (Exception e) {
+                log.warn("STT 메시지 배치 저장 실패, 한 건씩 다시 저장합니다: {}", e.getMessage());
+                restoreTokens(tokenUpdates);
+                batch.forEach(pending -> insertOne(pending, now));
+            }
+        }
+    }
+
+    private List<Long> insertBatch(List<PendingMessage> batch, LocalDateTime now) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_MESSAGE_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, batch.get(i).message, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    // 배치 실패 시: 한 건씩 저장 (messageNo 충돌이면 번호를 새로 받아 한 번 더)
+    private void insertOne(PendingMessage pending, LocalDateTime now) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(con -> {
+                    PreparedStatement ps = con.prepareStatement(INSERT_MESSAGE_SQL, Statement.RETURN_GENERATED_KEYS);
+                    bind(ps, pending.message, now);
+                    return ps;
+                }, keyHolder));
+                pending.complete(keyHolder.getKey().longValue(), now);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= 2) {
+                    pending.future.completeExceptionally(e);
+                    return;
+                }
+                String sessionId = pending.message.getSessionId();
+                messageSequence.resync(sessionId);
+                pending.renumber(messageSequence.next(sessionId));
+            } catch (Exception e) {
+                pending.future.completeExceptionally(e);
+                return;
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, ConversationMessage m, LocalDateTime now) throws SQLException {
+        Timestamp ts = Timestamp.valueOf(now);
+        ps.setString(1, m.getSessionId());
+        ps.setString(2, m.getMessageType().name());
+        if (m.getChunkIndex() == null) {
+            ps.setNull(3, Types.INTEGER);
+        } else {
+            ps.setInt(3, m.getChunkIndex());
+        }
+        ps.setString(4, m.getContent());
+        ps.setInt(5, m.getMessageNo());
+        ps.setTimestamp(6, ts);
+        ps.setTimestamp(7, ts);
+    }
+
+    private List<Object[]> drainTokens() {
+        List<Object[]> updates = new ArrayList<>();
+        for (String sessionId : pendingTokens.keySet()) {
+            Long tokens = pendingTokens.remove(sessionId);
+            if (tokens != null && tokens > 0) {
+                updates.add(new Object[]{tokens, sessionId});
+            }
+        }
+        return updates;
+    }
+
+    // 토큰 증가분은 유실되지 않도록 다음 flush로 넘김
+    private void restoreTokens(List<Object[]> updates) {
+        for (Object[] update : updates) {
+            addTokens((String) update[1], (Long) update[0]);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+    private static final class PendingMessage {
+        private ConversationMessage message;
+        private final CompletableFuture<ConversationMessage> future = new CompletableFuture<>();
+
+        private PendingMessage(ConversationMessage message) {
+            this.message = message;
+        }
+
+        private void renumber(int messageNo) {
+            message = ConversationMessage.builder()
+                    .sessionId(message.getSessionId())
+                    .messageType(message.getMessageType())
+                    .chunkIndex(message.getChunkIndex())
+                    .content(message.getContent())
+                    .messageNo(messageNo)
+                    .build();
+        }
+
+        private void complete(long messageId, LocalDateTime savedAt) {
+            future.complete(ConversationMessage.builder()
+                    .messageId(messageId)
+                    .sessionId(message.getSessionId())
+                    .messageType(message.getMessageType())
+                    .chunkIndex(message.getChunkIndex())
+                    .content(message.getContent())
+                    .messageNo(message.getMessageNo())
+                    .createdAt(savedAt)
+                    .updatedAt(savedAt)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.c203.autobiography.domain.episode.template.catalog;
+
+import com.c203.autobiography.domain.episode.template.dto.FollowUpType;
+import com.c203.autobiography.domain.episode.template.entity.Chapter;
+import com.c203.autobiography.domain.episode.template.entity.ChapterTemplate;
+import com.c203.autobiography.domain.episode.template.entity.FollowUpQuestion;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * 챕터/템플릿/정적 후속 질문 전체를 한 번에 읽어 만든 불변 스냅샷.
+ * (chapterOrder, templateOrder) 조회, 다음 템플릿, 진행률 분모를 미리 계산해 두어
+ * 질문 전환 경로에서 DB를 조회하지 않습니다.
+ */
+public final class ChapterCatalog {
+
+    private final Map<String, ChapterEntry> chaptersById;
+    private final Map<Integer, ChapterEntry> chaptersByOrder;
+    private final Map<String, TemplateEntry> templatesById;
+    // chapterOrder → (templateOrder → 템플릿)
+    private final Map<Integer, Map<Integer, TemplateEntry>> templatesByOrder;
+    @Getter
+    private final int chapterCount;
+
+    private ChapterCatalog(List<Chapter> chapters, List<ChapterTemplate> templates,
+                           List<FollowUpQuestion> followUps) {
+        Map<String, List<String>> followUpsByTemplate = followUps.stream()
+                .sorted(Comparator.comparing(FollowUpQuestion::getQuestionOrder))
+                .collect(Collectors.groupingBy(f -> f.getChapterTemplate().getTemplateId(),
+                        Collectors.mapping(FollowUpQuestion::getQuestionText, Collectors.toList())));
+
+        Map<String, Integer> templateCountByChapter = templates.stream()
+                .collect(Collectors.groupingBy(t -> t.getChapter().getChapterId(),
+                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)));
+
+        Map<String, ChapterEntry> byId = new HashMap<>();
+        Map<Integer, ChapterEntry> byOrder = new HashMap<>();
+        for (Chapter c : chapters) {
+            ChapterEntry entry = new ChapterEntry(c.getChapterId(), c.getChapterName(), c.getChapterOrder(),
+                    templateCountByChapter.getOrDefault(c.getChapterId(), 0));
+            byId.put(entry.getChapterId(), entry);
+            byOrder.put(entry.getChapterOrder(), entry);
+        }
+
+        Map<String, TemplateEntry> templateById = new HashMap<>();
+        Map<Integer, Map<Integer, TemplateEntry>> templateByOrder = new HashMap<>();
+        for (ChapterTemplate t : templates) {
+            ChapterEntry chapter = byId.get(t.getChapter().getChapterId());
+            if (chapter == null) {
+                continue;
+            }
+            TemplateEntry entry = new TemplateEntry(t.getTemplateId(), t.getStageName(), t.getMainQuestion(),
+                    t.getTemplateOrder(), t.getFollowUpType(), t.getDynamicPromptTemplate(),
+                    chapter.getChapterId(), chapter.getChapterOrder(),
+                    List.copyOf(followUpsByTemplate.getOrDefault(t.getTemplateId(), List.of())));
+            templateById.put(entry.getTemplateId(), entry);
+            templateByOrder.computeIfAbsent(chapter.getChapterOrder(), k -> new HashMap<>())
+                    .put(entry.getTemplateOrder(), entry);
+        }
+
+        this.chaptersById = Map.copyOf(byId);
+        this.chaptersByOrder = Map.copyOf(byOrder);
+        this.templatesById = Map.copyOf(templateById);
+        this.templatesByOrder = templateByOrder.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> Map.copyOf(e.getValue())));
+        this.chapterCount = chapters.size();
+    }
+
+    public static ChapterCatalog of(List<Chapter> chapters, List<ChapterTemplate> templates,
+                                    List<FollowUpQuestion> followUps) {
+        return new ChapterCatalog(chapters, templates, followUps);
+    }
+
+    public ChapterEntry chapter(String chapterId) {
+        return chapterId == null ? null : chaptersById.get(chapterId);
+    }
+
+    public ChapterEntry chapterByOrder(int chapterOrder) {
+        return chaptersByOrder.get(chapterOrder);
+    }
+
+    public TemplateEntry template(String templateId) {
+        return templateId == null ? null : templatesById.get(templateId);
+    }
+
+    public TemplateEntry template(int chapterOrder, int templateOrder) {
+        Map<Integer, TemplateEntry> inChapter = templatesByOrder.get(chapterOrder);
+        return inChapter == null ? null : inChapter.get(templateOrder);
+    }
+
+    /**
+     * 같은 챕터의 다음 메인 템플릿 (없으면 챕터 종료)
+     */
+    public TemplateEntry next(int chapterOrder, int templateOrder) {
+        return template(chapterOrder, templateOrder + 1);
+    }
+
+    public int chapterProgress(String chapterId, int templateOrder) {
+        ChapterEntry chapter = chapter(chapterId);
+        if (chapter == null || chapter.getTemplateCount() == 0) {
+            return 0;
+        }
+        return (templateOrder * 100) / chapter.getTemplateCount();
+    }
+
+    public int overallProgress(int chapterOrder) {
+        if (chapterCount == 0) {
+            return 0;
+        }
+        return (chapterOrder * 100) / chapterCount;
+    }
+
+    public int templateCount() {
+        return templatesById.size();
+    }
+
+    @Getter
+    public static final class ChapterEntry {
+        private final String chapterId;
+        private final String chapterName;
+        private final int chapterOrder;
+        // 챕터 진행률 분모
+        private final int templateCount;
+
+        private ChapterEntry(String chapterId, String chapterName, int chapterOrder, int templateCount) {
+            this.chapterId = chapterId;
+            this.chapterName = chapterName;
+            this.chapterOrder = chapterOrder;
+            this.templateCount = templateCount;
+        }
+    }
+
+    @Getter
+    public static final class TemplateEntry {
+        private final String templateId;
+        private final String stageName;
+        private final String mainQuestion;
+        private final int templateOrder;
+        private final FollowUpType followUpType;
+        private final String dynamicPromptTemplate;
+        private final String chapterId;
+        private final int chapterOrder;
+        // questionOrder 순서의 정적 후속 질문
+        private final List<String> staticFollowUps;
+
+        private TemplateEntry(String templateId, String stageName, String mainQuestion, int templateOrder,
+                              FollowUpType followUpType, String dynamicPromptTemplate, String chapterId,
+                              int chapterOrder, List<String> staticFollowUps) {
+            this.templateId = templateId;
+            this.stageName = stageName;
+            this.mainQuestion = mainQuestion;
+            this.templateOrder = templateOrder;
+            this.followUpType = followUpType;
+            this.dynamicPromptTemplate = dynamicPromptTemplate;
+            this.chapterId = chapterId;
+            this.chapterOrder = chapterOrder;
+            this.staticFollowUps = staticFollowUps;
+        }
+    }
+}
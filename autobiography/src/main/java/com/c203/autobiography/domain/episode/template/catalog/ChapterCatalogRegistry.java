@@ -0,0 +1,68 @@
+package com.c203.autobiography.domain.episode.template.catalog;
+
+import com.c203.autobiography.domain.episode.template.repository.ChapterRepository;
+import com.c203.autobiography.domain.episode.template.repository.ChapterTemplateRepository;
+import com.c203.autobiography.domain.episode.template.repository.FollowUpQuestionRepository;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 챕터 카탈로그 레지스트리: 챕터 데이터를 한 번 읽어 불변 스냅샷으로 보관합니다.
+ * 인터뷰 질문 전환 경로는 current()만 사용하고, ChapterDataInitService가 다시 시드하면
+ * 커밋 후 reload()로 새 스냅샷을 만들어 원자적으로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterCatalogRegistry {
+
+    private final ChapterRepository chapterRepo;
+    private final ChapterTemplateRepository templateRepo;
+    private final FollowUpQuestionRepository followUpRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<ChapterCatalog> catalog = new AtomicReference<>();
+
+    // 시드(CommandLineRunner)가 끝난 뒤 한 번 더 읽어 둠
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reload();
+    }
+
+    /**
+     * 현재 카탈로그 스냅샷 (아직 없으면 지금 만듭니다)
+     */
+    public ChapterCatalog current() {
+        ChapterCatalog current = catalog.get();
+        if (current == null) {
+            reload();
+            current = catalog.get();
+        }
+        return current;
+    }
+
+    /**
+     * 챕터 데이터를 다시 읽어 스냅샷을 교체합니다. 실패하면 기존 스냅샷을 유지합니다.
+     */
+    public void reload() {
+        try {
+            ChapterCatalog loaded = transactionTemplate.execute(status -> ChapterCatalog.of(
+                    chapterRepo.findAllByOrderByChapterOrderAsc(),
+                    templateRepo.findAll(),
+                    followUpRepo.findAll()));
+            catalog.set(loaded);
+            log.info("챕터 카탈로그 로드 완료 (chapters={}, templates={})",
+                    loaded.getChapterCount(), loaded.templateCount());
+        } catch (Exception e) {
+            if (catalog.get() == null) {
+                throw e;
+            }
+            log.error("챕터 카탈로그 다시 읽기 실패, 기존 스냅샷을 유지합니다: {}", e.getMessage());
+        }
+    }
+}
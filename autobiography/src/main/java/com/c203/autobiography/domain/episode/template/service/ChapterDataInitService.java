@@ -1,5 +1,6 @@
 package com.c203.autobiography.domain.episode.template.service;
 
+import com.c203.autobiography.domain.episode.template.catalog.ChapterCatalogRegistry;
 import com.c203.autobiography.domain.episode.template.dto.FollowUpType;
 import com.c203.autobiography.domain.episode.template.entity.*;
 import com.c203.autobiography.domain.episode.template.repository.*;
@@ -7,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
@@ -20,6 +23,7 @@ public class ChapterDataInitService {
     private final ChapterRepository chapterRepo;
     private final ChapterTemplateRepository templateRepo;
     private final FollowUpQuestionRepository followUpRepo;
+    private final ChapterCatalogRegistry chapterCatalogRegistry;
 
     /**
      * 사용자가 제안한 구조를 기반으로 챕터와 템플릿 데이터 초기화
@@ -40,6 +44,14 @@ public class ChapterDataInitService {
         lv = createChapter6(lv);
 
         log.info("고품질 챕터 기반 질문 데이터 초기화 완료");
+
+        // 커밋된 뒤에 인터뷰 경로가 쓰는 챕터 카탈로그를 새 데이터로 교체
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chapterCatalogRegistry.reload();
+            }
+        });
     }
 
     private int createChapter1(int lv) {
@@ -12,12 +12,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.Map;
 
 @Tag(name = "GroupEpisode")
@@ -227,6 +231,17 @@ public class GroupEpisodeController {
         return groupEpisodeService.establishConversationStream(sessionId, groupId, groupBookId, episodeId);
     }
 
+    @Operation(summary = "SSE 스트림 연결 (Flux)", description = "세션별 bounded 버퍼 기반 실시간 스트림을 연결합니다. 이벤트 형식은 /stream과 같습니다.")
+    @GetMapping(value = "/{episodeId}/{sessionId}/stream/flux", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamFlux(
+            @PathVariable Long groupId,
+            @PathVariable Long groupBookId,
+            @PathVariable Long episodeId,
+            @PathVariable String sessionId
+    ) {
+        return groupEpisodeService.openConversationStream(sessionId, groupId, groupBookId, episodeId);
+    }
+
     @Operation(summary = "AI 질문 받기", description = "다음 AI 질문을 요청합니다.")
     @PostMapping("/{episodeId}/conversation/next")
     public ResponseEntity<ApiResponse<Void>> nextQuestion(
@@ -259,7 +274,7 @@ public class GroupEpisodeController {
 
     @Operation(summary = "사용자 답변 제출", description = "질문에 대한 사용자의 답변을 제출합니다.")
     @PostMapping("/{episodeId}/conversation/answer")
-    public ResponseEntity<ApiResponse<Void>> submitAnswer(
+    public DeferredResult<ResponseEntity<ApiResponse<Void>>> submitAnswer(
             @PathVariable Long groupId,
             @PathVariable Long groupBookId,
             @PathVariable Long episodeId,
@@ -269,9 +284,21 @@ public class GroupEpisodeController {
             HttpServletRequest httpRequest
     ) {
         Long memberId = userDetails.getMemberId();
-        groupEpisodeService.submitAnswer(memberId, groupId, groupBookId, episodeId, sessionId, request);
-        return ResponseEntity.ok()
-                .body(ApiResponse.of(HttpStatus.OK, "답변 제출 완료", null, httpRequest.getRequestURI()));
+        String requestUri = httpRequest.getRequestURI();
+        DeferredResult<ResponseEntity<ApiResponse<Void>>> result = new DeferredResult<>();
+
+        // AI 교정이 끝날 때까지 서블릿 스레드를 점유하지 않음
+        groupEpisodeService.submitAnswer(memberId, groupId, groupBookId, episodeId, sessionId, request)
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        result.setErrorResult(ex instanceof CompletionException && ex.getCause() != null
+                                ? ex.getCause() : ex);
+                        return;
+                    }
+                    result.setResult(ResponseEntity.ok()
+                            .body(ApiResponse.of(HttpStatus.OK, "답변 제출 완료", null, requestUri)));
+                });
+        return result;
     }
 
 }
@@ -2,9 +2,12 @@ package com.c203.autobiography.domain.groupbook.episode.service;
 
 import com.c203.autobiography.domain.groupbook.episode.dto.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface GroupEpisodeService {
     GroupEpisodeResponse create(Long groupId, Long groupBookId, GroupEpisodeCreateRequest request, Long memberId);
@@ -33,13 +36,16 @@ public interface GroupEpisodeService {
     String startNewConversation(Long memberId, Long groupId, Long groupBookId, Long episodeId);
     
     SseEmitter establishConversationStream(String sessionId, Long groupId, Long groupBookId, Long episodeId);
+
+    // Flux 기반 SSE 스트림 연결 (세션별 bounded 버퍼 사용)
+    Flux<ServerSentEvent<Object>> openConversationStream(String sessionId, Long groupId, Long groupBookId, Long episodeId);
     
     void getNextQuestion(Long memberId, Long groupId, Long groupBookId, Long episodeId, String sessionId);
     
     void closeSseStream(String sessionId);
     
     // 답변 처리 메서드
-    void submitAnswer(Long memberId, Long groupId, Long groupBookId, Long episodeId, String sessionId, GroupAnswerRequest request);
+    CompletableFuture<Void> submitAnswer(Long memberId, Long groupId, Long groupBookId, Long episodeId, String sessionId, GroupAnswerRequest request);
     
     // 다음 템플릿 에피소드 생성
     GroupEpisodeResponse createNextTemplateEpisode(Long groupId, Long groupBookId, String currentTemplate, Long memberId);
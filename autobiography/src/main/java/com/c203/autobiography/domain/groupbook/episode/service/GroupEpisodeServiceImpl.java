@@ -14,25 +14,33 @@ import com.c203.autobiography.domain.groupbook.episode.repository.GroupEpisodeGu
 import com.c203.autobiography.domain.groupbook.episode.repository.GroupEpisodeRepository;
 import com.c203.autobiography.domain.groupbook.episode.repository.GroupEpisodeImageRepository;
 import com.c203.autobiography.domain.groupbook.repository.GroupBookRepository;
+import com.c203.autobiography.global.async.AiCallbackExecutor;
 import com.c203.autobiography.global.exception.ApiException;
 import com.c203.autobiography.global.exception.ErrorCode;
 import com.c203.autobiography.global.s3.FileStorageService;
+import com.c203.autobiography.global.session.SessionStateStore;
+import com.c203.autobiography.global.session.SessionStateStoreFactory;
 import com.c203.autobiography.domain.sse.service.SseService;
 import com.c203.autobiography.domain.episode.template.dto.QuestionResponse;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Service
@@ -52,21 +60,33 @@ public class GroupEpisodeServiceImpl implements GroupEpisodeService {
     private final FileStorageService fileStorageService;
     private final SseService sseService;
     private final AiClientFactory aiClient;
+    private final AiCallbackExecutor aiCallbackExecutor;
+    private final TransactionTemplate transactionTemplate;
 
-    // 대화 세션 관리를 위한 메모리 저장소
-    private final ConcurrentHashMap<String, GroupConversationSession> activeSessions = new ConcurrentHashMap<>();
+    // 대화 세션 저장소 (로컬 또는 Redis, idle TTL 후 자동 정리)
+    private final SessionStateStoreFactory sessionStateStoreFactory;
+    private SessionStateStore<GroupConversationSession> activeSessions;
+
+    @PostConstruct
+    void initStateStores() {
+        activeSessions = sessionStateStoreFactory.create("group-conversation", GroupConversationSession.class);
+    }
 
     // 그룹 대화 세션 내부 클래스
     private static class GroupConversationSession {
-        private final String sessionId;
-        private final Long memberId;
-        private final Long groupId;
-        private final Long groupBookId;
+        private String sessionId;
+        private Long memberId;
+        private Long groupId;
+        private Long groupBookId;
         private Long currentEpisodeId; // 현재 활성 에피소드 ID (변경 가능)
-        private final GroupType groupType;
+        private GroupType groupType;
         private String currentTemplate;
         private int currentStep;
 
+        // 저장소(JSON) 복원용
+        private GroupConversationSession() {
+        }
+
         public GroupConversationSession(String sessionId, Long memberId, Long groupId, 
                                       Long groupBookId, Long initialEpisodeId, GroupType groupType, String initialTemplate) {
             this.sessionId = sessionId;
@@ -448,7 +468,7 @@ public class GroupEpisodeServiceImpl implements GroupEpisodeService {
         
         try {
             // 1. 세션 확인
-            GroupConversationSession session = activeSessions.get(sessionId);
+            GroupConversationSession session = activeSessions.get(sessionId).orElse(null);
             if (session == null) {
                 throw new ApiException(ErrorCode
                         .SESSION_NOT_FOUND);
@@ -491,18 +511,47 @@ public class GroupEpisodeServiceImpl implements GroupEpisodeService {
         return emitter;
     }
 
+    @Override
+    public Flux<ServerSentEvent<Object>> openConversationStream(String sessionId, Long groupId, Long groupBookId, Long episodeId) {
+        try {
+            GroupConversationSession session = activeSessions.get(sessionId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.SESSION_NOT_FOUND));
+            GuideQuestion firstQuestion = guideResolver.resolveFirst(session.getGroupType(), session.getCurrentTemplate());
+
+            // 등록 후 보낸 이벤트는 구독 전까지 세션 버퍼에 쌓였다가, 연결 성공 메시지 뒤에 이어서 전송됨
+            Flux<ServerSentEvent<Object>> stream = sseService.connect(sessionId);
+            sseService.pushQuestion(sessionId, QuestionResponse.builder()
+                    .text(firstQuestion.question())
+                    .currentChapter(session.getCurrentTemplate())
+                    .currentStage("step-" + session.getCurrentStep())
+                    .build());
+
+            log.info("SSE 스트림 연결 및 첫 질문 전송 완료: sessionId={}", sessionId);
+            return Flux.concat(Flux.just(ServerSentEvent.builder()
+                    .event("connected")
+                    .data((Object) "대화 세션이 연결되었습니다.")
+                    .build()), stream);
+        } catch (Exception e) {
+            log.error("SSE 스트림 설정 중 에러 발생. sessionId={}", sessionId, e);
+            return Flux.just(ServerSentEvent.builder()
+                    .event("error")
+                    .data((Object) ("스트림 연결 중 서버 오류가 발생했습니다: " + e.getMessage()))
+                    .build());
+        }
+    }
+
     @Override
     public void getNextQuestion(Long memberId, Long groupId, Long groupBookId, Long episodeId, String sessionId) {
         try {
-            // 1. 세션 확인
-            GroupConversationSession session = activeSessions.get(sessionId);
+            // 1. 세션 확인 + 단계 진행 (다른 요청/서버와 같은 단계에서 함께 진행하지 않도록 원자적으로 저장)
+            GroupConversationSession session = activeSessions.update(sessionId, current -> {
+                current.nextStep();
+                return current;
+            }).orElse(null);
             if (session == null) {
                 throw new ApiException(ErrorCode.SESSION_NOT_FOUND);
             }
             
-            // 2. 다음 질문 생성
-            session.nextStep();
-            
             Optional<GuideQuestion> nextQuestion = guideResolver.resolveNext(
                     session.getGroupType(), 
                     session.getCurrentTemplate(), 
@@ -583,13 +632,13 @@ public class GroupEpisodeServiceImpl implements GroupEpisodeService {
     }
 
     @Override
-    @Transactional
-    public void submitAnswer(Long memberId, Long groupId, Long groupBookId, Long episodeId, String sessionId, GroupAnswerRequest request) {
+    @Transactional(readOnly = true)
+    public CompletableFuture<Void> submitAnswer(Long memberId, Long groupId, Long groupBookId, Long episodeId, String sessionId, GroupAnswerRequest request) {
         try {
             log.info("사용자 답변 제출 시작: sessionId={}, memberId={}", sessionId, memberId);
             
             // 1. 세션 확인
-            GroupConversationSession session = activeSessions.get(sessionId);
+            GroupConversationSession session = activeSessions.get(sessionId).orElse(null);
             if (session == null) {
                 throw new ApiException(ErrorCode.SESSION_NOT_FOUND);
             }
@@ -607,35 +656,77 @@ public class GroupEpisodeServiceImpl implements GroupEpisodeService {
             log.info("답변 저장 대상 에피소드: sessionEpisodeId={}, currentTemplate={}", 
                     currentEpisodeId, session.getCurrentTemplate());
             
-            // 4. AI를 통한 답변 교정
+            // 4. AI를 통한 답변 교정 (비동기, 실패 시 원본 답변 사용)
             String originalAnswer = request.getAnswer();
-            String correctedAnswer;
-            
+            // 이전 컨텍스트 (현재 에피소드의 기존 내용)
+            String priorContext = episode.getEditedContent() != null ? episode.getEditedContent() : "";
+
+            CompletableFuture<String> correction;
             try {
-                // 이전 컨텍스트 (현재 에피소드의 기존 내용)
-                String priorContext = episode.getEditedContent() != null ? episode.getEditedContent() : "";
-                
                 // AI로 답변 교정 (tone을 FORMAL로 고정, 필요시 요청에서 받을 수 있음)
-                correctedAnswer = aiClient.edit().editText(originalAnswer, priorContext, "FORMAL");
-                
-                log.info("AI 답변 교정 완료: sessionId={}, 원본 길이={}, 교정본 길이={}", 
-                        sessionId, originalAnswer.length(), correctedAnswer.length());
-                        
+                correction = aiClient.edit().editTextAsync(originalAnswer, priorContext, "FORMAL");
             } catch (Exception e) {
-                log.warn("AI 답변 교정 실패, 원본 답변 사용: sessionId={}, error={}", sessionId, e.getMessage());
-                correctedAnswer = originalAnswer;
+                correction = CompletableFuture.failedFuture(e);
             }
+
+            CompletableFuture<Void> completed = new CompletableFuture<>();
+            correction
+                    .handle((correctedAnswer, ex) -> {
+                        if (ex != null) {
+                            log.warn("AI 답변 교정 실패, 원본 답변 사용: sessionId={}, error={}", sessionId, ex.getMessage());
+                            return originalAnswer;
+                        }
+                        log.info("AI 답변 교정 완료: sessionId={}, 원본 길이={}, 교정본 길이={}", 
+                                sessionId, originalAnswer.length(), correctedAnswer.length());
+                        return correctedAnswer;
+                    })
+                    // 저장은 WebClient 스레드가 아닌 전용 executor에서 새 트랜잭션으로 수행
+                    .thenAcceptAsync(correctedAnswer -> saveSubmittedAnswer(session, originalAnswer, correctedAnswer),
+                            aiCallbackExecutor.executor())
+                    .whenComplete((ignored, ex) -> {
+                        if (ex == null) {
+                            completed.complete(null);
+                            return;
+                        }
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        log.error("사용자 답변 제출 중 오류 발생: sessionId={}", sessionId, cause);
+                        pushSubmitError(sessionId, cause);
+                        completed.completeExceptionally(cause instanceof ApiException
+                                ? cause : new ApiException(ErrorCode.INTERNAL_SERVER_ERROR));
+                    });
+            return completed;
             
+        } catch (Exception e) {
+            log.error("사용자 답변 제출 중 오류 발생: sessionId={}", sessionId, e);
+            pushSubmitError(sessionId, e);
+            
+            if (e instanceof ApiException) {
+                throw e;
+            } else {
+                throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    /**
+     * 교정이 끝난 답변을 가이드 상태/에피소드 본문에 반영하고 SSE로 알립니다.
+     */
+    private void saveSubmittedAnswer(GroupConversationSession session, String originalAnswer, String correctedAnswer) {
+        Long currentEpisodeId = session.getCurrentEpisodeId();
+        String currentQuestionKey = generateQuestionKey(session.getCurrentTemplate(), session.getCurrentStep());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            GroupEpisode episode = episodeRepository.findById(currentEpisodeId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.EPISODE_NOT_FOUND));
+
             // 5. 현재 질문 텍스트 가져오기
             String currentQuestionText = getCurrentQuestionText(session);
-            
+
             // 6. 현재 단계의 가이드 상태 저장/업데이트
-            String currentQuestionKey = generateQuestionKey(session.getCurrentTemplate(), session.getCurrentStep());
-            
             // 기존 답변이 있는지 확인 (현재 템플릿의 에피소드에서)
             Optional<GroupEpisodeGuideState> existingState = stateRepository
                     .findByGroupEpisode_GroupEpisodeIdAndGuideKey(currentEpisodeId, currentQuestionKey);
-            
+
             GroupEpisodeGuideState guideState;
             if (existingState.isPresent()) {
                 // 기존 답변 업데이트
@@ -654,44 +745,37 @@ public class GroupEpisodeServiceImpl implements GroupEpisodeService {
                         .editedAnswer(correctedAnswer)
                         .isFinal(false) // 기본값 설정
                         .build();
-                log.info("새 답변 생성: questionKey={}, question={}", currentQuestionKey, 
+                log.info("새 답변 생성: questionKey={}, question={}", currentQuestionKey,
                         currentQuestionText.length() > 50 ? currentQuestionText.substring(0, 50) + "..." : currentQuestionText);
             }
-            
+
             stateRepository.save(guideState);
-            
+
             // 6. 에피소드 전체 내용 업데이트 (모든 교정된 답변들을 합침)
             updateEpisodeContent(episode);
-            
-            // 7. SSE로 답변 처리 완료 알림
-            QuestionResponse responseNotification = QuestionResponse.builder()
-                    .text("답변이 성공적으로 저장되었습니다.")
-                    .currentChapter(session.getCurrentTemplate())
-                    .currentStage("answer-saved")
-                    .build();
-            
-            sseService.pushQuestion(sessionId, responseNotification);
-            
-            log.info("사용자 답변 제출 완료: sessionId={}, questionKey={}", sessionId, currentQuestionKey);
-            
-        } catch (Exception e) {
-            log.error("사용자 답변 제출 중 오류 발생: sessionId={}", sessionId, e);
-            
-            // 에러 메시지를 SSE로 전송
-            QuestionResponse errorResponse = QuestionResponse.builder()
-                    .text("답변 저장 중 오류가 발생했습니다: " + e.getMessage())
-                    .currentChapter("ERROR")
-                    .currentStage("error")
-                    .build();
-            
-            sseService.pushQuestion(sessionId, errorResponse);
-            
-            if (e instanceof ApiException) {
-                throw e;
-            } else {
-                throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-        }
+        });
+
+        // 7. SSE로 답변 처리 완료 알림 (커밋 이후)
+        QuestionResponse responseNotification = QuestionResponse.builder()
+                .text("답변이 성공적으로 저장되었습니다.")
+                .currentChapter(session.getCurrentTemplate())
+                .currentStage("answer-saved")
+                .build();
+
+        sseService.pushQuestion(session.getSessionId(), responseNotification);
+
+        log.info("사용자 답변 제출 완료: sessionId={}, questionKey={}", session.getSessionId(), currentQuestionKey);
+    }
+
+    private void pushSubmitError(String sessionId, Throwable e) {
+        // 에러 메시지를 SSE로 전송
+        QuestionResponse errorResponse = QuestionResponse.builder()
+                .text("답변 저장 중 오류가 발생했습니다: " + e.getMessage())
+                .currentChapter("ERROR")
+                .currentStage("error")
+                .build();
+
+        sseService.pushQuestion(sessionId, errorResponse);
     }
     
     /**
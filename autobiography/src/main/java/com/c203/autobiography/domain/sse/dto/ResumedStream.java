@@ -0,0 +1,13 @@
+package com.c203.autobiography.domain.sse.dto;
+
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+/**
+ * Last-Event-ID로 다시 연결한 Flux 스트림
+ *
+ * @param events   클라이언트에 내려갈 이벤트 스트림
+ * @param replayed 놓친 이벤트를 재전송 버퍼에서 이어 보냈는지 여부 (false면 호출 측에서 마지막 상태를 다시 보내야 함)
+ */
+public record ResumedStream(Flux<ServerSentEvent<Object>> events, boolean replayed) {
+}
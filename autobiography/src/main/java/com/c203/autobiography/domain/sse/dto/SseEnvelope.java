@@ -0,0 +1,28 @@
+package com.c203.autobiography.domain.sse.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 서버의 SSE 연결로 전달하는 이벤트 (Redis pub/sub 메시지 본문)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseEnvelope {
+
+    private String sessionId;
+
+    private String eventName;
+
+    /**
+     * 이미 JSON으로 직렬화된 이벤트 데이터
+     */
+    private String data;
+
+    /**
+     * 토큰 단위 delta 이벤트 여부 (id 없이 전송)
+     */
+    private boolean delta;
+}
@@ -0,0 +1,18 @@
+package com.c203.autobiography.domain.sse.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "AI 생성 중인 텍스트 조각(delta) DTO")
+public class StreamDeltaResponse {
+
+    @Schema(description = "이번에 새로 생성된 텍스트 조각", example = "그때 ")
+    private String text;
+}
@@ -0,0 +1,50 @@
+package com.c203.autobiography.domain.sse.service;
+
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 서블릿 SseEmitter 기반 연결. 전송은 요청을 보낸 스레드에서 동기로 이루어집니다.
+ */
+@Slf4j
+final class EmitterSseConnection implements SseConnection {
+
+    private final SseEmitter emitter;
+
+    EmitterSseConnection(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public boolean send(SseMessage message) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (message.comment() != null) {
+            event.comment(message.comment());
+        } else {
+            if (message.id() != null) {
+                event.id(message.id());
+            }
+            event.name(message.name()).data(message.data(), MediaType.APPLICATION_JSON);
+        }
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IllegalStateException | IOException ex) { // 이미 complete 또는 전송 실패
+            log.debug("[SSE] dead/broken emitter", ex);
+            return false;
+        } catch (Throwable t) {
+            log.warn("[SSE] unexpected send error", t);
+            return false;
+        }
+    }
+
+    @Override
+    public void complete() {
+        try {
+            emitter.complete();
+        } catch (Exception ignore) {
+        }
+    }
+}
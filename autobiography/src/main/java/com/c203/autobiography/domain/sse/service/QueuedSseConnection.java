@@ -0,0 +1,227 @@
+package com.c203.autobiography.domain.sse.service;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * 연결별 bounded 송신 큐. send()는 큐에 넣고 바로 반환하며, 실제 쓰기는 writer 풀의 drain 작업이 합니다.
+ * 이벤트를 만든 스레드(STT 요청, AI 응답 콜백 등)는 느린 클라이언트 때문에 기다리지 않습니다.
+ *
+ * - 같은 연결의 drain 작업은 한 번에 하나만 돌고, 큐 순서대로 씁니다.
+ * - coalesce 대상 이벤트는 아직 보내지 않은 같은 이름의 이벤트를 지우고 최신 것만 맨 뒤에 넣습니다.
+ * - 큐가 가득 차면 drop-oldest 대상 중 가장 오래된 것을 버리고, 버릴 것이 없으면
+ *   들어온 이벤트가 drop-oldest 대상이면 그것을 버리고, 아니면 false를 반환해 연결을 끊습니다. (재연결 시 Last-Event-ID로 복구)
+ * - ping 주석은 보낼 이벤트가 남아 있으면 넣지 않습니다.
+ * - complete()는 남은 이벤트를 모두 쓴 뒤 연결을 닫습니다.
+ * - 쓰기 한 건이 deadline을 넘기면 abortIfStuck()이 연결을 실패로 표시하고 세션에서 떼어 내 새 이벤트가 쌓이지 않게 합니다.
+ *   delegate.complete()는 막힌 쓰기와 같은 emitter 잠금을 잡으므로, 쓰기가 끝난 뒤 writer 스레드가 호출합니다.
+ */
+final class QueuedSseConnection implements SseConnection {
+
+    /**
+     * drain 작업 하나가 연속으로 쓰는 최대 건수. 넘으면 다른 연결에 차례를 넘기고 다시 제출합니다.
+     */
+    private static final int DRAIN_BATCH = 32;
+
+    private final SseConnection delegate;
+    private final Executor writer;
+    private final SseOutbound.Policy policy;
+    private final Consumer<SseConnection> onWriteFailure;
+    private final ArrayDeque<SseMessage> queue;
+
+    private boolean draining;
+    private boolean closing;
+    private boolean closed;
+    // 진행 중인 쓰기의 시작 시각(nanoTime, 0이면 쓰는 중 아님)과 abortIfStuck()으로 닫혔는지 여부. queue 잠금으로 보호
+    private long writeStartedAt;
+    private boolean aborted;
+
+    QueuedSseConnection(SseConnection delegate, Executor writer, SseOutbound.Policy policy,
+                        Consumer<SseConnection> onWriteFailure) {
+        this.delegate = delegate;
+        this.writer = writer;
+        this.policy = policy;
+        this.onWriteFailure = onWriteFailure;
+        this.queue = new ArrayDeque<>(Math.min(policy.capacity(), 16));
+    }
+
+    @Override
+    public boolean send(SseMessage message) {
+        boolean schedule;
+        synchronized (queue) {
+            if (closing) {
+                return true; // 닫는 중인 연결: 재연결 시 replay로 복구됨
+            }
+            if (message.comment() != null) {
+                if (!queue.isEmpty()) {
+                    return true;
+                }
+            } else {
+                if (policy.coalesces(message.name())) {
+                    coalesce(message.name());
+                }
+                if (queue.size() >= policy.capacity() && !makeRoom(message)) {
+                    policy.recordOverflow();
+                    return false;
+                }
+            }
+            if (queue.size() >= policy.capacity()) {
+                return true; // 가득 찬 큐에 들어온 drop-oldest 대상(또는 ping)은 버림
+            }
+            queue.addLast(message);
+            schedule = startDrainIfIdle();
+        }
+        if (schedule) {
+            writer.execute(this::drain);
+        }
+        return true;
+    }
+
+    @Override
+    public void complete() {
+        boolean schedule;
+        synchronized (queue) {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            schedule = startDrainIfIdle();
+        }
+        if (schedule) {
+            writer.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        for (int written = 0; ; written++) {
+            SseMessage next;
+            boolean completeNow = false;
+            synchronized (queue) {
+                if (closed) {
+                    draining = false;
+                    return;
+                }
+                if (written >= DRAIN_BATCH && !queue.isEmpty()) {
+                    // 다른 연결에 writer 스레드를 양보하고 이어서 처리
+                    writer.execute(this::drain);
+                    return;
+                }
+                next = queue.pollFirst();
+                if (next == null) {
+                    if (closing) {
+                        closed = true;
+                        completeNow = true;
+                    }
+                    draining = false;
+                }
+            }
+            if (next == null) {
+                if (completeNow) {
+                    delegate.complete();
+                }
+                return;
+            }
+            boolean sent = write(next);
+            boolean abortedWhileWriting;
+            synchronized (queue) {
+                abortedWhileWriting = aborted;
+                if (abortedWhileWriting || !sent) {
+                    queue.clear();
+                    closing = true;
+                    closed = true;
+                    draining = false;
+                }
+            }
+            if (abortedWhileWriting) {
+                // 세션 정리는 abortIfStuck()에서 끝났고, 막혀 있던 쓰기가 풀린 지금 연결을 닫음
+                delegate.complete();
+                return;
+            }
+            if (!sent) {
+                delegate.complete();
+                onWriteFailure.accept(this);
+                return;
+            }
+        }
+    }
+
+    private boolean write(SseMessage message) {
+        synchronized (queue) {
+            writeStartedAt = System.nanoTime();
+        }
+        try {
+            return delegate.send(message);
+        } finally {
+            synchronized (queue) {
+                writeStartedAt = 0;
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 쓰기가 deadline을 넘겼으면 연결을 실패로 표시하고 onWriteFailure를 호출합니다. 닫았으면 true.
+     * delegate는 건드리지 않으므로 막힌 쓰기를 기다리지 않고 바로 반환합니다.
+     */
+    boolean abortIfStuck(long now, long deadlineNanos) {
+        synchronized (queue) {
+            if (closed || writeStartedAt == 0 || now - writeStartedAt < deadlineNanos) {
+                return false;
+            }
+            queue.clear();
+            closing = true;
+            closed = true;
+            aborted = true;
+        }
+        onWriteFailure.accept(this);
+        return true;
+    }
+
+    boolean isClosed() {
+        synchronized (queue) {
+            return closed;
+        }
+    }
+
+    private boolean startDrainIfIdle() {
+        if (draining) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    /**
+     * 가득 찬 큐에서 drop-oldest 대상 중 가장 오래된 것을 버립니다. 버릴 것이 없고 들어온 이벤트도 버릴 수 없으면 false.
+     */
+    private boolean makeRoom(SseMessage incoming) {
+        for (Iterator<SseMessage> it = queue.iterator(); it.hasNext(); ) {
+            SseMessage queued = it.next();
+            if (queued.comment() != null || policy.dropsOldest(queued.name())) {
+                it.remove();
+                policy.recordDrop(queued.comment() != null ? "ping" : queued.name());
+                return true;
+            }
+        }
+        if (policy.dropsOldest(incoming.name())) {
+            policy.recordDrop(incoming.name());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 아직 보내지 않은 같은 이름의 이벤트를 지웁니다. (최신 이벤트는 호출 측이 맨 뒤에 넣어 순서와 id 증가를 유지)
+     */
+    private void coalesce(String name) {
+        for (Iterator<SseMessage> it = queue.iterator(); it.hasNext(); ) {
+            SseMessage queued = it.next();
+            if (queued.comment() == null && name.equals(queued.name())) {
+                it.remove();
+                policy.recordCoalesced(name);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.c203.autobiography.domain.sse.service;
+
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Reactor Sinks.Many 기반 연결.
+ * 전송은 큐에 넣기만 하고 바로 반환하며, 실제 쓰기는 구독자(응답)가 요청한 만큼만 이루어집니다.
+ * 큐가 가득 차면(클라이언트가 읽지 못하는 상태) false를 반환해 연결을 끊고, 클라이언트는 Last-Event-ID로 재연결합니다.
+ */
+final class SinkSseConnection implements SseConnection {
+
+    private final Sinks.Many<ServerSentEvent<Object>> sink;
+
+    SinkSseConnection(int bufferSize) {
+        this.sink = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<ServerSentEvent<Object>>get(bufferSize).get());
+    }
+
+    Flux<ServerSentEvent<Object>> flux() {
+        return sink.asFlux();
+    }
+
+    @Override
+    public boolean send(SseMessage message) {
+        ServerSentEvent.Builder<Object> event = ServerSentEvent.builder();
+        if (message.comment() != null) {
+            event.comment(message.comment());
+        } else {
+            event.id(message.id()).event(message.name()).data(message.data());
+        }
+        return sink.tryEmitNext(event.build()).isSuccess();
+    }
+
+    @Override
+    public void complete() {
+        sink.tryEmitComplete();
+    }
+}
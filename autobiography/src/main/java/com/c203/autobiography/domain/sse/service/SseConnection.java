@@ -0,0 +1,14 @@
+package com.c203.autobiography.domain.sse.service;
+
+/**
+ * 세션의 SSE 연결 하나. 같은 연결로의 전송은 SseServiceImpl이 연결 단위 잠금으로 직렬화합니다.
+ */
+interface SseConnection {
+
+    /**
+     * 메시지를 보냅니다. 연결이 끊겼거나 더 보낼 수 없으면 false를 반환하며, 호출 측이 연결을 정리합니다.
+     */
+    boolean send(SseMessage message);
+
+    void complete();
+}
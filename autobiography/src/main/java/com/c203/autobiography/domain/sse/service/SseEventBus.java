@@ -0,0 +1,388 @@
+package com.c203.autobiography.domain.sse.service;
+
+import com.c203.autobiography.domain.sse.dto.SseEnvelope;
+import com.c203.autobiography.domain.sse.dto.StreamDeltaResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 간 SSE 이벤트 전달 버스 (Redis pub/sub).
+ * sse.bus.mode=local(기본)이면 아무 일도 하지 않고, redis면 SSE 연결을 가진 서버를 Redis에 기록해
+ * 다른 서버에서 발생한 이벤트를 그 서버의 전용 채널로만 보냅니다. (모든 서버로 뿌리지 않음)
+ *
+ * - 소유 서버: sse:owner:{sessionId} = nodeId (TTL은 owner-refresh-ms마다 연장, 연결 종료 시 내 값일 때만 삭제)
+ * - 연결 종료는 heartbeat 타이머나 stuck 감지 스레드에서도 일어나므로, 소유 기록 삭제는 바로 하지 않고
+ *   모아 두었다가 release-flush-ms마다 파이프라인으로 지웁니다. 그 사이 같은 세션이 다시 연결되면 삭제를 취소합니다.
+ * - 전달 채널: sse:node:{nodeId}
+ * - 소유 서버 조회는 짧은 TTL로 로컬 캐시하므로, 재연결로 서버가 바뀐 직후 잠깐 동안의 이벤트는 유실될 수 있습니다.
+ * - 받은 이벤트는 단일 스레드 bounded 풀에서 도착 순서대로 전달합니다. (전달은 송신 큐에 넣기만 하므로 한 스레드로 충분)
+ *   큐가 가득 차면 버리고, 클라이언트는 재연결 시 Last-Event-ID로 복구합니다.
+ * - 토큰 delta는 건마다 보내지 않고 세션별로 모았다가 delta-flush-ms마다 한 번에 보냅니다.
+ *   일반 이벤트를 보내기 전에는 그 세션의 남은 delta를 먼저 보내 순서를 유지합니다.
+ * - delta 전송, 소유 기록 TTL 연장과 삭제는 버스 전용 스케줄러(sse-bus-tick)에서 돌려, Spring 기본 스케줄러의
+ *   다른 작업(세션 상태 저장, 에피소드 작업 임대 연장 등)과 서로 밀리지 않게 합니다. TTL 연장은 파이프라인으로 한 번에 보냅니다.
+ * - 메트릭: sse.bus.forwarded, sse.bus.received, sse.bus.undeliverable, sse.bus.dropped, executor.* {name=sse-bus}
+ */
+@Slf4j
+@Component
+public class SseEventBus {
+
+    private static final String OWNER_KEY_PREFIX = "sse:owner:";
+    private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final boolean distributed;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Duration ownerTtl;
+    private final Cache<String, String> ownerCache;
+
+    private final Map<String, DeltaBatch> pendingDeltas = new ConcurrentHashMap<>();
+    private final Set<String> pendingReleases = ConcurrentHashMap.newKeySet();
+    // 삭제 대상 확정 ~ 삭제 사이에 같은 세션의 claim이 끼어들어 새 기록을 지우지 않게 함
+    private final Object releaseLock = new Object();
+
+    private final MeterRegistry meterRegistry;
+    private final int listenerQueueCapacity;
+    private final long deltaFlushMs;
+    private final long ownerRefreshMs;
+    private final long releaseFlushMs;
+    private final Counter forwarded;
+    private final Counter received;
+    private final Counter undeliverable;
+    private final Counter dropped;
+
+    private RedisMessageListenerContainer container;
+    private ThreadPoolTaskExecutor listenerPool;
+    private ThreadPoolTaskScheduler ticker;
+
+    public SseEventBus(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${sse.bus.mode:local}") String mode,
+            @Value("${sse.bus.owner-ttl-sec:60}") long ownerTtlSec,
+            @Value("${sse.bus.owner-cache-ttl-ms:2000}") long ownerCacheTtlMs,
+            @Value("${sse.bus.listener-queue-capacity:10000}") int listenerQueueCapacity,
+            @Value("${sse.bus.delta-flush-ms:100}") long deltaFlushMs,
+            @Value("${sse.bus.owner-refresh-ms:15000}") long ownerRefreshMs,
+            @Value("${sse.bus.release-flush-ms:100}") long releaseFlushMs) {
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.objectMapper = objectMapper;
+        this.distributed = "redis".equalsIgnoreCase(mode);
+        this.ownerTtl = Duration.ofSeconds(ownerTtlSec);
+        this.ownerCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ownerCacheTtlMs))
+                .maximumSize(10_000)
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.listenerQueueCapacity = listenerQueueCapacity;
+        this.deltaFlushMs = deltaFlushMs;
+        this.ownerRefreshMs = ownerRefreshMs;
+        this.releaseFlushMs = releaseFlushMs;
+        this.forwarded = meterRegistry.counter("sse.bus.forwarded");
+        this.received = meterRegistry.counter("sse.bus.received");
+        this.undeliverable = meterRegistry.counter("sse.bus.undeliverable");
+        this.dropped = meterRegistry.counter("sse.bus.dropped");
+        log.info("SSE 이벤트 버스 모드: {} (nodeId={})", distributed ? "redis" : "local", nodeId);
+    }
+
+    /**
+     * 이 서버 전용 채널 구독을 시작합니다. 받은 이벤트는 localDelivery로 넘깁니다.
+     * 모아 둔 delta 전송과, ownedSessions(이 서버가 가진 연결)의 소유 기록 TTL 연장도 함께 시작합니다.
+     */
+    public synchronized void listen(Consumer<SseEnvelope> localDelivery, Supplier<Collection<String>> ownedSessions) {
+        if (!distributed || container != null) {
+            return;
+        }
+        // 기본 실행기(SimpleAsyncTaskExecutor)는 메시지마다 새 스레드를 만들어 같은 세션의 이벤트 순서가 뒤섞임
+        listenerPool = new ThreadPoolTaskExecutor();
+        listenerPool.setCorePoolSize(1);
+        listenerPool.setMaxPoolSize(1);
+        listenerPool.setQueueCapacity(listenerQueueCapacity);
+        listenerPool.setThreadNamePrefix("sse-bus-");
+        listenerPool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        listenerPool.initialize();
+        Executor dispatcher = ExecutorServiceMetrics.monitor(meterRegistry, listenerPool.getThreadPoolExecutor(),
+                "sse-bus", Tags.empty());
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(task -> {
+            try {
+                dispatcher.execute(task);
+            } catch (RejectedExecutionException e) {
+                dropped.increment();
+                log.warn("[SSE-BUS] 전달 대기열이 가득 차 이벤트를 버립니다.");
+            }
+        });
+        container.addMessageListener((message, pattern) -> {
+            try {
+                SseEnvelope envelope = objectMapper.readValue(
+                        new String(message.getBody(), StandardCharsets.UTF_8), SseEnvelope.class);
+                received.increment();
+                localDelivery.accept(envelope);
+            } catch (Exception e) {
+                log.warn("[SSE-BUS] 전달받은 이벤트 처리 실패: {}", e.getMessage());
+            }
+        }, new ChannelTopic(NODE_CHANNEL_PREFIX + nodeId));
+        container.afterPropertiesSet();
+        container.start();
+
+        // 느린 TTL 연장/소유 해제가 100ms 주기 delta 전송을 밀지 않도록 작업마다 스레드 하나씩
+        ticker = new ThreadPoolTaskScheduler();
+        ticker.setPoolSize(3);
+        ticker.setThreadNamePrefix("sse-bus-tick-");
+        ticker.initialize();
+        ticker.scheduleWithFixedDelay(this::flushDeltas, Duration.ofMillis(deltaFlushMs));
+        ticker.scheduleWithFixedDelay(() -> refresh(ownedSessions.get()), Duration.ofMillis(ownerRefreshMs));
+        ticker.scheduleWithFixedDelay(this::flushReleases, Duration.ofMillis(releaseFlushMs));
+    }
+
+    /**
+     * 이 서버가 세션의 SSE 연결을 가지고 있음을 기록합니다.
+     */
+    public void claim(String sessionId) {
+        if (!distributed) {
+            return;
+        }
+        synchronized (releaseLock) {
+            pendingReleases.remove(sessionId);
+            try {
+                redisTemplate.opsForValue().set(OWNER_KEY_PREFIX + sessionId, nodeId, ownerTtl);
+            } catch (RuntimeException e) {
+                log.warn("[SSE-BUS] 연결 소유 기록 실패: sessionId={}, error={}", sessionId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 소유 기록 삭제를 예약합니다. 호출 스레드에서는 Redis를 호출하지 않습니다. (heartbeat 타이머 등에서 호출됨)
+     */
+    public void release(String sessionId) {
+        if (distributed) {
+            pendingReleases.add(sessionId);
+        }
+    }
+
+    /**
+     * 예약된 소유 기록을 한 번에 지웁니다. 다른 서버로 재연결되어 값이 바뀌었으면 그대로 둡니다.
+     */
+    void flushReleases() {
+        if (pendingReleases.isEmpty()) {
+            return;
+        }
+        synchronized (releaseLock) {
+            List<String> keys = new ArrayList<>();
+            for (String sessionId : pendingReleases) {
+                if (pendingReleases.remove(sessionId)) {
+                    keys.add(OWNER_KEY_PREFIX + sessionId);
+                }
+            }
+            if (keys.isEmpty()) {
+                return;
+            }
+            try {
+                pipelined(ops -> keys.forEach(key -> ops.execute(RELEASE_SCRIPT, List.of(key), nodeId)));
+            } catch (RuntimeException e) {
+                log.warn("[SSE-BUS] 연결 소유 해제 실패: sessions={}, error={}", keys.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이 서버가 가진 연결의 소유 기록 TTL을 연장합니다. 만료되어 사라진 기록은 다시 씁니다.
+     * 세션마다 왕복하지 않도록 EXPIRE를 파이프라인 한 번으로 보내고, 실패한 키만 SET NX를 한 번 더 묶어 보냅니다.
+     */
+    void refresh(Collection<String> sessionIds) {
+        if (!distributed || sessionIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = sessionIds.stream().map(id -> OWNER_KEY_PREFIX + id).toList();
+        try {
+            List<Object> extended = pipelined(ops -> keys.forEach(key -> ops.expire(key, ownerTtl)));
+            List<String> expired = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                if (!Boolean.TRUE.equals(extended.get(i))) {
+                    expired.add(keys.get(i));
+                }
+            }
+            if (!expired.isEmpty()) {
+                pipelined(ops -> expired.forEach(key -> ops.opsForValue().setIfAbsent(key, nodeId, ownerTtl)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[SSE-BUS] 연결 소유 TTL 연장 실패: sessions={}, error={}", keys.size(), e.getMessage());
+        }
+    }
+
+    private List<Object> pipelined(Consumer<RedisOperations<String, Object>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 다른 서버가 가진 SSE 연결로 이벤트를 보냅니다. 보낼 곳이 없으면 false.
+     * 그 세션에 모아 둔 delta가 있으면 먼저 보냅니다.
+     */
+    public boolean forward(String sessionId, String eventName, Object payload) {
+        if (!distributed) {
+            return false;
+        }
+        flushDeltas(sessionId);
+        return publish(sessionId, eventName, payload, false);
+    }
+
+    /**
+     * 토큰 delta를 세션별로 모읍니다. 다른 이벤트 이름의 delta가 들어오면 모아 둔 것을 먼저 보냅니다.
+     */
+    public void forwardDelta(String sessionId, String eventName, String delta) {
+        if (!distributed) {
+            return;
+        }
+        while (true) {
+            DeltaBatch batch = pendingDeltas.computeIfAbsent(sessionId, id -> new DeltaBatch());
+            synchronized (batch) {
+                if (batch.retired) {
+                    continue; // flush가 방금 비우고 맵에서 뺀 묶음: 새 묶음에 다시 넣음
+                }
+                if (batch.eventName != null && !batch.eventName.equals(eventName)) {
+                    batch.publishTo(this, sessionId);
+                }
+                batch.eventName = eventName;
+                batch.text.append(delta);
+                return;
+            }
+        }
+    }
+
+    void flushDeltas() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+        for (String sessionId : pendingDeltas.keySet()) {
+            flushDeltas(sessionId);
+        }
+    }
+
+    private void flushDeltas(String sessionId) {
+        DeltaBatch batch = pendingDeltas.get(sessionId);
+        if (batch == null) {
+            return;
+        }
+        synchronized (batch) {
+            if (batch.text.isEmpty()) {
+                // 한 주기 동안 새 delta가 없던 묶음은 정리
+                batch.retired = true;
+                pendingDeltas.remove(sessionId, batch);
+                return;
+            }
+            batch.publishTo(this, sessionId);
+        }
+    }
+
+    private boolean publish(String sessionId, String eventName, Object payload, boolean delta) {
+        try {
+            String owner = ownerCache.get(sessionId, id -> {
+                Object value = redisTemplate.opsForValue().get(OWNER_KEY_PREFIX + id);
+                return value != null ? value.toString() : null;
+            });
+            if (owner == null || owner.equals(nodeId)) {
+                undeliverable.increment();
+                return false;
+            }
+            SseEnvelope envelope = new SseEnvelope(sessionId, eventName, objectMapper.writeValueAsString(payload),
+                    delta);
+            redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + owner, objectMapper.writeValueAsString(envelope));
+            forwarded.increment();
+            return true;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[SSE-BUS] 이벤트 전달 실패: sessionId={}, event={}, error={}", sessionId, eventName,
+                    e.getMessage());
+            undeliverable.increment();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (ticker != null) {
+            ticker.shutdown();
+            ticker = null;
+        }
+        if (container != null) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                log.debug("[SSE-BUS] 구독 종료 중 오류", e);
+            }
+            container = null;
+        }
+        if (listenerPool != null) {
+            listenerPool.shutdown();
+            listenerPool = null;
+        }
+    }
+
+    /**
+     * 세션별로 모아 둔 delta. 이벤트 이름이 같은 연속 delta만 한 묶음이 됩니다.
+     */
+    private static final class DeltaBatch {
+        private final StringBuilder text = new StringBuilder();
+        private String eventName;
+        private boolean retired;
+
+        // 호출 측이 묶음 잠금을 잡은 상태에서 호출
+        private void publishTo(SseEventBus bus, String sessionId) {
+            if (!text.isEmpty()) {
+                bus.publish(sessionId, eventName, new StreamDeltaResponse(text.toString()), true);
+                text.setLength(0);
+            }
+        }
+    }
+}
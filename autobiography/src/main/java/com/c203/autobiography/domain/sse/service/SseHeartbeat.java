@@ -0,0 +1,162 @@
+package com.c203.autobiography.domain.sse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 연결별 heartbeat와 수명 관리 (hashed wheel timer).
+ *
+ * - 연결마다 자기 타이머를 가지며, 첫 ping을 interval 안의 임의 시점으로 흩어 모든 연결이 한꺼번에 깨어나지 않게 합니다.
+ *   타이머 tick 비용은 그 tick에 만료되는 연결 수에만 비례하므로 전체 연결 수가 늘어도 일정합니다.
+ * - ping은 타이머 스레드에서 연결의 송신 큐에 바로 넣습니다. 큐에 넣기만 하고 소켓 쓰기는 sse-writer 풀이 하므로
+ *   느린 소켓이 타이머를 막지 않습니다. (pinger는 블로킹 작업을 하면 안 됨)
+ * - 이벤트가 idle-timeout 동안 없거나 연결 후 max-lifetime이 지나면 연결을 닫습니다. (클라이언트는 Last-Event-ID로 재연결)
+ * - 메트릭: sse.connections.open, sse.connections.reaped{reason=idle|lifetime}, sse.connections.failed
+ */
+@Slf4j
+@Component
+public class SseHeartbeat {
+
+    private final HashedWheelTimer timer;
+    private final long intervalNanos;
+    private final long idleTimeoutNanos;
+    private final long maxLifetimeNanos;
+    private final Map<SseConnection, Lease> leases = new ConcurrentHashMap<>();
+
+    private final Counter reapedIdle;
+    private final Counter reapedLifetime;
+    private final Counter failed;
+
+    private volatile BiPredicate<String, SseConnection> pinger = (sessionId, connection) -> true;
+    private volatile BiConsumer<String, SseConnection> closer = (sessionId, connection) -> {
+    };
+
+    public SseHeartbeat(
+            MeterRegistry meterRegistry,
+            @Value("${sse.heartbeat.interval-sec:15}") long intervalSec,
+            @Value("${sse.heartbeat.idle-timeout-min:30}") long idleTimeoutMin,
+            @Value("${sse.heartbeat.max-lifetime-min:120}") long maxLifetimeMin) {
+        this.intervalNanos = Duration.ofSeconds(intervalSec).toNanos();
+        this.idleTimeoutNanos = Duration.ofMinutes(idleTimeoutMin).toNanos();
+        this.maxLifetimeNanos = Duration.ofMinutes(maxLifetimeMin).toNanos();
+        this.timer = new HashedWheelTimer(new CustomizableThreadFactory("sse-heartbeat-timer-"),
+                100, TimeUnit.MILLISECONDS, 512);
+
+        meterRegistry.gauge("sse.connections.open", leases, Map::size);
+        this.reapedIdle = meterRegistry.counter("sse.connections.reaped", "reason", "idle");
+        this.reapedLifetime = meterRegistry.counter("sse.connections.reaped", "reason", "lifetime");
+        this.failed = meterRegistry.counter("sse.connections.failed");
+    }
+
+    /**
+     * ping 전송(실패 시 false)과 연결 종료 방법을 지정합니다.
+     */
+    void start(BiPredicate<String, SseConnection> pinger, BiConsumer<String, SseConnection> closer) {
+        this.pinger = pinger;
+        this.closer = closer;
+    }
+
+    void track(String sessionId, SseConnection connection) {
+        Lease lease = new Lease(sessionId, connection);
+        leases.put(connection, lease);
+        // 첫 ping 시점을 interval 안에서 흩음
+        lease.schedule(ThreadLocalRandom.current().nextLong(intervalNanos) + 1);
+    }
+
+    void untrack(SseConnection connection) {
+        Lease lease = leases.remove(connection);
+        if (lease != null) {
+            lease.cancel();
+        }
+    }
+
+    /**
+     * 이벤트를 보낸 연결의 idle 시간을 초기화합니다. (ping은 활동으로 치지 않음)
+     */
+    void touch(SseConnection connection) {
+        Lease lease = leases.get(connection);
+        if (lease != null) {
+            lease.lastActivity = System.nanoTime();
+        }
+    }
+
+    /**
+     * 쓰기 실패로 닫힌 연결 수 기록
+     */
+    void recordFailure() {
+        failed.increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.stop();
+    }
+
+    private final class Lease {
+
+        private final String sessionId;
+        private final SseConnection connection;
+        private final long openedAt = System.nanoTime();
+        private volatile long lastActivity = openedAt;
+        private volatile Timeout timeout;
+        private volatile boolean cancelled;
+
+        private Lease(String sessionId, SseConnection connection) {
+            this.sessionId = sessionId;
+            this.connection = connection;
+        }
+
+        private void schedule(long delayNanos) {
+            if (!cancelled) {
+                timeout = timer.newTimeout(t -> beat(), delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void beat() {
+            if (cancelled) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (now - openedAt >= maxLifetimeNanos) {
+                reap(reapedLifetime, "lifetime");
+                return;
+            }
+            if (now - lastActivity >= idleTimeoutNanos) {
+                reap(reapedIdle, "idle");
+                return;
+            }
+            // 실패하면 pinger 쪽에서 연결을 닫고 untrack함
+            if (pinger.test(sessionId, connection)) {
+                schedule(intervalNanos);
+            }
+        }
+
+        private void reap(Counter counter, String reason) {
+            counter.increment();
+            log.info("[SSE] Reaping {} connection. sessionId={}", reason, sessionId);
+            closer.accept(sessionId, connection);
+        }
+
+        private void cancel() {
+            cancelled = true;
+            Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
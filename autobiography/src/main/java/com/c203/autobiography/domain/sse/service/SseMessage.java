@@ -0,0 +1,15 @@
+package com.c203.autobiography.domain.sse.service;
+
+/**
+ * 연결 종류(SseEmitter/Flux)와 무관한 SSE 메시지 한 건. id가 null이면 id 없이, comment가 있으면 주석 줄로 보냅니다.
+ */
+record SseMessage(String id, String name, Object data, String comment) {
+
+    static SseMessage event(String id, String name, Object data) {
+        return new SseMessage(id, name, data, null);
+    }
+
+    static SseMessage comment(String text) {
+        return new SseMessage(null, null, null, text);
+    }
+}
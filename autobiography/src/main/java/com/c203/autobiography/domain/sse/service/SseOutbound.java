@@ -0,0 +1,128 @@
+package com.c203.autobiography.domain.sse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 송신 큐 설정과 writer 풀. 연결마다 QueuedSseConnection을 씌워, 이벤트를 만든 스레드가 소켓 쓰기를 기다리지 않게 합니다.
+ *
+ * - 큐 크기: sse.outbound.queue-capacity
+ * - 가득 차면 오래된 것부터 버리는 이벤트: sse.outbound.drop-oldest-events (기본 partialTranscript)
+ * - 보내기 전에 최신 것 하나로 합치는 이벤트: sse.outbound.coalesce-events (기본 partialTranscript)
+ * - 그 밖의 이벤트(question, episode 등)는 버리지 않으며, 넣을 자리가 없으면 연결을 끊고 재연결 replay에 맡깁니다.
+ * - writer 풀의 대기 작업은 연결당 최대 하나라서 큐 길이를 따로 제한하지 않습니다.
+ * - 쓰기 한 건이 sse.outbound.write-timeout-ms를 넘기면 그 연결을 세션에서 떼어 내 새 이벤트는 replay로 넘깁니다.
+ *   (멈춘 클라이언트 감지) 막힌 writer 스레드 자체는 서블릿 컨테이너의 소켓 쓰기 타임아웃이 지나야 풀립니다.
+ *   검사는 전용 스레드(sse-stuck-check)에서 하며, 막힌 쓰기를 기다리지 않습니다.
+ * - 메트릭: sse.outbound.dropped{event}, sse.outbound.coalesced{event}, sse.outbound.overflow, sse.outbound.stuck,
+ *   executor.* {name=sse-writer}
+ */
+@Slf4j
+@Component
+public class SseOutbound {
+
+    private final ThreadPoolTaskExecutor writerPool;
+    private final Executor writer;
+    private final Policy policy;
+    private final long writeTimeoutNanos;
+    private final Set<QueuedSseConnection> active = ConcurrentHashMap.newKeySet();
+    private final Counter stuck;
+    private final ThreadPoolTaskScheduler stuckChecker;
+
+    public SseOutbound(
+            MeterRegistry meterRegistry,
+            @Value("${sse.outbound.writer-threads:8}") int writerThreads,
+            @Value("${sse.outbound.queue-capacity:128}") int capacity,
+            @Value("${sse.outbound.drop-oldest-events:partialTranscript}") Set<String> dropOldestEvents,
+            @Value("${sse.outbound.coalesce-events:partialTranscript}") Set<String> coalesceEvents,
+            @Value("${sse.outbound.write-timeout-ms:10000}") long writeTimeoutMs,
+            @Value("${sse.outbound.stuck-check-ms:1000}") long stuckCheckMs) {
+        writerPool = new ThreadPoolTaskExecutor();
+        writerPool.setCorePoolSize(writerThreads);
+        writerPool.setMaxPoolSize(writerThreads);
+        writerPool.setThreadNamePrefix("sse-writer-");
+        writerPool.initialize();
+        writer = ExecutorServiceMetrics.monitor(meterRegistry, writerPool.getThreadPoolExecutor(), "sse-writer",
+                Tags.empty());
+        policy = new Policy(capacity, Set.copyOf(dropOldestEvents), Set.copyOf(coalesceEvents), meterRegistry);
+        writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        stuck = meterRegistry.counter("sse.outbound.stuck");
+        meterRegistry.gauge("sse.outbound.connections", active, Set::size);
+
+        stuckChecker = new ThreadPoolTaskScheduler();
+        stuckChecker.setPoolSize(1);
+        stuckChecker.setThreadNamePrefix("sse-stuck-check-");
+        stuckChecker.initialize();
+        stuckChecker.scheduleWithFixedDelay(this::abortStuckWriters, Duration.ofMillis(stuckCheckMs));
+        log.info("SSE 송신 큐: capacity={}, drop-oldest={}, coalesce={}", capacity, dropOldestEvents, coalesceEvents);
+    }
+
+    /**
+     * 연결에 송신 큐를 씌웁니다. 쓰기가 실패하면 writer 스레드에서 onWriteFailure를 호출합니다.
+     */
+    SseConnection wrap(SseConnection connection, Consumer<SseConnection> onWriteFailure) {
+        QueuedSseConnection queued = new QueuedSseConnection(connection, writer, policy, onWriteFailure);
+        active.add(queued);
+        return queued;
+    }
+
+    /**
+     * 멈춘 쓰기 감지: deadline을 넘긴 쓰기가 있는 연결을 닫고, 닫힌 연결은 목록에서 뺍니다.
+     */
+    void abortStuckWriters() {
+        long now = System.nanoTime();
+        for (QueuedSseConnection connection : active) {
+            if (connection.abortIfStuck(now, writeTimeoutNanos)) {
+                stuck.increment();
+                log.warn("[SSE] Write exceeded {}ms, closing connection",
+                        TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos));
+            }
+            if (connection.isClosed()) {
+                active.remove(connection);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stuckChecker.shutdown();
+        writerPool.shutdown();
+    }
+
+    record Policy(int capacity, Set<String> dropOldestEvents, Set<String> coalesceEvents, MeterRegistry meterRegistry) {
+
+        boolean dropsOldest(String eventName) {
+            return dropOldestEvents.contains(eventName);
+        }
+
+        boolean coalesces(String eventName) {
+            return coalesceEvents.contains(eventName);
+        }
+
+        void recordDrop(String eventName) {
+            meterRegistry.counter("sse.outbound.dropped", "event", eventName).increment();
+        }
+
+        void recordCoalesced(String eventName) {
+            meterRegistry.counter("sse.outbound.coalesced", "event", eventName).increment();
+        }
+
+        void recordOverflow() {
+            meterRegistry.counter("sse.outbound.overflow").increment();
+        }
+    }
+}
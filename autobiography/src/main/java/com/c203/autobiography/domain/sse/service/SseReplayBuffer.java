@@ -0,0 +1,83 @@
+package com.c203.autobiography.domain.sse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 최근 SSE 이벤트 링 버퍼. 연결이 끊긴 동안 보낸 이벤트를 Last-Event-ID 기준으로 다시 보내는 데 사용합니다.
+ *
+ * - 이벤트 id는 세션마다 단조 증가합니다. 버퍼를 처음 만들 때 현재 시각(ms)에서 시작하므로,
+ *   idle TTL로 버퍼가 사라졌다 다시 만들어져도 이전 id보다 작아지지 않습니다.
+ * - 세션당 최근 capacity개만 보관하고, 연결이 끊겨도 지우지 않습니다. (idle TTL 동안 유지)
+ * - 버퍼는 이벤트를 보낸 서버의 메모리에만 있습니다.
+ */
+@Component
+public class SseReplayBuffer {
+
+    private final int capacity;
+    private final Cache<String, SessionRing> rings;
+
+    public SseReplayBuffer(
+            @Value("${sse.replay.capacity:64}") int capacity,
+            @Value("${sse.replay.idle-ttl-min:60}") long idleTtlMin,
+            @Value("${sse.replay.max-sessions:10000}") long maxSessions) {
+        this.capacity = capacity;
+        this.rings = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleTtlMin))
+                .maximumSize(maxSessions)
+                .build();
+    }
+
+    public record ReplayEvent(long id, String name, Object data) {
+    }
+
+    /**
+     * 이벤트에 다음 id를 붙여 보관합니다.
+     */
+    public ReplayEvent append(String sessionId, String name, Object data) {
+        return rings.get(sessionId, id -> new SessionRing(capacity)).append(name, data);
+    }
+
+    /**
+     * lastEventId 이후의 이벤트를 돌려줍니다. 빠진 이벤트가 이미 밀려났거나 모르는 id면 empty.
+     */
+    public Optional<List<ReplayEvent>> after(String sessionId, long lastEventId) {
+        SessionRing ring = rings.getIfPresent(sessionId);
+        return ring == null ? Optional.empty() : ring.after(lastEventId);
+    }
+
+    private static final class SessionRing {
+
+        private final int capacity;
+        private final ArrayDeque<ReplayEvent> events;
+        private long lastId = System.currentTimeMillis();
+
+        private SessionRing(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(capacity);
+        }
+
+        private synchronized ReplayEvent append(String name, Object data) {
+            ReplayEvent event = new ReplayEvent(++lastId, name, data);
+            if (events.size() == capacity) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+            return event;
+        }
+
+        private synchronized Optional<List<ReplayEvent>> after(long lastEventId) {
+            long oldestId = events.isEmpty() ? lastId + 1 : events.peekFirst().id();
+            if (lastEventId > lastId || lastEventId < oldestId - 1) {
+                return Optional.empty();
+            }
+            return Optional.of(events.stream().filter(event -> event.id() > lastEventId).toList());
+        }
+    }
+}
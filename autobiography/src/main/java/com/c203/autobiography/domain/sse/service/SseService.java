@@ -1,9 +1,12 @@
 package com.c203.autobiography.domain.sse.service;
 
 import com.c203.autobiography.domain.episode.dto.EpisodeResponse;
+import com.c203.autobiography.domain.sse.dto.ResumedStream;
 import com.c203.autobiography.domain.stt.dto.TranscriptResponse;
 import com.c203.autobiography.domain.episode.template.dto.QuestionResponse;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 /**
  * SSE 기반으로 AI 질문, STT 결과, 에피소드 완성 등을 클라이언트에 푸시하기 위한 서비스 인터페이스
@@ -15,6 +18,25 @@ public interface SseService {
      */
     void register(String sessionId, SseEmitter emitter);
 
+    /**
+     * 재연결용 SseEmitter 등록. Last-Event-ID 이후 놓친 이벤트를 재전송 버퍼에서 먼저 보낸 뒤 연결을 세션에 공개하므로,
+     * 그 사이 만들어진 새 이벤트는 항상 재전송분 뒤에 한 번만 전송됩니다. (DB 조회 없음)
+     *
+     * @return 버퍼로 이어 보냈으면 true, 이어 붙일 수 없으면(id 형식이 다르거나 이미 밀려난 경우) 아무것도 보내지 않고 false
+     */
+    boolean register(String sessionId, SseEmitter emitter, String lastEventId);
+
+    /**
+     * 특정 세션에 Flux 기반 SSE 연결 등록.
+     * 이벤트는 세션별 bounded 버퍼(Sinks.Many)에 쌓였다가 클라이언트가 읽는 만큼 전송되고, 버퍼가 넘치면 연결을 끊습니다.
+     */
+    Flux<ServerSentEvent<Object>> connect(String sessionId);
+
+    /**
+     * 재연결용 Flux 기반 SSE 연결 등록. 재전송 처리는 register(sessionId, emitter, lastEventId)와 같습니다.
+     */
+    ResumedStream connect(String sessionId, String lastEventId);
+
     /**
      * 세션에서 SseEmitter 제거
      */
@@ -40,6 +62,21 @@ public interface SseService {
      */
     void pushEpisode(String sessionId, EpisodeResponse response);
 
+    /**
+     * AI 질문 생성 중 텍스트 조각 푸시 (최종 내용은 question 이벤트로 다시 전송됨)
+     */
+    void pushQuestionDelta(String sessionId, String delta);
+
+    /**
+     * 에피소드 생성 중 텍스트 조각 푸시 (최종 내용은 episode 이벤트로 다시 전송됨)
+     */
+    void pushEpisodeDelta(String sessionId, String delta);
+
+    /**
+     * error 이벤트를 보내고 연결을 닫습니다.
+     */
+    void closeWithError(String sessionId, String message);
+
     void closeConnection(String sessionId);
 
 }
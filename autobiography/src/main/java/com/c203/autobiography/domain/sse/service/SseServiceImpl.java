@@ -1,53 +1,152 @@
 package com.c203.autobiography.domain.sse.service;
 
 import com.c203.autobiography.domain.episode.dto.EpisodeResponse;
+import com.c203.autobiography.domain.sse.dto.ResumedStream;
+import com.c203.autobiography.domain.sse.dto.SseEnvelope;
+import com.c203.autobiography.domain.sse.dto.StreamDeltaResponse;
+import com.c203.autobiography.domain.sse.service.SseReplayBuffer.ReplayEvent;
 import com.c203.autobiography.domain.stt.dto.TranscriptResponse;
 import com.c203.autobiography.domain.episode.template.dto.QuestionResponse;
-import java.io.IOException;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 /**
- * SSE 서비스 구현체: 세션별 SseEmitter를 관리하고, 다양한 이벤트를 JSON 형태로 클라이언트에 푸시합니다.
+ * SSE 서비스 구현체: 세션별 SSE 연결(SseEmitter 또는 Flux)을 관리하고, 다양한 이벤트를 JSON 형태로 클라이언트에 푸시합니다.
+ * 연결이 이 서버에 있으면 바로 보내고, 없으면 SseEventBus로 연결을 가진 서버에 넘깁니다.
  */
 @Service
 @Slf4j
 @EnableScheduling
+@RequiredArgsConstructor
 public class SseServiceImpl implements SseService {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final Map<String, SseConnection> connections = new ConcurrentHashMap<>();
+    // 연결 공개 + 재전송 범위 결정과, 연결이 없을 때의 버퍼 보관을 서로 겹치지 않게 함
+    private final Object attachLock = new Object();
+
+    private final SseEventBus eventBus;
+    private final SseReplayBuffer replayBuffer;
+    private final SseHeartbeat heartbeat;
+    private final SseOutbound outbound;
+
+    @Value("${sse.flux.buffer-size:256}")
+    private int fluxBufferSize;
+
+    @PostConstruct
+    void start() {
+        eventBus.listen(this::deliverForwarded, () -> List.copyOf(connections.keySet()));
+        heartbeat.start(this::ping, this::closeConnection);
+    }
 
     @Override
     public void register(String sessionId, SseEmitter emitter) {
-        // 이전 잔재 정리 후 등록
-        closeConnection(sessionId);
-        emitters.put(sessionId, emitter);
-
-        // 자동 정리 훅
-        emitter.onTimeout(() -> closeConnection(sessionId));
-        emitter.onCompletion(() -> closeConnection(sessionId));
-        emitter.onError(ex -> closeConnection(sessionId));
+        register(sessionId, emitter, null);
+    }
 
-        // 일부 프록시 활성화를 위한 오픈 코멘트(선택)
-        sendSilently(sessionId, emitter, SseEmitter.event().comment("stream-open"));
+    @Override
+    public boolean register(String sessionId, SseEmitter emitter, String lastEventId) {
+        Attached attached = attach(sessionId, new EmitterSseConnection(emitter), lastEventId);
+        SseConnection connection = attached.connection();
 
+        // 자동 정리 훅: 같은 세션으로 재연결된 뒤 이전 emitter의 콜백이 늦게 와도 새 연결은 지우지 않음
+        emitter.onTimeout(() -> closeConnection(sessionId, connection));
+        emitter.onCompletion(() -> closeConnection(sessionId, connection));
+        emitter.onError(ex -> closeConnection(sessionId, connection));
         log.info("[SSE] Registered emitter for sessionId={}", sessionId);
+        return attached.replayed();
     }
 
     @Override
-    public void remove(String sessionId) {
-        SseEmitter e = emitters.remove(sessionId);
-        if (e != null) {
-            try {
-                e.complete();
-            } catch (Exception ignore) {
+    public Flux<ServerSentEvent<Object>> connect(String sessionId) {
+        return connect(sessionId, null).events();
+    }
+
+    @Override
+    public ResumedStream connect(String sessionId, String lastEventId) {
+        SinkSseConnection sink = new SinkSseConnection(fluxBufferSize);
+        Attached attached = attach(sessionId, sink, lastEventId);
+        SseConnection connection = attached.connection();
+        log.info("[SSE] Registered flux stream for sessionId={}", sessionId);
+        // 클라이언트가 끊으면(구독 취소) 연결 정리
+        return new ResumedStream(sink.flux().doFinally(signal -> closeConnection(sessionId, connection)),
+                attached.replayed());
+    }
+
+    private record Attached(SseConnection connection, boolean replayed) {
+    }
+
+    /**
+     * 연결에 송신 큐를 씌워 등록합니다. 이후 전송은 모두 큐를 거치므로 이벤트를 만든 스레드는 소켓 쓰기를 기다리지 않습니다.
+     * Last-Event-ID가 있으면 놓친 이벤트를 연결 잠금을 쥔 채 먼저 큐에 넣으므로, 공개 직후 들어온 새 이벤트는
+     * 잠금을 기다렸다가 재전송분 뒤에 붙습니다.
+     */
+    private Attached attach(String sessionId, SseConnection raw, String lastEventId) {
+        SseConnection connection = outbound.wrap(raw, failed -> {
+            // writer 스레드에서 쓰기 실패
+            heartbeat.recordFailure();
+            closeConnection(sessionId, failed);
+        });
+
+        // 이전 잔재 정리 후 등록
+        closeConnection(sessionId);
+        boolean replayed;
+        synchronized (connection) {
+            Optional<List<ReplayEvent>> missed;
+            synchronized (attachLock) {
+                connections.put(sessionId, connection);
+                missed = missedEvents(sessionId, lastEventId);
             }
+            // 일부 프록시 활성화를 위한 오픈 코멘트(선택)
+            sendSilently(sessionId, connection, SseMessage.comment("stream-open"));
+            missed.ifPresent(events -> events.forEach(event -> sendSilently(sessionId, connection, toMessage(event))));
+            replayed = missed.isPresent();
+        }
+        eventBus.claim(sessionId);
+        heartbeat.track(sessionId, connection);
+        return new Attached(connection, replayed);
+    }
+
+    /**
+     * Last-Event-ID 이후 놓친 이벤트. 버퍼로 이어 붙일 수 없으면(id가 없거나 형식이 다르거나 이미 밀려난 경우) empty.
+     */
+    private Optional<List<ReplayEvent>> missedEvents(String sessionId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return Optional.empty();
+        }
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return Optional.empty(); // 이전 형식(eventName-timestamp) id
+        }
+        Optional<List<ReplayEvent>> missed = replayBuffer.after(sessionId, lastId);
+        if (missed.isEmpty()) {
+            log.info("[SSE] Replay not possible, falling back. sessionId={}, lastEventId={}", sessionId, lastId);
+        } else {
+            log.info("[SSE] Replaying {} event(s) after lastEventId={} for sessionId={}",
+                    missed.get().size(), lastId, sessionId);
+        }
+        return missed;
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        SseConnection c = connections.remove(sessionId);
+        if (c != null) {
+            heartbeat.untrack(c);
+            eventBus.release(sessionId);
+            c.complete();
         }
         log.info("[SSE] Removed emitter for sessionId={}", sessionId);
     }
@@ -72,14 +171,45 @@ public class SseServiceImpl implements SseService {
         sendEvent(sessionId, "episode", response);
     }
 
+    @Override
+    public void pushQuestionDelta(String sessionId, String delta) {
+        sendDelta(sessionId, "questionDelta", delta);
+    }
+
+    @Override
+    public void pushEpisodeDelta(String sessionId, String delta) {
+        sendDelta(sessionId, "episodeDelta", delta);
+    }
+
+    @Override
+    public void closeWithError(String sessionId, String message) {
+        SseConnection connection = connections.get(sessionId);
+        if (connection == null) {
+            return;
+        }
+        sendSilently(sessionId, connection, SseMessage.event(null, "error", message));
+        closeConnection(sessionId, connection);
+    }
+
     @Override
     public void closeConnection(String sessionId) {
-        SseEmitter e = emitters.remove(sessionId);
-        if (e != null) {
-            try {
-                e.complete();
-            } catch (Exception ignore) {
-            }
+        SseConnection c = connections.remove(sessionId);
+        if (c != null) {
+            heartbeat.untrack(c);
+            eventBus.release(sessionId);
+            c.complete();
+            log.info("[SSE] Connection closed. sessionId={}", sessionId);
+        }
+    }
+
+    /**
+     * 지금 등록된 연결이 주어진 연결일 때만 닫습니다.
+     */
+    private void closeConnection(String sessionId, SseConnection connection) {
+        if (connections.remove(sessionId, connection)) {
+            heartbeat.untrack(connection);
+            eventBus.release(sessionId);
+            connection.complete();
             log.info("[SSE] Connection closed. sessionId={}", sessionId);
         }
     }
@@ -93,39 +223,96 @@ public class SseServiceImpl implements SseService {
      * @param payload   전송할 데이터 객체
      */
     private void sendEvent(String sessionId, String eventName, Object payload) {
-        SseEmitter emitter = emitters.get(sessionId);
-        if (emitter == null) {
-            log.warn("[SSE] No emitter found for sessionId={}", sessionId);
-            return;
+        SseConnection connection = connections.get(sessionId);
+        if (connection == null) {
+            // 연결이 다른 서버에 있으면 그 서버로 전달
+            if (eventBus.forward(sessionId, eventName, payload)) {
+                log.info("[SSE] Forwarded event='{}' for sessionId={}", eventName, sessionId);
+                return;
+            }
+            // 어디에도 연결이 없으면 재연결 때 다시 보낼 수 있도록 보관만 함.
+            // 그 사이 연결이 붙었다면 재전송 범위에 이미 들어갔거나 새 연결로 보내야 하므로 잠금 안에서 다시 확인
+            synchronized (attachLock) {
+                connection = connections.get(sessionId);
+                if (connection == null) {
+                    replayBuffer.append(sessionId, eventName, payload);
+                    log.warn("[SSE] No emitter found for sessionId={}, kept for replay", sessionId);
+                    return;
+                }
+            }
         }
-        sendSilently(sessionId, emitter,
-                SseEmitter.event()
-                        .id(eventName + '-' + System.currentTimeMillis())
-                        .name(eventName)
-                        .data(payload, MediaType.APPLICATION_JSON)
-        );
+        sendAndKeep(sessionId, connection, eventName, payload);
         log.info("[SSE] Pushed event='{}' for sessionId={}", eventName, sessionId);
     }
 
-    @Scheduled(fixedRate = 15_000)
-    public void heartbeat() {
-        emitters.forEach((id, emitter) ->
-                sendSilently(id, emitter, SseEmitter.event().comment("ping"))
-        );
+    /**
+     * 이벤트에 id를 붙여 재전송 버퍼에 보관하고 전송합니다.
+     * 보관과 전송을 연결 잠금 안에서 함께 처리해 replay와 겹쳐도 순서가 유지됩니다.
+     */
+    private void sendAndKeep(String sessionId, SseConnection connection, String eventName, Object data) {
+        synchronized (connection) {
+            ReplayEvent event = replayBuffer.append(sessionId, eventName, data);
+            sendSilently(sessionId, connection, toMessage(event));
+        }
     }
 
-    // ✅ 공통 안전 전송: 완료/끊김/예외 시 자동 제거
-    private void sendSilently(String sessionId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
-        try {
-            synchronized (emitter) {
-                emitter.send(event);
-            }
-        } catch (IllegalStateException | IOException ex) { // 이미 complete 또는 전송 실패
-            log.debug("[SSE] dead/broken emitter → remove. sessionId={}", sessionId, ex);
-            closeConnection(sessionId);
-        } catch (Throwable t) {
-            log.warn("[SSE] unexpected send error → remove. sessionId={}", sessionId, t);
-            closeConnection(sessionId);
+    /**
+     * 토큰 단위 delta 전송: 빈도가 높으므로 emitter가 없을 때도 경고 없이 넘어갑니다.
+     */
+    private void sendDelta(String sessionId, String eventName, String delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        SseConnection connection = connections.get(sessionId);
+        if (connection == null) {
+            eventBus.forwardDelta(sessionId, eventName, delta);
+            return;
+        }
+        sendSilently(sessionId, connection, SseMessage.event(null, eventName, new StreamDeltaResponse(delta)));
+        log.debug("[SSE] Pushed delta event='{}' for sessionId={}", eventName, sessionId);
+    }
+
+    /**
+     * 다른 서버에서 넘어온 이벤트 전송. data는 이미 JSON 문자열입니다.
+     */
+    private void deliverForwarded(SseEnvelope envelope) {
+        SseConnection connection = connections.get(envelope.getSessionId());
+        if (connection == null) {
+            log.debug("[SSE] Forwarded event dropped, emitter gone. sessionId={}", envelope.getSessionId());
+            return;
+        }
+        if (envelope.isDelta()) {
+            sendSilently(envelope.getSessionId(), connection,
+                    SseMessage.event(null, envelope.getEventName(), envelope.getData()));
+            return;
+        }
+        sendAndKeep(envelope.getSessionId(), connection, envelope.getEventName(), envelope.getData());
+    }
+
+    private static SseMessage toMessage(ReplayEvent event) {
+        return SseMessage.event(String.valueOf(event.id()), event.name(), event.data());
+    }
+
+    /**
+     * SseHeartbeat가 연결마다 흩어진 시점에 타이머 스레드에서 호출합니다. 송신 큐에 넣기만 하므로 블로킹하지 않습니다.
+     */
+    private boolean ping(String sessionId, SseConnection connection) {
+        return sendSilently(sessionId, connection, SseMessage.comment("ping"));
+    }
+
+    // ✅ 공통 안전 전송: 송신 큐에 넣기만 하며, 큐가 넘치면 자동 제거 (쓰기 실패는 attach의 콜백에서 제거)
+    private boolean sendSilently(String sessionId, SseConnection connection, SseMessage message) {
+        boolean sent;
+        synchronized (connection) {
+            sent = connection.send(message);
+        }
+        if (!sent) {
+            log.debug("[SSE] dead/broken connection → remove. sessionId={}", sessionId);
+            heartbeat.recordFailure();
+            closeConnection(sessionId, connection);
+        } else if (message.comment() == null) {
+            heartbeat.touch(connection);
         }
+        return sent;
     }
 }
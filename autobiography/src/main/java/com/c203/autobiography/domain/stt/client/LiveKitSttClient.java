@@ -26,6 +26,9 @@ public class LiveKitSttClient implements SttClient {
     @Value("${deepgram.api-key:}")
     private String deepgramApiKey;
 
+    @Value("${deepgram.api-url:https://api.deepgram.com/v1/listen}")
+    private String deepgramUrl;
+
     private RestTemplate restTemplate;
 
     @PostConstruct
@@ -38,7 +41,6 @@ public class LiveKitSttClient implements SttClient {
         log.info("LiveKit + Deepgram STT Client 초기화 완료 (타임아웃: 연결 10초, 읽기 120초)");
     }
 
-    private static final String DEEPGRAM_URL = "https://api.deepgram.com/v1/listen";
 
     @Override
     public SttResponse recognize(MultipartFile audio) {
@@ -75,7 +77,7 @@ public class LiveKitSttClient implements SttClient {
             HttpEntity<byte[]> request = new HttpEntity<>(audioBytes, headers);
 
             // Deepgram 쿼리 파라미터로 한국어 띄어쓰기 최적화 설정
-            String urlWithParams = DEEPGRAM_URL + 
+            String urlWithParams = deepgramUrl + 
                 "?model=nova-2" +             // Nova-2 모델 (한국어 성능 개선)
                 "&language=ko" +              // 한국어 설정
                 "&punctuate=true" +           // 구두점 추가
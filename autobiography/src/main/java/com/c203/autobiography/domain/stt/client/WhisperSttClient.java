@@ -27,6 +27,9 @@ public class WhisperSttClient implements SttClient {
     @Value("${openai.api-key}")
     private String apiKey;
 
+    @Value("${openai.transcription-url:https://gms.ssafy.io/gmsapi/api.openai.com/v1/audio/transcriptions}")
+    private String transcriptionUrl;
+
     private RestTemplate restTemplate;
 
     @PostConstruct
@@ -48,7 +51,6 @@ public class WhisperSttClient implements SttClient {
                 apiKey != null ? apiKey.substring(0, Math.min(15, apiKey.length())) + "..." : "null");
     }
 
-    private static final String URL = "https://gms.ssafy.io/gmsapi/api.openai.com/v1/audio/transcriptions";
 
     @Override
     public SttResponse recognize(MultipartFile audio) {
@@ -109,7 +111,7 @@ public class WhisperSttClient implements SttClient {
             log.info("🚀 Whisper WAV 요청: filename={}, size={} bytes", resource.getFilename(), audio.getSize());
 
             // ResponseEntity<SttResponse>로 매핑
-            ResponseEntity<SttResponse> response = restTemplate.postForEntity(URL, request, SttResponse.class);
+            ResponseEntity<SttResponse> response = restTemplate.postForEntity(transcriptionUrl, request, SttResponse.class);
             SttResponse sttResponse = response.getBody();
             log.info("✅ Whisper 응답: text='{}', usage={}s",
                     sttResponse.getText(),
@@ -15,6 +15,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Min;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +40,7 @@ public class SttController {
 
 
     @PostMapping(value = "/chunk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Void>> processChunk(
+    public CompletableFuture<ResponseEntity<ApiResponse<Void>>> processChunk(
             @RequestParam("sessionId") String sessionId,
             @RequestParam("chunkIndex") @Min(0) int chunkIndex,
             @RequestPart("audio") MultipartFile audio,
@@ -46,6 +48,7 @@ public class SttController {
             HttpServletRequest httpRequest
 
     ) {
+        String requestUri = httpRequest.getRequestURI();
         try {
             log.info("🎙️ STT 청크 처리 시작: sessionId={}, chunkIndex={}, fileName={}, size={} bytes", 
                      sessionId, chunkIndex, audio.getOriginalFilename(), audio.getSize());
@@ -57,39 +60,55 @@ public class SttController {
             
             log.info("🗣️ STT 결과 ({}ms): '{}'", processingTime, sttResp.getText());
             
-            // 2) 대화 메시지 저장 (PARTIAL)
-            ConversationMessageResponse conversation = conversationService.createMessage(
-                    ConversationMessageRequest.builder()
-                            .sessionId(sessionId)
-                            .messageType(MessageType.ANSWER)
-                            .chunkIndex(chunkIndex)
-                            .content(sttResp.getText())
-                            .build()
-            );
-            
-            log.info("💾 대화 메시지 저장 완료: messageId={}", conversation.getMessageId());
-            
-            // 3) SSE로 부분 인식 결과 푸시
-            TranscriptResponse partialDto = TranscriptResponse.builder()
-                    .messageId(conversation.getMessageId())
+            // 2) 대화 메시지 저장 (PARTIAL) - 다른 청크와 묶어 배치 저장
+            //    번호 발급은 원자적이라 세션 메일박스를 거치지 않음 (AI 응답을 기다리는 턴 뒤에 밀리지 않도록)
+            //    배치 저장(messageId 발급)을 기다리는 동안 서블릿 스레드는 반환
+            ConversationMessageRequest chunkRequest = ConversationMessageRequest.builder()
+                    .sessionId(sessionId)
+                    .messageType(MessageType.ANSWER)
                     .chunkIndex(chunkIndex)
-                    .text(sttResp.getText())
+                    .content(sttResp.getText())
                     .build();
+            return conversationService.appendTranscriptChunk(chunkRequest)
+                    .thenApply(conversation -> {
+                        log.info("💾 대화 메시지 저장 완료: messageId={}", conversation.getMessageId());
+
+                        // 3) SSE로 부분 인식 결과 푸시
+                        TranscriptResponse partialDto = TranscriptResponse.builder()
+                                .messageId(conversation.getMessageId())
+                                .chunkIndex(chunkIndex)
+                                .text(sttResp.getText())
+                                .build();
+
+                        sseService.pushPartialTranscript(sessionId, partialDto);
+                        log.info("📡 SSE 전송 완료: sessionId={}", sessionId);
+
+                        // 4) 동적 후속 질문 선행 생성 (실패해도 STT 처리에는 영향 없음)
+                        try {
+                            conversationService.speculateFollowUp(sessionId, sttResp.getText());
+                        } catch (Exception e) {
+                            log.warn("후속 질문 선행 생성 실패: sessionId={}, error={}", sessionId, e.getMessage());
+                        }
 
-            sseService.pushPartialTranscript(sessionId, partialDto);
-            log.info("📡 SSE 전송 완료: sessionId={}", sessionId);
+                        return ResponseEntity.status(HttpStatus.CREATED)
+                                .body(ApiResponse.<Void>of(HttpStatus.CREATED, "성공", null, requestUri));
+                    })
+                    .exceptionally(ex -> failure(sessionId, chunkIndex, requestUri,
+                            ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
 
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(ApiResponse.of(HttpStatus.CREATED, "성공", null, httpRequest.getRequestURI()));
-                    
         } catch (Exception e) {
-            log.error("❌ STT 청크 처리 실패: sessionId={}, chunkIndex={}, error={}", 
-                     sessionId, chunkIndex, e.getMessage(), e);
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, 
-                         "STT 처리 실패: " + e.getMessage(), null, httpRequest.getRequestURI()));
+            return CompletableFuture.completedFuture(failure(sessionId, chunkIndex, requestUri, e));
         }
     }
 
+    private ResponseEntity<ApiResponse<Void>> failure(String sessionId, int chunkIndex, String requestUri,
+                                                      Throwable e) {
+        log.error("❌ STT 청크 처리 실패: sessionId={}, chunkIndex={}, error={}", 
+                 sessionId, chunkIndex, e.getMessage(), e);
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, 
+                     "STT 처리 실패: " + e.getMessage(), null, requestUri));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.c203.autobiography.global.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 비동기 호출이 끝난 뒤의 후속 작업(DB 저장, SSE 푸시 등)을 실행하는 전용 스레드 풀.
+ * WebClient 이벤트 루프에서 블로킹 작업을 하지 않도록 CompletableFuture 후속 단계에서 사용합니다.
+ *
+ * - 큐가 가득 차면 거절(RejectedExecutionException)합니다. 후속 단계의 Future가 예외로 끝나 각 호출부의 오류 처리로 넘어가며,
+ *   호출한 스레드(Netty 이벤트 루프)에서 DB 저장이나 SSE 푸시를 대신 실행하지 않습니다.
+ * - 메트릭: executor.* {name=ai-callback}
+ *
+ * Executor 빈으로 등록하면 스프링 기본 @Async 실행기가 비활성화되므로 컴포넌트 내부에만 보관합니다.
+ */
+@Slf4j
+@Component
+public class AiCallbackExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Executor monitored;
+
+    public AiCallbackExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${ai.callback-executor.core-size:8}") int coreSize,
+            @Value("${ai.callback-executor.max-size:32}") int maxSize,
+            @Value("${ai.callback-executor.queue-capacity:500}") int queueCapacity) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-callback-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "ai-callback",
+                Tags.empty());
+    }
+
+    public Executor executor() {
+        return monitored;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
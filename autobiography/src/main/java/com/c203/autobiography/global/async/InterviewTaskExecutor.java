@@ -0,0 +1,59 @@
+package com.c203.autobiography.global.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인터뷰 백그라운드 작업(세션 메일박스 명령, SSE 연결 후 첫 질문 생성/재전송 등) 전용 스레드 풀.
+ * 요청 스레드는 작업을 넘기고 바로 반환하며, 작업 안의 DB 쓰기는 각 작업이 직접 트랜잭션 경계를 잡습니다.
+ *
+ * - 큐 크기가 정해져 있고, 가득 차면 RejectedExecutionException으로 거절합니다. 제출한 쪽이 작업을 실패 처리합니다.
+ *   (제출 스레드에서 실행하면 AI 응답 콜백 등 Netty 이벤트 루프나 요청 스레드가 한 턴 전체를 떠안게 됨)
+ * - 메트릭: executor.* {name=interview} (활성 스레드, 대기 작업 수, 완료 수, 실행 시간)
+ *
+ * Executor 빈으로 등록하면 스프링 기본 @Async 실행기가 비활성화되므로 컴포넌트 내부에만 보관합니다.
+ */
+@Slf4j
+@Component
+public class InterviewTaskExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Executor monitored;
+
+    public InterviewTaskExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${interview.executor.core-size:8}") int coreSize,
+            @Value("${interview.executor.max-size:32}") int maxSize,
+            @Value("${interview.executor.queue-capacity:1000}") int queueCapacity) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("interview-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        // 풀 상태 게이지 + 작업 대기/실행 시간 타이머
+        monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "interview",
+                Tags.empty());
+    }
+
+    public Executor executor() {
+        return monitored;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
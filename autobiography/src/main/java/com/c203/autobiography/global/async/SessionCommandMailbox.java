@@ -0,0 +1,211 @@
+package com.c203.autobiography.global.async;
+
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 명령 메일박스 (actor).
+ * 같은 세션의 명령(다음 질문, 건너뛰기, SSE 연결 초기화)은 들어온 순서대로 하나씩 실행하고,
+ * 다른 세션의 명령은 InterviewTaskExecutor에서 병렬로 실행합니다. 세션 상태를 바꾸는 경로가 서로 겹치지 않으므로 DB 잠금이 필요 없습니다.
+ *
+ * - submitAsync()의 명령은 반환한 Future가 끝날 때까지 세션을 점유합니다. (AI 응답을 기다리는 한 턴 전체를 하나의 명령으로 처리)
+ * - 세션당 대기 명령이 max-pending을 넘으면 바로 SESSION_BUSY로 거절합니다.
+ * - 실행 풀이 가득 차 다음 명령을 넘기지 못하면 그 세션의 대기 명령을 INTERVIEW_OVERLOADED로 실패시킵니다.
+ *   (명령을 완료한 스레드가 Netty 이벤트 루프여도 그 자리에서 다음 명령을 실행하지 않음)
+ * - 명령 안에서 같은 세션의 명령을 다시 제출해 기다리면 교착되므로, 명령 내부에서는 서비스 메서드를 직접 호출합니다.
+ * - 메트릭: conversation.mailbox.pending, conversation.mailbox.sessions, conversation.mailbox.queue.length,
+ *   conversation.mailbox.rejected
+ */
+@Slf4j
+@Component
+public class SessionCommandMailbox {
+
+    private static final String METRIC_PREFIX = "conversation.mailbox";
+
+    private final Executor executor;
+    private final int maxPending;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary queueLength;
+
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger totalPending = new AtomicInteger();
+
+    public SessionCommandMailbox(
+            MeterRegistry meterRegistry,
+            InterviewTaskExecutor interviewExecutor,
+            @Value("${conversation.mailbox.max-pending:32}") int maxPending) {
+        this.meterRegistry = meterRegistry;
+        this.maxPending = maxPending;
+        this.executor = interviewExecutor.executor();
+        meterRegistry.gauge(METRIC_PREFIX + ".pending", totalPending);
+        meterRegistry.gauge(METRIC_PREFIX + ".sessions", mailboxes, Map::size);
+        this.queueLength = DistributionSummary.builder(METRIC_PREFIX + ".queue.length")
+                .description("명령 제출 시점의 세션별 대기 명령 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동기 명령을 세션 순서대로 실행합니다.
+     */
+    public <T> CompletableFuture<T> submit(String sessionId, Supplier<T> command) {
+        return submitAsync(sessionId, () -> CompletableFuture.completedFuture(command.get()));
+    }
+
+    /**
+     * 비동기 명령을 세션 순서대로 실행합니다. 반환한 Future가 끝나야 같은 세션의 다음 명령이 시작됩니다.
+     */
+    public <T> CompletableFuture<T> submitAsync(String sessionId, Supplier<? extends CompletableFuture<T>> command) {
+        Command<T> cmd = new Command<>(command);
+        Mailbox mailbox = reserve(sessionId);
+        mailbox.queue.add(cmd);
+        schedule(mailbox);
+        return cmd.result;
+    }
+
+    /**
+     * 명령을 세션 순서대로 실행하고 결과를 기다립니다. 명령에서 난 예외는 감싸지 않고 그대로 던집니다.
+     */
+    public <T> T call(String sessionId, Supplier<T> command) {
+        try {
+            return submit(sessionId, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 대기 수 확인/증가와 빈 메일박스 제거가 같은 키 잠금 안에서 일어나도록 compute 사용
+    private Mailbox reserve(String sessionId) {
+        boolean[] rejected = {false};
+        Mailbox mailbox = mailboxes.compute(sessionId, (id, current) -> {
+            Mailbox m = current != null ? current : new Mailbox(id);
+            if (m.size.get() >= maxPending) {
+                rejected[0] = true;
+            } else {
+                queueLength.record(m.size.incrementAndGet());
+                totalPending.incrementAndGet();
+            }
+            return m;
+        });
+        if (rejected[0]) {
+            meterRegistry.counter(METRIC_PREFIX + ".rejected").increment();
+            log.warn("세션 명령 대기열이 가득 차 요청을 거절합니다: sessionId={}, maxPending={}", sessionId, maxPending);
+            throw new ApiException(ErrorCode.SESSION_BUSY);
+        }
+        return mailbox;
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.running.compareAndSet(false, true)) {
+            dispatch(mailbox);
+        }
+    }
+
+    // 실행 중 표시를 가진 상태에서 다음 명령 실행을 풀에 넘김
+    private void dispatch(Mailbox mailbox) {
+        try {
+            executor.execute(() -> runNext(mailbox));
+        } catch (RejectedExecutionException e) {
+            rejectPending(mailbox);
+        }
+    }
+
+    private void runNext(Mailbox mailbox) {
+        Command<?> cmd = mailbox.queue.poll();
+        if (cmd == null) {
+            release(mailbox);
+            return;
+        }
+        cmd.run().whenComplete((r, ex) -> {
+            mailbox.size.decrementAndGet();
+            totalPending.decrementAndGet();
+            dispatch(mailbox);
+        });
+    }
+
+    private void release(Mailbox mailbox) {
+        mailbox.running.set(false);
+        // 실행 중 표시를 내리는 사이에 들어온 명령이 있으면 다시 실행
+        if (!mailbox.queue.isEmpty()) {
+            schedule(mailbox);
+        } else {
+            mailboxes.computeIfPresent(mailbox.sessionId, (id, m) -> m == mailbox && m.size.get() == 0 ? null : m);
+        }
+    }
+
+    // 실행 풀이 가득 참: 세션 메일박스가 멈춰 있지 않도록 대기 명령을 모두 실패시키고 실행 중 표시를 내림
+    private void rejectPending(Mailbox mailbox) {
+        int rejected = 0;
+        for (Command<?> cmd = mailbox.queue.poll(); cmd != null; cmd = mailbox.queue.poll()) {
+            mailbox.size.decrementAndGet();
+            totalPending.decrementAndGet();
+            cmd.result.completeExceptionally(new ApiException(ErrorCode.INTERVIEW_OVERLOADED));
+            rejected++;
+        }
+        meterRegistry.counter(METRIC_PREFIX + ".rejected").increment(rejected);
+        log.warn("인터뷰 실행 풀이 가득 차 세션 명령을 거절합니다: sessionId={}, rejected={}", mailbox.sessionId, rejected);
+        release(mailbox);
+    }
+
+    private static final class Mailbox {
+        private final String sessionId;
+        private final Queue<Command<?>> queue = new ConcurrentLinkedQueue<>();
+        // 대기 + 실행 중인 명령 수
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private Mailbox(String sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+
+    private static final class Command<T> {
+        private final Supplier<? extends CompletableFuture<T>> body;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Command(Supplier<? extends CompletableFuture<T>> body) {
+            this.body = body;
+        }
+
+        // 명령을 실행하고, 명령이 완전히 끝나면 완료되는 Future를 반환 (예외도 결과로 전달)
+        private CompletableFuture<?> run() {
+            CompletableFuture<T> future;
+            try {
+                future = body.get();
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                return CompletableFuture.completedFuture(null);
+            }
+            if (future == null) {
+                result.complete(null);
+                return CompletableFuture.completedFuture(null);
+            }
+            return future.whenComplete((value, ex) -> {
+                if (ex != null) {
+                    result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                            ? ex.getCause() : ex);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.c203.autobiography.global.config;
 
+import java.net.URI;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +8,7 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 
 @Configuration
 public class S3Config {
@@ -16,15 +18,21 @@ public class S3Config {
     private String secretKey;
     @Value("${aws.s3.region}")
     private String region;
+    // 비어 있으면 AWS 기본 엔드포인트 (부하 테스트 등에서 S3 호환 서버로 바꿀 때만 지정)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
 
     @Bean
     public S3Client s3Client(){
         //자격증명
         AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
-                .build();
+                .credentialsProvider(StaticCredentialsProvider.create(awsCreds));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
     }
 
 }
@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.netty.http.client.HttpClient;
 import reactor.util.retry.Retry;
 
@@ -34,10 +35,12 @@ public class WebClientConfig {
                 .clientConnector(new ReactorClientHttpConnector(http))
                 .baseUrl(openAiProps.getApiUrl())        // https://…/v1
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAiProps.getApiKey())
-                /* 3회 exponential backoff retry */
+                /* 연결 실패 등 전송 오류만 3회 exponential backoff retry
+                   (429는 Retry-After, 5xx는 backoff로 AiDispatchScheduler가 재시도) */
                 .filter((req, next) ->
                         next.exchange(req)
-                                .retryWhen(Retry.backoff(3, Duration.ofMillis(500))))
+                                .retryWhen(Retry.backoff(3, Duration.ofMillis(500))
+                                        .filter(ex -> ex instanceof WebClientRequestException)))
                 .build();
     }
 
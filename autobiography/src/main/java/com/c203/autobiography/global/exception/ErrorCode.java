@@ -42,6 +42,10 @@ public enum ErrorCode {
     GROUP_BOOK_NOT_FOUND("GROUP_BOOK_NOT_FOUND", HttpStatus.NOT_FOUND, "그룹 책을 찾을 수 없습니다."),
     GROUP_BOOK_ALREADY_DELETED("GROUP_BOOK_ALREADY_DELETED", HttpStatus.GONE,"이미 삭제된 그룹 책입니다."),
     SESSION_NOT_FOUND("SESSION_NOT_FOUND", HttpStatus.NOT_FOUND, "대화 세션을 찾을 수 없습니다."),
+    SESSION_BUSY("SESSION_BUSY", HttpStatus.TOO_MANY_REQUESTS, "이전 요청을 처리하는 중입니다. 잠시 후 다시 시도해주세요."),
+    INTERVIEW_OVERLOADED("INTERVIEW_OVERLOADED", HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    AI_OVERLOADED("AI_OVERLOADED", HttpStatus.SERVICE_UNAVAILABLE, "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SESSION_CONFLICT("SESSION_CONFLICT", HttpStatus.CONFLICT, "다른 요청이 대화 세션을 먼저 변경했습니다. 다시 시도해주세요."),
     INVALID_REQUEST("INVALID_REQUEST",HttpStatus.BAD_REQUEST, "다음 질문이 없습니다."),
 
     // CommunityBook 관련 에러
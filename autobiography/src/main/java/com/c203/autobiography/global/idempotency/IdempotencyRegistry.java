@@ -0,0 +1,87 @@
+package com.c203.autobiography.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중복 요청 제거: 같은 키로 들어온 요청은 처음 요청의 결과(CompletableFuture)를 그대로 공유합니다.
+ *
+ * - retainResult=true  : 클라이언트가 보낸 Idempotency-Key. 완료 후에도 TTL 동안 결과를 재사용
+ * - retainResult=false : 서버가 만든 키. 진행 중인 동안만 합치고 완료되면 바로 제거 (더블 클릭 방지)
+ *
+ * 실패한 요청은 재시도할 수 있도록 즉시 제거합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyRegistry {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final String METRIC_NAME = "idempotency.requests";
+
+    private final Cache<String, CompletableFuture<Object>> entries;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotencyRegistry(
+            @Value("${idempotency.ttl-min:10}") int ttlMin,
+            @Value("${idempotency.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMin))
+                .build();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, boolean retainResult, Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = entries.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            meterRegistry.counter(METRIC_NAME, "result", "duplicate").increment();
+            log.info("중복 요청을 기존 결과로 처리합니다: key={}", key);
+            return (CompletableFuture<T>) existing;
+        }
+        meterRegistry.counter(METRIC_NAME, "result", "first").increment();
+
+        CompletableFuture<T> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, ex) -> {
+            if (ex != null || !retainResult) {
+                entries.asMap().remove(key, mine);
+            }
+            if (ex != null) {
+                mine.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause() : ex);
+            } else {
+                mine.complete(value);
+            }
+        });
+        return (CompletableFuture<T>) mine;
+    }
+
+    /**
+     * 동기 처리용: 결과를 기다려 반환하고, 원래 예외(ApiException 등)를 그대로 던집니다.
+     */
+    public <T> T executeSync(String key, boolean retainResult, Supplier<T> action) {
+        try {
+            return this.<T>execute(key, retainResult, () -> CompletableFuture.completedFuture(action.get())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+}
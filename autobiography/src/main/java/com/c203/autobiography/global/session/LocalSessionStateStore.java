@@ -0,0 +1,42 @@
+package com.c203.autobiography.global.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * 서버 메모리(Caffeine) 저장소. 단일 서버 배포용
+ */
+class LocalSessionStateStore<V> implements SessionStateStore<V> {
+
+    private final Cache<String, V> cache;
+
+    LocalSessionStateStore(Duration idleTtl, long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(idleTtl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public Optional<V> get(String sessionId) {
+        return Optional.ofNullable(cache.getIfPresent(sessionId));
+    }
+
+    @Override
+    public void put(String sessionId, V value) {
+        cache.put(sessionId, value);
+    }
+
+    @Override
+    public Optional<V> update(String sessionId, UnaryOperator<V> change) {
+        return Optional.ofNullable(cache.asMap().computeIfPresent(sessionId, (id, current) -> change.apply(current)));
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        cache.invalidate(sessionId);
+    }
+}
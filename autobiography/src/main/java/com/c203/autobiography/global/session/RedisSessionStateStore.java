@@ -0,0 +1,124 @@
+package com.c203.autobiography.global.session;
+
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis 저장소 + 짧은 TTL의 로컬 near-cache. 여러 서버가 같은 세션 상태를 공유할 때 사용합니다.
+ *
+ * - 값은 JSON으로 저장하고, 읽을 때마다 idle TTL을 연장합니다.
+ * - 쓰기는 Redis와 near-cache에 함께 반영하고, near-cache는 nearCacheTtl 동안만 유지해 다른 서버의 변경이 곧 보이도록 합니다.
+ * - update는 near-cache를 거치지 않고 Redis의 현재 값을 읽어, 읽은 값이 그대로일 때만 바꿔 씁니다. (Lua compare-and-set)
+ *   다른 서버가 먼저 바꿨으면 최신 값으로 다시 시도하고, 계속 충돌하면 SESSION_CONFLICT로 실패합니다.
+ */
+@Slf4j
+class RedisSessionStateStore<V> implements SessionStateStore<V> {
+
+    private static final int MAX_UPDATE_ATTEMPTS = 10;
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 else return 0 end",
+            Long.class);
+
+    private final String keyPrefix;
+    private final JavaType type;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration idleTtl;
+    private final Cache<String, V> nearCache;
+
+    RedisSessionStateStore(String name, JavaType type, RedisTemplate<String, Object> redisTemplate,
+                           ObjectMapper objectMapper, Duration idleTtl, Duration nearCacheTtl, long maxSize) {
+        this.keyPrefix = "session-state:" + name + ":";
+        this.type = type;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.idleTtl = idleTtl;
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(nearCacheTtl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public Optional<V> get(String sessionId) {
+        V near = nearCache.getIfPresent(sessionId);
+        if (near != null) {
+            return Optional.of(near);
+        }
+        String key = keyPrefix + sessionId;
+        Object raw = redisTemplate.opsForValue().get(key);
+        if (raw == null) {
+            return Optional.empty();
+        }
+        redisTemplate.expire(key, idleTtl);
+        try {
+            V value = objectMapper.readValue(raw.toString(), type);
+            nearCache.put(sessionId, value);
+            return Optional.of(value);
+        } catch (JsonProcessingException e) {
+            log.warn("세션 상태 역직렬화 실패, 값을 버립니다: key={}, error={}", key, e.getMessage());
+            redisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String sessionId, V value) {
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + sessionId, objectMapper.writeValueAsString(value), idleTtl);
+            nearCache.put(sessionId, value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("세션 상태를 직렬화할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<V> update(String sessionId, UnaryOperator<V> change) {
+        String key = keyPrefix + sessionId;
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Object raw = redisTemplate.opsForValue().get(key);
+            if (raw == null) {
+                nearCache.invalidate(sessionId);
+                return Optional.empty();
+            }
+            V changed;
+            String json;
+            try {
+                // 매번 Redis 값으로 새 복사본을 만들어 적용 (near-cache의 객체는 건드리지 않음)
+                changed = change.apply(objectMapper.readValue(raw.toString(), type));
+                json = objectMapper.writeValueAsString(changed);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("세션 상태를 변환할 수 없습니다: " + e.getMessage(), e);
+            }
+            Long swapped = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, List.of(key),
+                    raw.toString(), json, String.valueOf(idleTtl.toMillis()));
+            if (Long.valueOf(1L).equals(swapped)) {
+                nearCache.put(sessionId, changed);
+                return Optional.of(changed);
+            }
+        }
+        nearCache.invalidate(sessionId);
+        log.warn("세션 상태 갱신 충돌이 계속되어 실패합니다: key={}", key);
+        throw new ApiException(ErrorCode.SESSION_CONFLICT);
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        nearCache.invalidate(sessionId);
+        redisTemplate.delete(keyPrefix + sessionId);
+    }
+}
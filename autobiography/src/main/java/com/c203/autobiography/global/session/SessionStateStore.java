@@ -0,0 +1,30 @@
+package com.c203.autobiography.global.session;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * 인터뷰 세션별 임시 상태 저장소 (sessionId → 값).
+ * 일정 시간(idle TTL) 동안 접근이 없으면 자동으로 사라지므로 버려진 세션이 메모리에 남지 않습니다.
+ *
+ * 저장된 값은 복사본으로 다뤄야 합니다. 꺼낸 값을 바꿨다면 put으로 다시 저장해야 다른 서버에서도 보입니다.
+ * 현재 값을 읽고 바꿔 다시 저장하는 경우(단계 진행 등)에는 get/put 대신 update를 사용합니다.
+ */
+public interface SessionStateStore<V> {
+
+    Optional<V> get(String sessionId);
+
+    void put(String sessionId, V value);
+
+    void remove(String sessionId);
+
+    /**
+     * 현재 값에 change를 적용해 원자적으로 저장합니다. 다른 요청/서버가 먼저 바꿨으면 최신 값으로 다시 적용하므로,
+     * change는 여러 번 호출될 수 있습니다. 값이 없으면 empty.
+     */
+    Optional<V> update(String sessionId, UnaryOperator<V> change);
+
+    default boolean contains(String sessionId) {
+        return get(sessionId).isPresent();
+    }
+}
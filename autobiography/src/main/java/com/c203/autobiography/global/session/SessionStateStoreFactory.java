@@ -0,0 +1,58 @@
+package com.c203.autobiography.global.session;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 상태 저장소 생성기.
+ * session-store.mode=local(기본)이면 서버 메모리, redis면 Redis + near-cache 저장소를 만듭니다.
+ */
+@Slf4j
+@Component
+public class SessionStateStoreFactory {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisMode;
+    private final Duration idleTtl;
+    private final Duration nearCacheTtl;
+    private final long maxSize;
+
+    public SessionStateStoreFactory(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${session-store.mode:local}") String mode,
+            @Value("${session-store.idle-ttl-min:60}") long idleTtlMin,
+            @Value("${session-store.near-cache-ttl-sec:2}") long nearCacheTtlSec,
+            @Value("${session-store.max-size:10000}") long maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        this.idleTtl = Duration.ofMinutes(idleTtlMin);
+        this.nearCacheTtl = Duration.ofSeconds(nearCacheTtlSec);
+        this.maxSize = maxSize;
+        log.info("세션 상태 저장소 모드: {} (idle TTL {}분)", redisMode ? "redis" : "local", idleTtlMin);
+    }
+
+    public <V> SessionStateStore<V> create(String name, Class<V> type) {
+        return create(name, objectMapper.constructType(type));
+    }
+
+    public <V> SessionStateStore<V> create(String name, TypeReference<V> type) {
+        return create(name, objectMapper.constructType(type));
+    }
+
+    private <V> SessionStateStore<V> create(String name, JavaType type) {
+        if (redisMode) {
+            return new RedisSessionStateStore<>(name, type, redisTemplate, objectMapper, idleTtl, nearCacheTtl,
+                    maxSize);
+        }
+        return new LocalSessionStateStore<>(idleTtl, maxSize);
+    }
+}
@@ -0,0 +1,103 @@
+package com.c203.autobiography.domain.ai.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
+import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest.ResponseFormat;
+import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest.StreamOptions;
+import com.c203.autobiography.domain.ai.dto.ChatMessage;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AiCacheKeyTest {
+
+    private final ChatCompletionRequest base = ChatCompletionRequest.builder()
+            .model("gpt-4o-mini")
+            .messages(List.of(ChatMessage.system("너는 인터뷰어다"), ChatMessage.user("어린 시절 이야기")))
+            .temperature(0.7)
+            .maxTokens(256)
+            .responseFormat(new ResponseFormat("json_object"))
+            .build();
+
+    @Test
+    void 같은_내용이면_새로_만든_요청도_같은_키() {
+        ChatCompletionRequest copy = ChatCompletionRequest.builder()
+                .model("gpt-4o-mini")
+                .messages(List.of(ChatMessage.of("system", "너는 인터뷰어다"), ChatMessage.of("user", "어린 시절 이야기")))
+                .temperature(0.7)
+                .maxTokens(256)
+                .responseFormat(new ResponseFormat("json_object"))
+                .build();
+
+        assertThat(AiCacheKey.of(copy)).isEqualTo(AiCacheKey.of(base));
+    }
+
+    @Test
+    void 키는_SHA_256_hex() {
+        assertThat(AiCacheKey.of(base)).hasSize(64).matches("[0-9a-f]+");
+    }
+
+    @Test
+    void 스트리밍_여부는_키에_영향이_없다() {
+        ChatCompletionRequest streaming = base.toBuilder()
+                .stream(true)
+                .streamOptions(new StreamOptions(true))
+                .build();
+
+        assertThat(AiCacheKey.of(streaming)).isEqualTo(AiCacheKey.of(base));
+    }
+
+    @Test
+    void 출력에_영향을_주는_필드가_다르면_다른_키() {
+        String key = AiCacheKey.of(base);
+
+        assertThat(AiCacheKey.of(base.toBuilder().model("gpt-4o").build())).isNotEqualTo(key);
+        assertThat(AiCacheKey.of(base.toBuilder().temperature(0.2).build())).isNotEqualTo(key);
+        assertThat(AiCacheKey.of(base.toBuilder().maxTokens(512).build())).isNotEqualTo(key);
+        assertThat(AiCacheKey.of(base.toBuilder().responseFormat(null).build())).isNotEqualTo(key);
+        assertThat(AiCacheKey.of(base.toBuilder()
+                .messages(List.of(ChatMessage.system("너는 인터뷰어다"), ChatMessage.assistant("어린 시절 이야기")))
+                .build())).isNotEqualTo(key);
+    }
+
+    @Test
+    void 메시지_순서가_다르면_다른_키() {
+        ChatCompletionRequest reversed = base.toBuilder()
+                .messages(List.of(ChatMessage.user("어린 시절 이야기"), ChatMessage.system("너는 인터뷰어다")))
+                .build();
+
+        assertThat(AiCacheKey.of(reversed)).isNotEqualTo(AiCacheKey.of(base));
+    }
+
+    @Test
+    void 필드_경계가_바뀌면_다른_키() {
+        ChatCompletionRequest a = base.toBuilder()
+                .messages(List.of(ChatMessage.user("ab"), ChatMessage.user("c")))
+                .build();
+        ChatCompletionRequest b = base.toBuilder()
+                .messages(List.of(ChatMessage.user("a"), ChatMessage.user("bc")))
+                .build();
+
+        assertThat(AiCacheKey.of(a)).isNotEqualTo(AiCacheKey.of(b));
+    }
+
+    @Test
+    void null과_빈_문자열을_구분한다() {
+        ChatCompletionRequest nullContent = base.toBuilder()
+                .messages(List.of(ChatMessage.user(null)))
+                .build();
+        ChatCompletionRequest emptyContent = base.toBuilder()
+                .messages(List.of(ChatMessage.user("")))
+                .build();
+
+        assertThat(AiCacheKey.of(nullContent)).isNotEqualTo(AiCacheKey.of(emptyContent));
+    }
+
+    @Test
+    void 메시지_목록이_없으면_빈_목록과_같은_키() {
+        ChatCompletionRequest noMessages = base.toBuilder().messages(null).build();
+        ChatCompletionRequest emptyMessages = base.toBuilder().messages(List.of()).build();
+
+        assertThat(AiCacheKey.of(noMessages)).isEqualTo(AiCacheKey.of(emptyMessages));
+    }
+}
@@ -0,0 +1,239 @@
+package com.c203.autobiography.domain.ai.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.c203.autobiography.domain.ai.properties.OpenAiProperties;
+import com.c203.autobiography.domain.ai.service.OpenAiCallException;
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class AiDispatchSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OpenAiProperties props = new OpenAiProperties();
+    private final Map<AiPriority, AtomicInteger> started = new EnumMap<>(AiPriority.class);
+    private final List<Sinks.One<String>> running = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        OpenAiProperties.Dispatch dispatch = props.getDispatch();
+        dispatch.setInitialLimit(4);
+        dispatch.setMinLimit(2);
+        dispatch.setMaxLimit(5);
+        dispatch.setBackoffRatio(0.5);
+        dispatch.setInteractiveReserve(0.25);
+        dispatch.setBackgroundShare(0.5);
+        dispatch.setMaxThrottleRetries(0);
+        dispatch.setDefaultRetryAfterMs(0);
+        dispatch.setServerErrorBackoffMs(1);
+        for (AiPriority lane : AiPriority.values()) {
+            started.put(lane, new AtomicInteger());
+        }
+    }
+
+    @Test
+    void 성공할_때마다_한도를_1_나누기_limit만큼_늘린다() {
+        AiDispatchScheduler scheduler = scheduler();
+
+        scheduler.submit(AiPriority.INTERACTIVE, () -> Mono.just("ok")).block();
+
+        assertThat(limit()).isEqualTo(4.25);
+    }
+
+    @Test
+    void 한도는_maxLimit을_넘지_않는다() {
+        AiDispatchScheduler scheduler = scheduler();
+
+        for (int i = 0; i < 20; i++) {
+            scheduler.submit(AiPriority.INTERACTIVE, () -> Mono.just("ok")).block();
+        }
+
+        assertThat(limit()).isEqualTo(5.0);
+    }
+
+    @Test
+    void 레이트_리밋이면_한도를_backoffRatio만큼_줄이고_minLimit에서_멈춘다() {
+        AiDispatchScheduler scheduler = scheduler();
+
+        assertThatThrownBy(() -> scheduler.submit(AiPriority.INTERACTIVE,
+                () -> Mono.error(new OpenAiCallException(429, Duration.ZERO))).block())
+                .isInstanceOf(OpenAiCallException.class);
+        assertThat(limit()).isEqualTo(2.0);
+
+        assertThatThrownBy(() -> scheduler.submit(AiPriority.INTERACTIVE,
+                () -> Mono.error(new OpenAiCallException(429, Duration.ZERO))).block())
+                .isInstanceOf(OpenAiCallException.class);
+        assertThat(limit()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("ai.dispatch.throttled").count()).isEqualTo(2);
+    }
+
+    @Test
+    void 타임아웃도_과부하로_보고_한도를_줄인다() {
+        AiDispatchScheduler scheduler = scheduler();
+
+        assertThatThrownBy(() -> scheduler.submit(AiPriority.INTERACTIVE,
+                () -> Mono.error(new TimeoutException())).block());
+
+        assertThat(limit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 서버_오류는_한도를_바꾸지_않고_backoff_후_재시도한다() {
+        props.getDispatch().setMaxServerErrorRetries(2);
+        AiDispatchScheduler scheduler = scheduler();
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> scheduler.submit(AiPriority.INTERACTIVE, () -> {
+            attempts.incrementAndGet();
+            return Mono.error(new OpenAiCallException(502, null));
+        }).block()).isInstanceOfSatisfying(OpenAiCallException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(502));
+
+        assertThat(attempts).hasValue(3);
+        assertThat(limit()).isEqualTo(4.0);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void 서버_오류_재시도가_성공하면_결과를_돌려준다() {
+        AiDispatchScheduler scheduler = scheduler();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = scheduler.submit(AiPriority.INTERACTIVE, () -> attempts.incrementAndGet() == 1
+                ? Mono.<String>error(new OpenAiCallException(500, null))
+                : Mono.just("ok")).block();
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void background는_backgroundShare까지만_쓴다() {
+        AiDispatchScheduler scheduler = scheduler();
+
+        hold(scheduler, AiPriority.BACKGROUND, 3);
+
+        // limit 4 × 0.5 = 2
+        assertThat(started.get(AiPriority.BACKGROUND)).hasValue(2);
+        assertThat(queueDepth(AiPriority.BACKGROUND)).isEqualTo(1);
+    }
+
+    @Test
+    void edit와_background는_interactive_몫을_남겨_둔다() {
+        AiDispatchScheduler scheduler = scheduler();
+
+        hold(scheduler, AiPriority.BACKGROUND, 2);
+        hold(scheduler, AiPriority.EDIT, 2);
+
+        // limit 4 중 interactiveReserve(1)를 뺀 3까지만 edit/background가 사용
+        assertThat(started.get(AiPriority.EDIT)).hasValue(1);
+        assertThat(inFlight()).isEqualTo(3);
+
+        hold(scheduler, AiPriority.INTERACTIVE, 2);
+
+        assertThat(started.get(AiPriority.INTERACTIVE)).hasValue(1);
+        assertThat(inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void 슬롯이_비면_interactive부터_꺼낸다() {
+        AiDispatchScheduler scheduler = scheduler();
+        hold(scheduler, AiPriority.INTERACTIVE, 4);
+        hold(scheduler, AiPriority.BACKGROUND, 1);
+        hold(scheduler, AiPriority.INTERACTIVE, 1);
+        assertThat(started.get(AiPriority.INTERACTIVE)).hasValue(4);
+
+        running.get(0).tryEmitValue("done");
+
+        assertThat(started.get(AiPriority.INTERACTIVE)).hasValue(5);
+        assertThat(started.get(AiPriority.BACKGROUND)).hasValue(0);
+    }
+
+    @Test
+    void 대기_중에_취소하면_슬롯을_받지_않는다() {
+        AiDispatchScheduler scheduler = scheduler();
+        hold(scheduler, AiPriority.INTERACTIVE, 4);
+
+        scheduler.submit(AiPriority.INTERACTIVE, () -> call(AiPriority.INTERACTIVE)).subscribe().dispose();
+        assertThat(queueDepth(AiPriority.INTERACTIVE)).isZero();
+
+        running.get(0).tryEmitValue("done");
+        assertThat(started.get(AiPriority.INTERACTIVE)).hasValue(4);
+        assertThat(inFlight()).isEqualTo(3);
+    }
+
+    @Test
+    void 대기열이_가득_차면_429_재시도_없이_AI_OVERLOADED로_실패한다() {
+        props.getDispatch().setMaxQueueSize(1);
+        props.getDispatch().setMaxThrottleRetries(3);
+        AiDispatchScheduler scheduler = scheduler();
+        hold(scheduler, AiPriority.INTERACTIVE, 5);
+
+        assertThatThrownBy(() -> scheduler.submit(AiPriority.INTERACTIVE, () -> call(AiPriority.INTERACTIVE)).block())
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_OVERLOADED));
+        assertThat(queueDepth(AiPriority.INTERACTIVE)).isEqualTo(1);
+        assertThat(limit()).isEqualTo(4);
+        assertThat(meterRegistry.counter("ai.dispatch.overloaded").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 슬롯을_maxQueueWaitMs_안에_받지_못하면_대기열에서_빠지고_AI_OVERLOADED로_실패한다() {
+        props.getDispatch().setMaxQueueWaitMs(50);
+        AiDispatchScheduler scheduler = scheduler();
+        hold(scheduler, AiPriority.INTERACTIVE, 4);
+
+        assertThatThrownBy(() -> scheduler.submit(AiPriority.INTERACTIVE, () -> call(AiPriority.INTERACTIVE))
+                        .block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_OVERLOADED));
+        assertThat(queueDepth(AiPriority.INTERACTIVE)).isZero();
+
+        running.get(0).tryEmitValue("done");
+        assertThat(started.get(AiPriority.INTERACTIVE)).hasValue(4);
+        assertThat(inFlight()).isEqualTo(3);
+    }
+
+    private AiDispatchScheduler scheduler() {
+        return new AiDispatchScheduler(props, meterRegistry);
+    }
+
+    // 완료하지 않는 호출 count개를 구독해 슬롯을 붙잡아 둠
+    private void hold(AiDispatchScheduler scheduler, AiPriority lane, int count) {
+        for (int i = 0; i < count; i++) {
+            scheduler.submit(lane, () -> call(lane)).subscribe();
+        }
+    }
+
+    private Mono<String> call(AiPriority lane) {
+        started.get(lane).incrementAndGet();
+        Sinks.One<String> sink = Sinks.one();
+        running.add(sink);
+        return sink.asMono();
+    }
+
+    private double limit() {
+        return meterRegistry.get("ai.dispatch.limit").gauge().value();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("ai.dispatch.inflight").gauge().value();
+    }
+
+    private double queueDepth(AiPriority lane) {
+        return meterRegistry.get("ai.dispatch.queue.depth").tag("lane", lane.name().toLowerCase()).gauge().value();
+    }
+}
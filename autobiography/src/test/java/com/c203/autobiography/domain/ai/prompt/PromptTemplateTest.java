@@ -0,0 +1,67 @@
+package com.c203.autobiography.domain.ai.prompt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.MissingFormatArgumentException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PromptTemplateTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "질문: %s",
+            "%s로 시작하고 %s로 끝남 %s",
+            "%s%s",
+            "자리표시자 없음",
+            "",
+            "줄바꿈\n%s\n\n%s"
+    })
+    void 자리표시자만_있으면_String_format과_같은_결과(String raw) {
+        Object[] args = {"가", "나", "다"};
+
+        assertThat(PromptTemplate.compile(raw).format(args)).isEqualTo(String.format(raw, args));
+    }
+
+    @Test
+    void null_인자는_문자열_null로_채운다() {
+        assertThat(PromptTemplate.compile("[%s]").format((Object) null)).isEqualTo("[null]");
+    }
+
+    @Test
+    void 남는_인자는_무시한다() {
+        assertThat(PromptTemplate.compile("%s-%s").format("a", "b", "c")).isEqualTo("a-b");
+    }
+
+    @Test
+    void 인자가_모자라면_String_format처럼_예외() {
+        PromptTemplate template = PromptTemplate.compile("%s와 %s");
+
+        assertThatThrownBy(() -> template.format("하나")).isInstanceOf(MissingFormatArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "진행률 %d%%: %s",
+            "100%%s 그대로",
+            "%1$s와 %1$s",
+            "%-5s|"
+    })
+    void 다른_포맷_지정자가_섞이면_String_format으로_처리(String raw) {
+        Object[] args = raw.contains("%d") ? new Object[]{42, "완료"} : new Object[]{"값"};
+
+        assertThat(PromptTemplate.compile(raw).format(args)).isEqualTo(String.format(raw, args));
+    }
+
+    @Test
+    void null_템플릿은_null() {
+        assertThat(PromptTemplate.compile(null)).isNull();
+    }
+
+    @Test
+    void 원문을_그대로_보관한다() {
+        assertThat(PromptTemplate.compile("원문 %s").getRaw()).isEqualTo("원문 %s");
+    }
+}
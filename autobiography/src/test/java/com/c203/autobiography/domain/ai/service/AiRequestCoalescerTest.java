@@ -0,0 +1,107 @@
+package com.c203.autobiography.domain.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.c203.autobiography.domain.ai.dto.ChatCompletionRequest;
+import com.c203.autobiography.domain.ai.dto.ChatCompletionResponse;
+import com.c203.autobiography.domain.ai.dto.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class AiRequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiRequestCoalescer coalescer = new AiRequestCoalescer(meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final ChatCompletionRequest request = ChatCompletionRequest.builder()
+            .model("gpt-4o-mini")
+            .messages(List.of(ChatMessage.user("안녕하세요")))
+            .build();
+
+    @Test
+    void 진행_중인_같은_요청은_한_번만_호출한다() {
+        Sinks.One<ChatCompletionResponse> upstream = Sinks.one();
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+
+        List<ChatCompletionResponse> received = new CopyOnWriteArrayList<>();
+        coalescer.completion(request, () -> counted(upstream.asMono())).subscribe(received::add);
+        coalescer.completion(request, () -> counted(upstream.asMono())).subscribe(received::add);
+        upstream.tryEmitValue(response);
+
+        assertThat(calls).hasValue(1);
+        assertThat(received).containsExactly(response, response);
+        assertThat(meterRegistry.counter("ai.request.coalesced", "kind", "completion").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 완료된_요청은_다시_호출한다() {
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+
+        coalescer.completion(request, () -> counted(Mono.just(response))).block();
+        coalescer.completion(request, () -> counted(Mono.just(response))).block();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void 실패한_요청은_제거되어_재시도할_수_있다() {
+        Mono<ChatCompletionResponse> failing = coalescer.completion(request,
+                () -> counted(Mono.error(new IllegalStateException("실패"))));
+        assertThatThrownBy(failing::block).isInstanceOf(IllegalStateException.class);
+
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        assertThat(coalescer.completion(request, () -> counted(Mono.just(response))).block()).isSameAs(response);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void 늦게_합류한_스트림_구독자도_처음부터_모든_delta를_받는다() {
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> late = new CopyOnWriteArrayList<>();
+        coalescer.stream(request, () -> counted(upstream.asFlux())).subscribe(first::add);
+        upstream.tryEmitNext("어린 ");
+        coalescer.stream(request, () -> counted(upstream.asFlux())).subscribe(late::add);
+        upstream.tryEmitNext("시절");
+        upstream.tryEmitComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(first).containsExactly("어린 ", "시절");
+        assertThat(late).containsExactly("어린 ", "시절");
+        assertThat(meterRegistry.counter("ai.request.coalesced", "kind", "stream").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 구독자가_취소해도_진행_중인_스트림은_계속_받는다() {
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+
+        coalescer.stream(request, () -> counted(upstream.asFlux())).subscribe().dispose();
+        upstream.tryEmitNext("계속");
+        List<String> joined = new CopyOnWriteArrayList<>();
+        coalescer.stream(request, () -> counted(upstream.asFlux())).subscribe(joined::add);
+        upstream.tryEmitComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(joined).containsExactly("계속");
+    }
+
+    private <T> Mono<T> counted(Mono<T> mono) {
+        calls.incrementAndGet();
+        return mono;
+    }
+
+    private <T> Flux<T> counted(Flux<T> flux) {
+        calls.incrementAndGet();
+        return flux;
+    }
+}
@@ -0,0 +1,91 @@
+package com.c203.autobiography.domain.ai.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.c203.autobiography.domain.ai.token.TextSegmenter.Segment;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TextSegmenterTest {
+
+    private TextSegmenter segmenter;
+
+    @BeforeEach
+    void setUp() {
+        // 글자 수를 토큰 수로 사용
+        TokenCounter tokenCounter = mock(TokenCounter.class);
+        when(tokenCounter.count(anyString())).thenAnswer(inv -> inv.<String>getArgument(0).length());
+        segmenter = new TextSegmenter(tokenCounter);
+    }
+
+    @Test
+    void 예산_안이면_한_조각() {
+        String text = "가나다. 라마바.\n\n사아자.";
+
+        assertThat(segmenter.split(text, 100)).containsExactly(new Segment(text, ""));
+    }
+
+    @Test
+    void 문단_경계를_우선해서_자른다() {
+        List<Segment> segments = segmenter.split("가나다. 라마바.\n\n사아자.", 10);
+
+        assertThat(segments).containsExactly(
+                new Segment("가나다. 라마바.", "\n\n"),
+                new Segment("사아자.", ""));
+    }
+
+    @Test
+    void 예산을_넘는_문단은_문장_경계에서_자르고_문단_구분자를_마지막_문장에_붙인다() {
+        List<Segment> segments = segmenter.split("가나다. 라마바.\n\n사아자.", 5);
+
+        assertThat(segments).containsExactly(
+                new Segment("가나다.", " "),
+                new Segment("라마바.", "\n\n"),
+                new Segment("사아자.", ""));
+    }
+
+    @Test
+    void 예산_안에서_연속된_문단은_하나로_묶는다() {
+        List<Segment> segments = segmenter.split("하나.\n\n둘.\n\n셋이다.", 8);
+
+        assertThat(segments).containsExactly(
+                new Segment("하나.\n\n둘.", "\n\n"),
+                new Segment("셋이다.", ""));
+    }
+
+    @Test
+    void 문장_하나가_예산을_넘으면_그대로_한_조각() {
+        assertThat(segmenter.split("끝나지않는아주긴문장", 3)).containsExactly(new Segment("끝나지않는아주긴문장", ""));
+    }
+
+    @Test
+    void 여러_종류의_문장부호에서_자른다() {
+        List<Segment> segments = segmenter.split("정말? 그래! 음… 끝.", 3);
+
+        assertThat(segments).extracting(Segment::text).containsExactly("정말?", "그래!", "음…", "끝.");
+    }
+
+    @Test
+    void 빈_문자열은_조각이_없다() {
+        assertThat(segmenter.split("", 10)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 7, 12, 30, 1000})
+    void 조각을_이어_붙이면_원문이_된다(int maxTokens) {
+        String text = "첫 문단입니다. 두 번째 문장!\n\n   \n둘째 문단. 또 문장?\n\n셋째.  마지막 문장.\n";
+
+        StringBuilder joined = new StringBuilder();
+        for (Segment segment : segmenter.split(text, maxTokens)) {
+            joined.append(segment.text()).append(segment.separator());
+        }
+
+        assertThat(joined.toString()).isEqualTo(text);
+    }
+}
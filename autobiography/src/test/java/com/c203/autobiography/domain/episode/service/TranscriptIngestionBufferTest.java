@@ -0,0 +1,87 @@
+package com.c203.autobiography.domain.episode.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TranscriptIngestionBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TranscriptIngestionBuffer buffer = new TranscriptIngestionBuffer(
+            jdbcTemplate, mock(PlatformTransactionManager.class), mock(MessageSequenceAllocator.class),
+            60_000, 100);
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    void flush와_동시에_누적한_토큰도_빠짐없이_저장한다() throws Exception {
+        AtomicLong saved = new AtomicLong();
+        doAnswer(invocation -> {
+            List<Object[]> updates = invocation.getArgument(1);
+            updates.forEach(update -> saved.addAndGet((Long) update[0]));
+            return new int[updates.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        AtomicBoolean adding = new AtomicBoolean(true);
+        CompletableFuture<Void> flusher = CompletableFuture.runAsync(() -> {
+            while (adding.get()) {
+                buffer.flushPending();
+            }
+        });
+        CompletableFuture<?>[] writers = new CompletableFuture<?>[4];
+        for (int w = 0; w < writers.length; w++) {
+            writers[w] = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.addTokens("s1", 1);
+                }
+            });
+        }
+        CompletableFuture.allOf(writers).get(10, TimeUnit.SECONDS);
+        adding.set(false);
+        flusher.get(10, TimeUnit.SECONDS);
+        buffer.flushPending();
+
+        assertThat(saved).hasValue(40_000);
+    }
+
+    @Test
+    void flushPending은_다른_스레드가_꺼내_간_묶음의_저장이_끝날_때까지_기다린다() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new int[1];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        buffer.addTokens("s1", 5);
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(buffer::flushPending);
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 버퍼는 이미 비었지만 저장이 커밋되기 전이므로 반환하면 안 됨
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(buffer::flushPending);
+        assertThatThrownBy(() -> reader.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+        reader.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,245 @@
+package com.c203.autobiography.domain.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class QueuedSseConnectionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ManualExecutor writer = new ManualExecutor();
+    private final RecordingConnection delegate = new RecordingConnection();
+    private final List<SseConnection> failed = new ArrayList<>();
+
+    private ExecutorService realWriter;
+
+    @AfterEach
+    void tearDown() {
+        if (realWriter != null) {
+            realWriter.shutdownNow();
+        }
+    }
+
+    @Test
+    void 같은_이름의_coalesce_이벤트는_최신_것만_보낸다() {
+        QueuedSseConnection connection = connection(4, Set.of(), Set.of("partialTranscript"));
+
+        connection.send(event("1", "partialTranscript"));
+        connection.send(event("2", "question"));
+        connection.send(event("3", "partialTranscript"));
+        writer.runAll();
+
+        assertThat(delegate.ids()).containsExactly("2", "3");
+        assertThat(meterRegistry.counter("sse.outbound.coalesced", "event", "partialTranscript").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 큐가_가득_차면_가장_오래된_drop_oldest_이벤트를_버린다() {
+        QueuedSseConnection connection = connection(2, Set.of("partialTranscript"), Set.of());
+
+        connection.send(event("1", "partialTranscript"));
+        connection.send(event("2", "partialTranscript"));
+        boolean sent = connection.send(event("3", "question"));
+        writer.runAll();
+
+        assertThat(sent).isTrue();
+        assertThat(delegate.ids()).containsExactly("2", "3");
+        assertThat(meterRegistry.counter("sse.outbound.dropped", "event", "partialTranscript").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 버릴_것이_없는_큐에는_들어온_drop_oldest_이벤트를_버린다() {
+        QueuedSseConnection connection = connection(2, Set.of("partialTranscript"), Set.of());
+
+        connection.send(event("1", "question"));
+        connection.send(event("2", "episode"));
+        boolean sent = connection.send(event("3", "partialTranscript"));
+        writer.runAll();
+
+        assertThat(sent).isTrue();
+        assertThat(delegate.ids()).containsExactly("1", "2");
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    void 버릴_수_없는_이벤트가_넘치면_false를_반환한다() {
+        QueuedSseConnection connection = connection(2, Set.of("partialTranscript"), Set.of());
+
+        connection.send(event("1", "question"));
+        connection.send(event("2", "question"));
+        boolean sent = connection.send(event("3", "question"));
+
+        assertThat(sent).isFalse();
+        assertThat(meterRegistry.counter("sse.outbound.overflow").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 보낼_이벤트가_남아_있으면_ping을_넣지_않는다() {
+        QueuedSseConnection connection = connection(4, Set.of(), Set.of());
+
+        connection.send(event("1", "question"));
+        connection.send(SseMessage.comment("ping"));
+        writer.runAll();
+        connection.send(SseMessage.comment("ping"));
+        writer.runAll();
+
+        assertThat(delegate.sent).extracting(SseMessage::comment).containsExactly(null, "ping");
+    }
+
+    @Test
+    void complete는_남은_이벤트를_보낸_뒤_연결을_닫는다() {
+        QueuedSseConnection connection = connection(4, Set.of(), Set.of());
+
+        connection.send(event("1", "question"));
+        connection.complete();
+        connection.send(event("2", "question"));
+        writer.runAll();
+
+        assertThat(delegate.ids()).containsExactly("1");
+        assertThat(delegate.completed.get()).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    @Test
+    void 쓰기_실패는_연결을_닫고_콜백을_호출한다() {
+        QueuedSseConnection connection = connection(4, Set.of(), Set.of());
+        delegate.failing = true;
+
+        connection.send(event("1", "question"));
+        writer.runAll();
+
+        assertThat(failed).containsExactly(connection);
+        assertThat(delegate.completed.get()).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    @Test
+    void deadline을_넘긴_쓰기는_막힌_쓰기를_기다리지_않고_연결을_떼어_낸다() throws Exception {
+        BlockingConnection blocking = new BlockingConnection();
+        realWriter = Executors.newSingleThreadExecutor();
+        QueuedSseConnection connection = new QueuedSseConnection(blocking, realWriter,
+                policy(4, Set.of(), Set.of()), failed::add);
+
+        connection.send(event("1", "question"));
+        connection.send(event("2", "question"));
+        assertThat(blocking.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = TimeUnit.SECONDS.toNanos(10);
+
+        assertThat(connection.abortIfStuck(System.nanoTime(), deadline)).isFalse();
+        // complete()가 send()와 같은 잠금을 잡는 연결이어도 바로 반환해야 함
+        boolean aborted = CompletableFuture.supplyAsync(
+                        () -> connection.abortIfStuck(System.nanoTime() + deadline, deadline))
+                .get(2, TimeUnit.SECONDS);
+
+        assertThat(aborted).isTrue();
+        assertThat(failed).containsExactly(connection);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(blocking.completed).hasValue(0);
+        assertThat(connection.abortIfStuck(System.nanoTime() + deadline, deadline)).isFalse();
+
+        // 쓰기가 풀리면 writer 스레드가 연결을 닫고, 남은 이벤트는 보내지 않음
+        blocking.release.countDown();
+        realWriter.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        assertThat(blocking.completed).hasValue(1);
+        assertThat(blocking.sends).hasValue(1);
+        assertThat(failed).hasSize(1);
+    }
+
+    private QueuedSseConnection connection(int capacity, Set<String> dropOldest, Set<String> coalesce) {
+        return new QueuedSseConnection(delegate, writer, policy(capacity, dropOldest, coalesce), failed::add);
+    }
+
+    private SseOutbound.Policy policy(int capacity, Set<String> dropOldest, Set<String> coalesce) {
+        return new SseOutbound.Policy(capacity, dropOldest, coalesce, meterRegistry);
+    }
+
+    private static SseMessage event(String id, String name) {
+        return SseMessage.event(id, name, "data-" + id);
+    }
+
+    /**
+     * 제출된 drain 작업을 테스트가 직접 실행하는 executor
+     */
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+                task.run();
+            }
+        }
+    }
+
+    private static final class RecordingConnection implements SseConnection {
+        private final List<SseMessage> sent = new ArrayList<>();
+        private final AtomicInteger completed = new AtomicInteger();
+        private boolean failing;
+
+        @Override
+        public boolean send(SseMessage message) {
+            if (failing) {
+                return false;
+            }
+            sent.add(message);
+            return true;
+        }
+
+        @Override
+        public void complete() {
+            completed.incrementAndGet();
+        }
+
+        List<String> ids() {
+            return sent.stream().map(SseMessage::id).toList();
+        }
+    }
+
+    /**
+     * release될 때까지 쓰기가 멈춰 있는 연결 (응답하지 않는 클라이언트).
+     * SseEmitter처럼 send()와 complete()가 같은 잠금을 잡으므로, 쓰는 동안 complete()를 부르면 같이 멈춥니다.
+     */
+    private static final class BlockingConnection implements SseConnection {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger sends = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+
+        @Override
+        public synchronized boolean send(SseMessage message) {
+            sends.incrementAndGet();
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.incrementAndGet();
+        }
+    }
+}
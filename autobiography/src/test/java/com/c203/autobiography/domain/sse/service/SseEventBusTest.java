@@ -0,0 +1,122 @@
+package com.c203.autobiography.domain.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class SseEventBusTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final RedisOperations<String, Object> pipeline = mock(RedisOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> pipelineValues = mock(ValueOperations.class);
+    private final Queue<List<Object>> pipelineResults = new ArrayDeque<>();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    @Test
+    void 소유_기록_TTL_연장은_파이프라인으로_묶고_만료된_키만_다시_쓴다() {
+        SseEventBus bus = bus("redis");
+        stubPipeline();
+        pipelineResults.add(List.of(true, false, true));
+        pipelineResults.add(List.of(true));
+
+        bus.refresh(List.of("s1", "s2", "s3"));
+
+        assertThat(roundTrips).hasValue(2);
+        verify(pipeline).expire("sse:owner:s1", Duration.ofSeconds(60));
+        verify(pipeline).expire("sse:owner:s2", Duration.ofSeconds(60));
+        verify(pipeline).expire("sse:owner:s3", Duration.ofSeconds(60));
+        verify(pipelineValues).setIfAbsent(eq("sse:owner:s2"), anyString(), eq(Duration.ofSeconds(60)));
+        verify(pipelineValues, never()).setIfAbsent(eq("sse:owner:s1"), any(), any(Duration.class));
+    }
+
+    @Test
+    void 모두_연장되면_다시_쓰지_않는다() {
+        SseEventBus bus = bus("redis");
+        stubPipeline();
+        pipelineResults.add(List.of(true, true));
+
+        bus.refresh(List.of("s1", "s2"));
+
+        assertThat(roundTrips).hasValue(1);
+    }
+
+    @Test
+    void local_모드에서는_Redis를_호출하지_않는다() {
+        SseEventBus bus = bus("local");
+
+        bus.refresh(List.of("s1"));
+
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void release는_Redis를_바로_호출하지_않고_모았다가_한_번에_지운다() {
+        SseEventBus bus = bus("redis");
+        stubPipeline();
+        pipelineResults.add(List.of(1L, 1L));
+
+        bus.release("s1");
+        bus.release("s2");
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+
+        bus.flushReleases();
+        bus.flushReleases();
+
+        assertThat(roundTrips).hasValue(1);
+        verify(pipeline).execute(any(RedisScript.class), eq(List.of("sse:owner:s1")), any());
+        verify(pipeline).execute(any(RedisScript.class), eq(List.of("sse:owner:s2")), any());
+    }
+
+    @Test
+    void 지우기_전에_다시_연결되면_소유_기록을_지우지_않는다() {
+        SseEventBus bus = bus("redis");
+        when(redisTemplate.opsForValue()).thenReturn(pipelineValues);
+
+        bus.release("s1");
+        bus.claim("s1");
+        bus.flushReleases();
+
+        verify(pipelineValues).set(eq("sse:owner:s1"), anyString(), eq(Duration.ofSeconds(60)));
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    private SseEventBus bus(String mode) {
+        return new SseEventBus(redisTemplate, mock(RedisConnectionFactory.class), new ObjectMapper(),
+                new SimpleMeterRegistry(), mode, 60, 2000, 100, 100, 15000, 100);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPipeline() {
+        when(pipeline.opsForValue()).thenReturn(pipelineValues);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            roundTrips.incrementAndGet();
+            SessionCallback<Object> callback = invocation.getArgument(0);
+            callback.execute(pipeline);
+            return pipelineResults.poll();
+        });
+    }
+}
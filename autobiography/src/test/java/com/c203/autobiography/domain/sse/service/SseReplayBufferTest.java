@@ -0,0 +1,89 @@
+package com.c203.autobiography.domain.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.c203.autobiography.domain.sse.service.SseReplayBuffer.ReplayEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SseReplayBufferTest {
+
+    private final SseReplayBuffer buffer = new SseReplayBuffer(3, 60, 100);
+
+    @Test
+    void 버퍼가_없는_세션은_empty() {
+        assertThat(buffer.after("unknown", 1L)).isEmpty();
+    }
+
+    @Test
+    void id는_현재_시각에서_시작해_1씩_증가한다() {
+        long before = System.currentTimeMillis();
+
+        List<ReplayEvent> events = append("s1", 3);
+
+        assertThat(events.get(0).id()).isGreaterThan(before);
+        assertThat(events).extracting(ReplayEvent::id)
+                .containsExactly(events.get(0).id(), events.get(0).id() + 1, events.get(0).id() + 2);
+    }
+
+    @Test
+    void 마지막_id_이후의_이벤트만_돌려준다() {
+        List<ReplayEvent> events = append("s1", 3);
+
+        assertThat(buffer.after("s1", events.get(0).id())).hasValue(events.subList(1, 3));
+    }
+
+    @Test
+    void 마지막으로_받은_id가_최신이면_빈_목록() {
+        List<ReplayEvent> events = append("s1", 2);
+
+        assertThat(buffer.after("s1", events.get(1).id())).hasValue(List.of());
+    }
+
+    @Test
+    void 가장_오래된_이벤트_바로_앞_id면_보관한_전부() {
+        List<ReplayEvent> events = append("s1", 5);
+
+        // capacity 3: events[2..4]만 남음, events[1]까지 받은 클라이언트는 빠진 것이 없음
+        assertThat(buffer.after("s1", events.get(1).id())).hasValue(events.subList(2, 5));
+    }
+
+    @Test
+    void 이미_밀려난_이벤트가_빠졌으면_empty() {
+        List<ReplayEvent> events = append("s1", 5);
+
+        assertThat(buffer.after("s1", events.get(0).id())).isEmpty();
+    }
+
+    @Test
+    void 보낸_적_없는_미래_id면_empty() {
+        List<ReplayEvent> events = append("s1", 2);
+
+        assertThat(buffer.after("s1", events.get(1).id() + 1)).isEmpty();
+    }
+
+    @Test
+    void 오래된_형식의_작은_id는_empty() {
+        append("s1", 2);
+
+        assertThat(buffer.after("s1", 0L)).isEmpty();
+    }
+
+    @Test
+    void 세션별로_따로_보관한다() {
+        List<ReplayEvent> first = append("s1", 2);
+        List<ReplayEvent> second = append("s2", 1);
+
+        assertThat(buffer.after("s1", first.get(0).id())).hasValue(first.subList(1, 2));
+        assertThat(buffer.after("s2", second.get(0).id() - 1)).hasValue(second);
+    }
+
+    private List<ReplayEvent> append(String sessionId, int count) {
+        List<ReplayEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(buffer.append(sessionId, "question", "q" + i));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,132 @@
+package com.c203.autobiography.global.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SessionCommandMailboxTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InterviewTaskExecutor interviewExecutor = new InterviewTaskExecutor(meterRegistry, 4, 4, 100);
+
+    @AfterEach
+    void tearDown() {
+        interviewExecutor.shutdown();
+    }
+
+    @Test
+    void 같은_세션의_명령은_들어온_순서대로_하나씩_실행한다() {
+        SessionCommandMailbox mailbox = new SessionCommandMailbox(meterRegistry, interviewExecutor, 100);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int index = i;
+            results.add(mailbox.submit("s1", () -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                order.add(index);
+                active.decrementAndGet();
+                return index;
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertThat(order).hasSize(50).isSorted();
+        assertThat(maxActive).hasValue(1);
+        assertThat(results.get(49).join()).isEqualTo(49);
+    }
+
+    @Test
+    void 비동기_명령은_반환한_Future가_끝날_때까지_세션을_점유한다() throws Exception {
+        SessionCommandMailbox mailbox = new SessionCommandMailbox(meterRegistry, interviewExecutor, 100);
+        CompletableFuture<String> turn = new CompletableFuture<>();
+
+        CompletableFuture<String> first = mailbox.submitAsync("s1", () -> turn);
+        CompletableFuture<String> second = mailbox.submit("s1", () -> "다음");
+        CompletableFuture<String> otherSession = mailbox.submit("s2", () -> "다른 세션");
+
+        assertThat(otherSession.get(5, TimeUnit.SECONDS)).isEqualTo("다른 세션");
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+
+        turn.complete("턴 완료");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("턴 완료");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("다음");
+    }
+
+    @Test
+    void 대기_명령이_maxPending을_넘으면_SESSION_BUSY() throws Exception {
+        SessionCommandMailbox mailbox = new SessionCommandMailbox(meterRegistry, interviewExecutor, 2);
+        CompletableFuture<String> turn = new CompletableFuture<>();
+        mailbox.submitAsync("s1", () -> turn);
+        CompletableFuture<String> queued = mailbox.submit("s1", () -> "대기");
+
+        assertThatThrownBy(() -> mailbox.submit("s1", () -> "초과"))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SESSION_BUSY));
+        assertThat(meterRegistry.counter("conversation.mailbox.rejected").count()).isEqualTo(1);
+        // 다른 세션은 영향 없음
+        assertThat(mailbox.submit("s2", () -> "ok").get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+
+        turn.complete("완료");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("대기");
+        assertThat(mailbox.submit("s1", () -> "다시").get(5, TimeUnit.SECONDS)).isEqualTo("다시");
+    }
+
+    @Test
+    void 실패한_명령은_그_Future만_실패시키고_다음_명령을_실행한다() throws Exception {
+        SessionCommandMailbox mailbox = new SessionCommandMailbox(meterRegistry, interviewExecutor, 100);
+
+        CompletableFuture<String> failed = mailbox.submit("s1", () -> {
+            throw new IllegalStateException("실패");
+        });
+        CompletableFuture<String> next = mailbox.submit("s1", () -> "다음");
+
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("다음");
+        assertThat(failed).isCompletedExceptionally();
+        assertThatThrownBy(() -> mailbox.call("s1", () -> {
+            throw new ApiException(ErrorCode.SESSION_CONFLICT);
+        })).isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void 실행_풀이_거절하면_대기_명령을_실패시키고_메일박스를_풀어준다() {
+        AtomicBoolean rejecting = new AtomicBoolean(true);
+        InterviewTaskExecutor saturated = mock(InterviewTaskExecutor.class);
+        when(saturated.executor()).thenReturn(task -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException("full");
+            }
+            task.run();
+        });
+        SessionCommandMailbox mailbox = new SessionCommandMailbox(meterRegistry, saturated, 100);
+
+        CompletableFuture<String> rejected = mailbox.submit("s1", () -> "실행 안 됨");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(ApiException.class)
+                .satisfies(e -> assertThat(((ApiException) e.getCause()).getErrorCode())
+                        .isEqualTo(ErrorCode.INTERVIEW_OVERLOADED));
+        assertThat(meterRegistry.get("conversation.mailbox.pending").gauge().value()).isZero();
+
+        rejecting.set(false);
+        assertThat(mailbox.submit("s1", () -> "회복").join()).isEqualTo("회복");
+    }
+}
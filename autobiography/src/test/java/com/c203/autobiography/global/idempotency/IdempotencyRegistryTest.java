@@ -0,0 +1,103 @@
+package com.c203.autobiography.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.c203.autobiography.global.exception.ApiException;
+import com.c203.autobiography.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyRegistry registry = new IdempotencyRegistry(10, 100, meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void 진행_중인_같은_키는_처음_요청의_결과를_공유한다() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = registry.execute("k", false, () -> count(pending));
+        CompletableFuture<String> second = registry.execute("k", false, () -> count(new CompletableFuture<>()));
+        pending.complete("결과");
+
+        assertThat(calls).hasValue(1);
+        assertThat(first.join()).isEqualTo("결과");
+        assertThat(second.join()).isEqualTo("결과");
+        assertThat(meterRegistry.counter("idempotency.requests", "result", "duplicate").count()).isEqualTo(1);
+    }
+
+    @Test
+    void retainResult면_완료_후에도_결과를_재사용한다() {
+        registry.execute("k", true, () -> count(CompletableFuture.completedFuture("처음"))).join();
+
+        String again = registry.<String>execute("k", true,
+                () -> count(CompletableFuture.completedFuture("다시"))).join();
+
+        assertThat(again).isEqualTo("처음");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void retainResult가_아니면_완료_후_다시_실행한다() {
+        registry.execute("k", false, () -> count(CompletableFuture.completedFuture("처음"))).join();
+
+        String again = registry.<String>execute("k", false,
+                () -> count(CompletableFuture.completedFuture("다시"))).join();
+
+        assertThat(again).isEqualTo("다시");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void 실패한_요청은_제거되어_재시도할_수_있다() {
+        CompletableFuture<String> failed = registry.execute("k", true,
+                () -> count(CompletableFuture.failedFuture(new ApiException(ErrorCode.SESSION_BUSY))));
+
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ApiException.class);
+
+        String retried = registry.<String>execute("k", true,
+                () -> count(CompletableFuture.completedFuture("재시도"))).join();
+        assertThat(retried).isEqualTo("재시도");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void 감싼_예외는_원래_예외로_풀어서_전달한다() {
+        CompletableFuture<String> wrapped = CompletableFuture.<String>completedFuture("x")
+                .thenApply(v -> {
+                    throw new ApiException(ErrorCode.SESSION_BUSY);
+                });
+
+        CompletableFuture<String> result = registry.execute("k", false, () -> wrapped);
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void executeSync는_원래_예외를_그대로_던진다() {
+        assertThatThrownBy(() -> registry.executeSync("k", true, () -> {
+            throw new ApiException(ErrorCode.SESSION_BUSY);
+        })).isInstanceOf(ApiException.class);
+
+        assertThat(registry.executeSync("k", true, () -> "성공")).isEqualTo("성공");
+    }
+
+    @Test
+    void 다른_키는_따로_실행한다() {
+        registry.execute("a", true, () -> count(CompletableFuture.completedFuture("a"))).join();
+        registry.execute("b", true, () -> count(CompletableFuture.completedFuture("b"))).join();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    private <T> CompletableFuture<T> count(CompletableFuture<T> future) {
+        calls.incrementAndGet();
+        return future;
+    }
+}